@@ -3,6 +3,7 @@ package com.company.collections;
 import java.util.Collection;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface ImmutableCollection<E> {
     int size();
@@ -41,12 +42,12 @@ public interface ImmutableCollection<E> {
 
     ImmutableCollection<E> clear();
 
+    Stream<E> stream();
+
     /*default Spliterator<E> spliterator() {
         return Spliterators.spliterator(this, 0);
     }
 
-    Stream<E> stream();
-
     Stream<E> parallelStream();*/
 
 }
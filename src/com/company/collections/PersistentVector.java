@@ -0,0 +1,420 @@
+package com.company.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable indexed sequence of elements stored as a <i>relaxed radix balanced</i> tree. Elements are kept in leaves of
+ * at most 32 elements, and every branch keeps the cumulative size of its children so that nodes do not need to be
+ * completely full. This allows elements to be replaced, inserted or removed at any index in O(log n): only the nodes
+ * on the path to the element are copied, and every other node is shared with the previous version.<br><br>
+ *
+ * <u><i>Balancing:</i></u><br><br>
+ *
+ * Full nodes are split when elements are inserted, and empty nodes are dropped when elements are removed. Nodes are
+ * never merged, so the depth of the tree is bounded by the largest size the vector has ever reached rather than by
+ * its current size.
+ *
+ * @param <E> the type of the elements in the vector
+ * @author Eliot McNab
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private static final int BRANCHING = 32;
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Leaf(new Object[0]));
+
+    private final Node root;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    private PersistentVector(@NotNull final Node root) {
+        this.root = root;
+    }
+
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Creates a new {@link PersistentVector} containing the given elements, in O(n)
+     * @param elements ({@code E[]}): the elements of the vector
+     * @return (PersistentVector< E >): vector containing a copy of the elements
+     * @param <E> the type of the elements
+     */
+    public static <E> PersistentVector<E> of(@NotNull final E[] elements) {
+        Objects.requireNonNull(elements);
+        if (elements.length == 0) return empty();
+
+        // packs the elements into full leaves...
+        Node[] level = new Node[(elements.length + BRANCHING - 1) / BRANCHING];
+        for (int i = 0; i < level.length; i++) {
+            final int from = i * BRANCHING;
+            level[i] = new Leaf(Arrays.copyOfRange(elements, from, Math.min(elements.length, from + BRANCHING), Object[].class));
+        }
+
+        // ...then groups them into full branches until a single root is left
+        while (level.length > 1) {
+            final Node[] parents = new Node[(level.length + BRANCHING - 1) / BRANCHING];
+            for (int i = 0; i < parents.length; i++) {
+                final int from = i * BRANCHING;
+                parents[i] = new Branch(Arrays.copyOfRange(level, from, Math.min(level.length, from + BRANCHING)));
+            }
+            level = parents;
+        }
+
+        return new PersistentVector<>(level[0]);
+    }
+
+    // ====================================
+    //               NODES
+    // ====================================
+
+    private static abstract sealed class Node permits Leaf, Branch {
+
+        abstract int size();
+
+        abstract Object get(int index);
+
+        abstract Node set(int index, Object value);
+
+        /**
+         * @return (Node[]): the resulting node, followed by the node split from it if it overflowed
+         */
+        abstract Node[] insert(int index, Object value);
+
+        /**
+         * @return (Node): the resulting node, null if it became empty
+         */
+        abstract Node remove(int index);
+
+        abstract void copyTo(Object[] destination, int offset);
+    }
+
+    private static final class Leaf extends Node {
+
+        private final Object[] values;
+
+        private Leaf(final Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int size() {
+            return values.length;
+        }
+
+        @Override
+        Object get(final int index) {
+            return values[index];
+        }
+
+        @Override
+        Node set(
+                final int index,
+                final Object value
+        ) {
+            final Object[] result = values.clone();
+            result[index] = value;
+            return new Leaf(result);
+        }
+
+        @Override
+        Node[] insert(
+                final int index,
+                final Object value
+        ) {
+            final Object[] result = new Object[values.length + 1];
+            System.arraycopy(values, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(values, index, result, index + 1, values.length - index);
+
+            if (result.length <= BRANCHING) return new Node[]{new Leaf(result)};
+
+            // appending keeps the leaf full, inserting elsewhere splits it in half
+            final int split = index == values.length ? BRANCHING : result.length / 2;
+            return new Node[]{
+                    new Leaf(Arrays.copyOfRange(result, 0, split)),
+                    new Leaf(Arrays.copyOfRange(result, split, result.length))
+            };
+        }
+
+        @Override
+        Node remove(final int index) {
+            if (values.length == 1) return null;
+
+            final Object[] result = new Object[values.length - 1];
+            System.arraycopy(values, 0, result, 0, index);
+            System.arraycopy(values, index + 1, result, index, result.length - index);
+            return new Leaf(result);
+        }
+
+        @Override
+        void copyTo(
+                final Object[] destination,
+                final int offset
+        ) {
+            System.arraycopy(values, 0, destination, offset, values.length);
+        }
+    }
+
+    private static final class Branch extends Node {
+
+        private final Node[] children;
+        // sizes[i] is the number of elements in the first i + 1 children
+        private final int[] sizes;
+
+        private Branch(final Node[] children) {
+            this.children = children;
+            this.sizes = new int[children.length];
+
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += children[i].size();
+                sizes[i] = total;
+            }
+        }
+
+        @Override
+        int size() {
+            return sizes[sizes.length - 1];
+        }
+
+        /**
+         * @return (int): index of the child containing the element at the given index
+         */
+        private int childAt(final int index) {
+            int low = 0;
+            int high = sizes.length - 1;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (sizes[middle] > index) high = middle;
+                else                       low = middle + 1;
+            }
+            return low;
+        }
+
+        private int offset(final int child) {
+            return child == 0 ? 0 : sizes[child - 1];
+        }
+
+        @Override
+        Object get(final int index) {
+            final int child = childAt(index);
+            return children[child].get(index - offset(child));
+        }
+
+        @Override
+        Node set(
+                final int index,
+                final Object value
+        ) {
+            final int child = childAt(index);
+            final Node[] result = children.clone();
+            result[child] = children[child].set(index - offset(child), value);
+            return new Branch(result);
+        }
+
+        @Override
+        Node[] insert(
+                final int index,
+                final Object value
+        ) {
+            // appending goes into the last child
+            final int child = index == size() ? children.length - 1 : childAt(index);
+            final Node[] inserted = children[child].insert(index - offset(child), value);
+
+            final Node[] result = new Node[children.length + inserted.length - 1];
+            System.arraycopy(children, 0, result, 0, child);
+            System.arraycopy(inserted, 0, result, child, inserted.length);
+            System.arraycopy(children, child + 1, result, child + inserted.length, children.length - child - 1);
+
+            if (result.length <= BRANCHING) return new Node[]{new Branch(result)};
+
+            // appending keeps the branch full, inserting elsewhere splits it in half
+            final int split = child == children.length - 1 ? BRANCHING : result.length / 2;
+            return new Node[]{
+                    new Branch(Arrays.copyOfRange(result, 0, split)),
+                    new Branch(Arrays.copyOfRange(result, split, result.length))
+            };
+        }
+
+        @Override
+        Node remove(final int index) {
+            final int child = childAt(index);
+            final Node removed = children[child].remove(index - offset(child));
+
+            if (removed != null) {
+                final Node[] result = children.clone();
+                result[child] = removed;
+                return new Branch(result);
+            }
+
+            // drops children which became empty
+            if (children.length == 1) return null;
+            final Node[] result = new Node[children.length - 1];
+            System.arraycopy(children, 0, result, 0, child);
+            System.arraycopy(children, child + 1, result, child, result.length - child);
+            return new Branch(result);
+        }
+
+        @Override
+        void copyTo(
+                final Object[] destination,
+                final int offset
+        ) {
+            for (int i = 0; i < children.length; i++) {
+                children[i].copyTo(destination, offset + offset(i));
+            }
+        }
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public int size() {
+        return root.size();
+    }
+
+    public boolean isEmpty() {
+        return root.size() == 0;
+    }
+
+    public E get(final int index) {
+        return (E) root.get(checkIndex(index, size()));
+    }
+
+    // ====================================
+    //              VERSIONS
+    // ====================================
+
+    /**
+     * Replaces the element at the given index, in O(log n)
+     * @param index ({@code int}): index of the element to replace
+     * @param value ({@code E}): the replacing value
+     * @return (PersistentVector< E >): new version of the vector with the element replaced
+     */
+    public PersistentVector<E> set(
+            final int index,
+            final E value
+    ) {
+        return new PersistentVector<>(root.set(checkIndex(index, size()), value));
+    }
+
+    /**
+     * Inserts an element at the given index, in O(log n)
+     * @param index ({@code int}): index at which to insert the element, between 0 and the size of the vector
+     * @param value ({@code E}): the inserted value
+     * @return (PersistentVector< E >): new version of the vector with the element inserted
+     */
+    public PersistentVector<E> insert(
+            final int index,
+            final E value
+    ) {
+        final Node[] inserted = root.insert(checkIndex(index, size() + 1), value);
+        // grows the tree by one level when the root is split
+        return new PersistentVector<>(inserted.length == 1 ? inserted[0] : new Branch(inserted));
+    }
+
+    /**
+     * Appends an element at the end of the vector, in O(log n)
+     * @param value ({@code E}): the appended value
+     * @return (PersistentVector< E >): new version of the vector with the element appended
+     */
+    public PersistentVector<E> append(final E value) {
+        return insert(size(), value);
+    }
+
+    /**
+     * Appends elements at the end of the vector, in O(k log n)
+     * @param values ({@code E[]}): the appended values
+     * @return (PersistentVector< E >): new version of the vector with the elements appended
+     */
+    public PersistentVector<E> appendAll(@NotNull final E[] values) {
+        PersistentVector<E> result = this;
+        for (E value : values) result = result.append(value);
+        return result;
+    }
+
+    /**
+     * Removes the element at the given index, in O(log n)
+     * @param index ({@code int}): index of the element to remove
+     * @return (PersistentVector< E >): new version of the vector with the element removed
+     */
+    public PersistentVector<E> remove(final int index) {
+        Node result = root.remove(checkIndex(index, size()));
+
+        if (result == null) return empty();
+        // shrinks the tree while the root only has a single child
+        while (result instanceof Branch branch && branch.children.length == 1) result = branch.children[0];
+
+        return new PersistentVector<>(result);
+    }
+
+    private static int checkIndex(
+            final int index,
+            final int size
+    ) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index;
+    }
+
+    // ====================================
+    //             ITERATION
+    // ====================================
+
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return get(cursor++);
+            }
+        };
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    /**
+     * Copies every element in the vector into a new array, in O(n)
+     * @param clazz ({@code Class<E>}): the component type of the array
+     * @return (E[]): array containing the elements of the vector, in order
+     */
+    public E[] toArray(@NotNull final Class<E> clazz) {
+        final E[] result = (E[]) Array.newInstance(clazz, size());
+        root.copyTo(result, 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final Object[] elements = new Object[size()];
+        root.copyTo(elements, 0);
+        return "PersistentVector" + Arrays.toString(elements);
+    }
+}
@@ -0,0 +1,466 @@
+package com.company.collections.changeAPI;
+
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
+import com.company.collections.changeAPI.changes.singlethread.add.Add;
+import com.company.collections.changeAPI.changes.singlethread.functions.FunctionalChange;
+import com.company.collections.changeAPI.changes.singlethread.functions.Functions;
+import com.company.collections.changeAPI.changes.singlethread.functions.FusedChange;
+import com.company.collections.changeAPI.changes.singlethread.remove.RemoveAll;
+import com.company.collections.changeAPI.changes.singlethread.remove.RemoveAt;
+import com.company.collections.changeAPI.changes.singlethread.remove.RemoveIf;
+import com.company.collections.changeAPI.changes.singlethread.replace.ReplaceAll;
+import com.company.collections.changeAPI.changes.singlethread.retain.RetainIf;
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
+import com.company.utilities.comparators.ObjectComparator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Rewrites chains of {@link Change Changes} before they are resolved by applying algebraic rules which remove, merge
+ * or reorder Changes without affecting the resulting array. Rewriting happens before sequentialisation, so that
+ * rewritten Changes can in turn be sequentialised with their neighbours.<br><br>
+ *
+ * <u><i>Rules:</i></u><br><br>
+ *
+ * Each {@link RewriteRule} looks at two consecutive Changes and may replace them with any number of Changes. Rules are
+ * applied until none of them matches anymore. The default rules are:
+ * <ul>
+ *     <li>{@link DropBeforeClear}: drops every Change before a {@code clear}</li>
+ *     <li>{@link CollapseIdempotent}: collapses {@code sorted().sorted()} and {@code unique().unique()} using the same
+ *     comparator</li>
+ *     <li>{@link ComposeReplaceAll}: composes consecutive {@code replaceAll} mappings into a single mapping</li>
+ *     <li>{@link PushFilterBeforeAdd}: moves {@code removeAll}, {@code removeIf} and {@code retainIf} before an
+ *     {@link Add}, which then filters its elements when it is applied</li>
+ *     <li>{@link CancelAddRemoveAt}: cancels the removal of indexes which were just appended by an Add</li>
+ *     <li>{@link FuseElementWise}: fuses runs of element-wise Changes into a single {@link FusedChange}</li>
+ *     <li>{@link PipelineElementWise}: groups runs of element-wise ParallelChanges into a single
+ *     {@link ParallelPipeline}</li>
+ * </ul>
+ *
+ * <u><i>Warning:</i></u><br><br>
+ *
+ * Rules assume the functions and predicates held by Changes are free of side effects, since rewriting may change how
+ * many times and on which elements they are called.
+ *
+ * @author Eliot McNab
+ */
+public class ChainRewriter {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    public static final ChainRewriter DEFAULT = new ChainRewriter(
+            new DropBeforeClear(),
+            new CollapseIdempotent(),
+            new ComposeReplaceAll(),
+            new PushFilterBeforeAdd(),
+            new CancelAddRemoveAt(),
+            new FuseElementWise(),
+            new PipelineElementWise()
+    );
+
+    private final RewriteRule[] rules;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ChainRewriter(
+            @NotNull final RewriteRule... rules
+    ) {
+        this.rules = Arrays.copyOf(Objects.requireNonNull(rules), rules.length);
+    }
+
+    /**
+     * Rule used to rewrite two consecutive {@link Change Changes}
+     */
+    public interface RewriteRule {
+
+        /**
+         * Attempts to rewrite two consecutive {@link Change Changes}
+         * @param first ({@code Change<E>}): the first Change to be applied
+         * @param second ({@code Change<E>}): the Change applied right after the first one
+         * @param inputSize ({@code int}): length of the array the first Change is applied to, -1 if unknown
+         * @return (Change< E >[]): the Changes to apply instead, or null if the rule does not apply
+         * @param <E> the type the Changes operate on
+         */
+        @Nullable
+        <E> Change<E>[] rewrite(
+                @NotNull Change<E> first,
+                @NotNull Change<E> second,
+                int inputSize
+        );
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public RewriteRule[] getRules() {
+        return Arrays.copyOf(rules, rules.length);
+    }
+
+    // ====================================
+    //             REWRITING
+    // ====================================
+
+    /**
+     * Rewrites the given chain of {@link Change Changes} until no rule applies anymore
+     * @param changes ({@code Change<E>[]}): the Changes to rewrite, from oldest to newest
+     * @param inputSize ({@code int}): length of the array the Changes are applied to, -1 if unknown
+     * @return (Change< E >[]): the rewritten Changes, producing the same result as the given Changes
+     * @param <E> the type the Changes operate on
+     */
+    public <E> Change<E>[] rewrite(
+            @NotNull final Change<E>[] changes,
+            final int inputSize
+    ) {
+        Objects.requireNonNull(changes);
+        if (changes.length < 2 || rules.length == 0) return changes;
+
+        final List<Change<E>> chain = new ArrayList<>(Arrays.asList(changes));
+        // sizes.get(i) is the length of the array the ith Change is applied to
+        final List<Integer> sizes = new ArrayList<>();
+        sizes.add(inputSize);
+
+        boolean rewritten = false;
+        int i = 0;
+        // for every pair of consecutive changes...
+        while (i < chain.size() - 1) {
+            final Change<E>[] replacement = rewrite(chain.get(i), chain.get(i + 1), sizes.get(i));
+
+            // ...if no rule applies, moves on to the next pair
+            if (replacement == null) {
+                sizes.add(chain.get(i).resultSize(sizes.get(i)));
+                i++;
+                continue;
+            }
+
+            // ...otherwise replaces the pair and steps back, since the previous pair might now match a rule
+            chain.subList(i, i + 2).clear();
+            chain.addAll(i, Arrays.asList(replacement));
+            rewritten = true;
+
+            i = Math.max(0, i - 1);
+            sizes.subList(i + 1, sizes.size()).clear();
+        }
+
+        return rewritten ? chain.toArray((Change<E>[]) new Change<?>[0]) : changes;
+    }
+
+    @Nullable
+    private <E> Change<E>[] rewrite(
+            final Change<E> first,
+            final Change<E> second,
+            final int inputSize
+    ) {
+        for (RewriteRule rule : rules) {
+            final Change<E>[] replacement = rule.rewrite(first, second, inputSize);
+            if (replacement != null) return replacement;
+        }
+        return null;
+    }
+
+    // the array is created by the caller with its erased type Change[], so returning it cannot pollute the heap
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    private static <E> Change<E>[] chain(final Change<E>... changes) {
+        return changes;
+    }
+
+    private static boolean isFunction(
+            final Change<?> change,
+            final Class<?> function
+    ) {
+        return change instanceof FunctionalChange<?> functional && function.isInstance(functional.getFunction());
+    }
+
+    // ====================================
+    //               RULES
+    // ====================================
+
+    /**
+     * Drops every {@link Change} applied before a {@code clear}, since clearing an array discards all its elements
+     */
+    public static class DropBeforeClear implements RewriteRule {
+        @Override
+        public <E> Change<E>[] rewrite(
+                @NotNull final Change<E> first,
+                @NotNull final Change<E> second,
+                final int inputSize
+        ) {
+            return isFunction(second, Functions.Clear.class) ? chain(second) : null;
+        }
+    }
+
+    /**
+     * Collapses two consecutive {@code sorted} or {@code unique} Changes using the same comparator, since sorting an
+     * already sorted array or retaining unique values in an array without duplicates has no effect
+     */
+    public static class CollapseIdempotent implements RewriteRule {
+        @Override
+        public <E> Change<E>[] rewrite(
+                @NotNull final Change<E> first,
+                @NotNull final Change<E> second,
+                final int inputSize
+        ) {
+            if (isFunction(first, Functions.Sort.class) && isFunction(second, Functions.Sort.class)) {
+                final Functions.Sort<?> a = (Functions.Sort<?>) ((FunctionalChange<E>) first).getFunction();
+                final Functions.Sort<?> b = (Functions.Sort<?>) ((FunctionalChange<E>) second).getFunction();
+                return Objects.equals(a.getComparator(), b.getComparator()) ? chain(second) : null;
+            }
+            if (isFunction(first, Functions.Unique.class) && isFunction(second, Functions.Unique.class)) {
+                final Functions.Unique<?> a = (Functions.Unique<?>) ((FunctionalChange<E>) first).getFunction();
+                final Functions.Unique<?> b = (Functions.Unique<?>) ((FunctionalChange<E>) second).getFunction();
+                return Objects.equals(a.getComparator(), b.getComparator()) ? chain(first) : null;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Composes two consecutive {@link ReplaceAll} Changes into a single mapping, so that {@code replaceAll(a, b)}
+     * followed by {@code replaceAll(b, c)} becomes {@code replaceAll(a, c, b, c)}. Changes containing the same value
+     * to replace multiple times are left as is, since which replacing value is used is then undefined.
+     */
+    public static class ComposeReplaceAll implements RewriteRule {
+        @Override
+        public <E> Change<E>[] rewrite(
+                @NotNull final Change<E> first,
+                @NotNull final Change<E> second,
+                final int inputSize
+        ) {
+            if (first.getClass() != ReplaceAll.class || second.getClass() != ReplaceAll.class) return null;
+
+            final ReplaceAll<E> a = (ReplaceAll<E>) first;
+            final ReplaceAll<E> b = (ReplaceAll<E>) second;
+            if (a.getValues().length % 2 != 0 || b.getValues().length % 2 != 0) return null;
+
+            final TreeMap<Object, Object> firstMapping = toMapping(a);
+            final TreeMap<Object, Object> secondMapping = toMapping(b);
+            if (firstMapping == null || secondMapping == null) return null;
+
+            // values replaced by the first change are then replaced by the second change
+            final TreeMap<Object, Object> composed = new TreeMap<>(new ObjectComparator());
+            for (Map.Entry<Object, Object> entry : firstMapping.entrySet()) {
+                final Object replacing = entry.getValue();
+                composed.put(entry.getKey(), secondMapping.containsKey(replacing) ? secondMapping.get(replacing) : replacing);
+            }
+            // values untouched by the first change are only replaced by the second change
+            for (Map.Entry<Object, Object> entry : secondMapping.entrySet()) {
+                composed.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+
+            final Object[] toReplace = new Object[composed.size() * 2];
+            int k = 0;
+            for (Map.Entry<Object, Object> entry : composed.entrySet()) {
+                toReplace[k++] = entry.getKey();
+                toReplace[k++] = entry.getValue();
+            }
+
+            return chain(new ReplaceAll<>(first.clazz, (E[]) toReplace));
+        }
+
+        @Nullable
+        private static TreeMap<Object, Object> toMapping(final ReplaceAll<?> change) {
+            final Object[] toReplace = change.getEvenIndexes();
+            final Object[] replacing = change.getOddIndexes();
+
+            final TreeMap<Object, Object> mapping = new TreeMap<>(new ObjectComparator());
+            for (int i = 0; i < toReplace.length; i++) {
+                // duplicate values to replace, the mapping cannot be composed
+                if (mapping.containsKey(toReplace[i])) return null;
+                mapping.put(toReplace[i], replacing[i]);
+            }
+
+            return mapping;
+        }
+    }
+
+    /**
+     * Moves a {@link RemoveAll}, {@link RemoveIf} or {@link RetainIf} applied right after an {@link Add} before it,
+     * the Add then filtering its elements the same way when it is applied. The filter can then be sequentialised with
+     * earlier filters, and elements which would have been removed are never added in the first place. The elements to
+     * add are only filtered once the rewritten chain is applied, so that building or explaining a plan never calls
+     * the predicates of the filter.
+     */
+    public static class PushFilterBeforeAdd implements RewriteRule {
+        @Override
+        public <E> Change<E>[] rewrite(
+                @NotNull final Change<E> first,
+                @NotNull final Change<E> second,
+                final int inputSize
+        ) {
+            if (first.getClass() != Add.class && first.getClass() != FilteredAdd.class) return null;
+            if (
+                    second.getClass() != RemoveAll.class &&
+                    second.getClass() != RemoveIf.class &&
+                    second.getClass() != RetainIf.class
+            ) return null;
+
+            return chain(second, FilteredAdd.of((Add<E>) first, second));
+        }
+    }
+
+    /**
+     * {@link Add} produced by {@link PushFilterBeforeAdd}, which filters its elements through the Changes pushed before
+     * it the first time they are needed, then reuses them
+     * @param <E> the type the Add operates on
+     */
+    private static final class FilteredAdd<E> extends Add<E> {
+
+        private final Change<E>[] filters;
+        private final Lazy<E[]> filtered;
+
+        private FilteredAdd(
+                final Class<E> clazz,
+                final E[] toAdd,
+                final Change<E>[] filters
+        ) {
+            super(
+                    clazz,
+                    toAdd
+            );
+            this.filters = filters;
+            this.filtered = new Lazy<>(() -> {
+                E[] result = this.toAdd;
+                for (Change<E> filter : filters) result = filter.applyToImpl(result);
+                return result;
+            });
+        }
+
+        private static <E> FilteredAdd<E> of(
+                final Add<E> add,
+                final Change<E> filter
+        ) {
+            if (!(add instanceof FilteredAdd<E> filteredAdd)) {
+                return new FilteredAdd<>(add.clazz, add.getToAdd(), chain(filter));
+            }
+
+            final Change<E>[] filters = Arrays.copyOf(filteredAdd.filters, filteredAdd.filters.length + 1);
+            filters[filters.length - 1] = filter;
+            return new FilteredAdd<>(add.clazz, filteredAdd.toAdd, filters);
+        }
+
+        @Override
+        public E[] getToAdd() {
+            final E[] toAdd = filtered.get();
+            return Arrays.copyOf(toAdd, toAdd.length);
+        }
+
+        @Override
+        protected E[] applyToImpl(final E[] array) {
+            final E[] toAdd = filtered.get();
+            final E[] result = Arrays.copyOf(array, array.length + toAdd.length);
+            System.arraycopy(toAdd, 0, result, array.length, toAdd.length);
+            return result;
+        }
+
+        @Override
+        protected Membership membership(final Object o) {
+            // elements to add may be filtered out, which is only known once the filters are applied
+            return Arrays.asList(toAdd).contains(o) ? Membership.UNKNOWN : Membership.PRESERVES;
+        }
+
+        @Override
+        protected Function<Stream<E>, Stream<E>> streamStage() {
+            return stream -> Stream.concat(stream, Stream.of(filtered).flatMap(toAdd -> Arrays.stream(toAdd.get())));
+        }
+
+        @Override
+        protected int resultSize(final int inputSize) {
+            return -1;
+        }
+
+        @Override
+        public String toString() {
+            return "FilteredAdd{toAdd=" +
+                    Arrays.toString(toAdd) +
+                    ", filters=" +
+                    Arrays.toString(filters) +
+                    "}";
+        }
+    }
+
+    /**
+     * Cancels out the removal of indexes which correspond to elements appended by the {@link Add} right before a
+     * {@link RemoveAt}, by removing those elements from the Add instead. Requires the length of the array the Add is
+     * applied to to be known.
+     */
+    public static class CancelAddRemoveAt implements RewriteRule {
+        @Override
+        public <E> Change<E>[] rewrite(
+                @NotNull final Change<E> first,
+                @NotNull final Change<E> second,
+                final int inputSize
+        ) {
+            if (inputSize < 0 || first.getClass() != Add.class || second.getClass() != RemoveAt.class) return null;
+
+            final E[] toAdd = ((Add<E>) first).getToAdd();
+            final int[] indexes = ((RemoveAt<E>) second).getRemovalIndexes();
+
+            // splits indexes between those in the original array and those in the appended elements
+            final int[] before = Arrays.stream(indexes).filter(i -> i >= 0 && i < inputSize).sorted().toArray();
+            final int[] appended = Arrays.stream(indexes)
+                                         .filter(i -> i >= inputSize && i < inputSize + toAdd.length)
+                                         .map(i -> i - inputSize)
+                                         .toArray();
+
+            // no index to cancel out
+            if (appended.length == 0 && before.length == indexes.length) return null;
+
+            final E[] remaining = ArrayUtil.removeAt(toAdd, appended);
+            final List<Change<E>> result = new ArrayList<>(2);
+            if (before.length > 0)    result.add(new RemoveAt<>(first.clazz, before));
+            if (remaining.length > 0) result.add(new Add<>(first.clazz, remaining));
+
+            return result.toArray((Change<E>[]) new Change<?>[0]);
+        }
+    }
+
+    /**
+     * Fuses consecutive element-wise {@link Change Changes} (maps, filters and conditional replacements) into a single
+     * {@link FusedChange}, so that the whole run is applied in one pass over the array. Should come last, so that
+     * other rules get a chance to match the individual Changes first.
+     */
+    public static class FuseElementWise implements RewriteRule {
+        @Override
+        public <E> Change<E>[] rewrite(
+                @NotNull final Change<E> first,
+                @NotNull final Change<E> second,
+                final int inputSize
+        ) {
+            if (!FusedChange.isFusable(first) || !FusedChange.isFusable(second)) return null;
+            return chain(new FusedChange<>(first.clazz, chain(first, second)));
+        }
+    }
+
+    /**
+     * Groups consecutive element-wise {@link ParallelChange ParallelChanges} into a single {@link ParallelPipeline},
+     * so that each chunk of the array goes through the whole run while it is still in cache, without threads waiting
+     * for each other between two Changes. The pipeline uses as many threads as the Change using the most of them.
+     */
+    public static class PipelineElementWise implements RewriteRule {
+        @Override
+        public <E> Change<E>[] rewrite(
+                @NotNull final Change<E> first,
+                @NotNull final Change<E> second,
+                final int inputSize
+        ) {
+            if (!ParallelPipeline.isPipelinable(first) || !ParallelPipeline.isPipelinable(second)) return null;
+
+            final int threadCount = Math.max(
+                    ((ParallelChange<E>) first).getCoreCount(),
+                    ((ParallelChange<E>) second).getCoreCount()
+            );
+            return chain(new ParallelPipeline<>(first.clazz, threadCount, chain(first, second)));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.company.collections.changeAPI;
 
 import com.company.collections.ImmutableCollection;
+import com.company.collections.PersistentVector;
 import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveAll;
 import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveAt;
 import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveFirst;
@@ -8,20 +9,33 @@ import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplac
 import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceAllIf;
 import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceFirstOrLast;
 import com.company.collections.changeAPI.changes.singlethread.Origin;
+import com.company.collections.changeAPI.changes.singlethread.VectorOrigin;
 import com.company.collections.changeAPI.changes.singlethread.add.Add;
 import com.company.collections.changeAPI.changes.singlethread.add.SequentialAdd;
 import com.company.collections.changeAPI.changes.singlethread.functions.FunctionalChange;
+import com.company.collections.changeAPI.changes.singlethread.functions.Functions;
 import com.company.collections.changeAPI.changes.singlethread.remove.*;
 import com.company.collections.changeAPI.changes.singlethread.replace.*;
 import com.company.collections.changeAPI.changes.singlethread.retain.RetainAll;
 import com.company.collections.changeAPI.changes.singlethread.retain.RetainFirst;
 import com.company.collections.changeAPI.changes.singlethread.retain.RetainIf;
 import com.company.collections.changeAPI.errors.InaccessibleValueException;
+import com.company.utilities.Deadline;
+import com.company.utilities.ThreadUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 // TODO: make this actually immutable by implementing deep array copy
 /**
@@ -43,6 +57,14 @@ import java.util.function.Predicate;
  * as {@link SequentialAdd SequentialAdd} or {@link SequentialReplaceAt}, and group together Changes for which a single
  * optimised algorithm can be applied rather than having to resort to multiple iterations over the same array.<br><br>
  *
+ * <u><i>Caching:</i></u><br><br>
+ *
+ * Resolution can be memoized by setting a {@link ResolutionCache} with {@code setResolutionCache}. Repeated queries on
+ * the same Change then reuse its cached result, and Changes branching off a cached ancestor only resolve the Changes
+ * applied after that ancestor. Independently of caching, Changes also keep snapshots of their resolved array at
+ * regular intervals according to the current {@link CheckpointPolicy}, so that resolving deep chains of Changes only
+ * replays the Changes since the closest checkpoint.<br><br>
+ *
  * <u><i>Batch Changes:</i></u><br><br>
  *
  * The Change API also allow for multiple changes to be applied at once within the same method, which makes it more
@@ -118,10 +140,16 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
     //               FIELDS
     // ====================================
 
+    private static volatile ResolutionCache resolutionCache = null;
+    private static volatile CheckpointPolicy checkpointPolicy = CheckpointPolicy.DEFAULT;
+    private static volatile ChainRewriter chainRewriter = ChainRewriter.DEFAULT;
+    private static volatile Executor asyncExecutor = null;
+
     protected final Class<E> clazz;
     private final Change<E> parent;
     protected final E[] array;
     private final int generation;
+    private volatile SoftReference<E[]> checkpoint = null;
 
     // ====================================
     //             CONSTRUCTOR
@@ -144,6 +172,7 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
         this.parent = parent;
         this.array = parent == null ? null : parent.array;
         this.generation = parent == null ? 0 : parent.generation + 1;
+        if (parent != null) parent.onAppend();
     }
 
     public Change(
@@ -155,6 +184,7 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
         this.parent = parent;
         this.array = array;
         this.generation = parent == null ? 0 : parent.generation + 1;
+        if (parent != null) parent.onAppend();
     }
 
     /**
@@ -168,6 +198,33 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
         return new Origin<>((Class<E>) elements.getClass().componentType(), elements);
     }
 
+    /**
+     * Creates a new {@link Change} with the specified elements as a base, elements are collected into a
+     * {@link VectorOrigin} so that new versions of them can be created in O(log n)
+     * @param elements ({@code E...}): elements making up the Origin of the Change
+     * @return (VectorOrigin\u003C E \u003E): VectorOrigin containing the initial elements
+     * @param <E> type of the elements
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> VectorOrigin<E> ofVector(final E... elements) {
+        return new VectorOrigin<>((Class<E>) elements.getClass().componentType(), PersistentVector.of(elements));
+    }
+
+    /**
+     * Creates a new {@link Change} with the elements of the specified {@link PersistentVector} as a base
+     * @param clazz ({@code Class<E>}): the class of the Change
+     * @param vector ({@code PersistentVector<E>}): elements making up the Origin of the Change
+     * @return (VectorOrigin\u003C E \u003E): VectorOrigin sharing the given vector
+     * @param <E> type of the elements
+     */
+    public static <E> VectorOrigin<E> ofVector(
+            final Class<E> clazz,
+            final PersistentVector<E> vector
+    ) {
+        return new VectorOrigin<>(clazz, vector);
+    }
+
     /**
      * Creates a new empty {@link Change} of the specified class
      * @param clazz ({@code Class<E>}): the class of the Change
@@ -230,6 +287,94 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
         return parent;
     }
 
+    // ====================================
+    //              CACHING
+    // ====================================
+
+    /**
+     * Enables caching of resolved arrays for every {@link Change}. Once set, {@code toArray} and every method relying
+     * on it reuse the result of previous resolutions of the same Change, or start from the closest cached ancestor
+     * instead of generation 0. Caching is disabled by default.
+     * @param cache ({@code ResolutionCache}): the cache to use, or null to disable caching
+     * @see ResolutionCache
+     */
+    public static void setResolutionCache(@Nullable final ResolutionCache cache) {
+        resolutionCache = cache;
+    }
+
+    /**
+     * Gets the {@link ResolutionCache} currently used by all {@link Change Changes}
+     * @return (ResolutionCache): the current cache, null if caching is disabled
+     */
+    @Nullable
+    public static ResolutionCache getResolutionCache() {
+        return resolutionCache;
+    }
+
+    // ====================================
+    //             REWRITING
+    // ====================================
+
+    /**
+     * Sets the {@link ChainRewriter} used by all {@link Change Changes} to optimise chains of Changes before they are
+     * resolved. Defaults to {@code ChainRewriter.DEFAULT}
+     * @param rewriter ({@code ChainRewriter}): the rewriter to use, or null to disable rewriting
+     * @see ChainRewriter
+     */
+    public static void setChainRewriter(@Nullable final ChainRewriter rewriter) {
+        chainRewriter = rewriter;
+    }
+
+    @Nullable
+    public static ChainRewriter getChainRewriter() {
+        return chainRewriter;
+    }
+
+    // ====================================
+    //            CHECKPOINTS
+    // ====================================
+
+    /**
+     * Sets the {@link CheckpointPolicy} used by all {@link Change Changes} to determine when to keep a snapshot of
+     * their resolved array. Defaults to {@code CheckpointPolicy.DEFAULT}
+     * @param policy ({@code CheckpointPolicy}): the policy to use
+     * @see CheckpointPolicy
+     */
+    public static void setCheckpointPolicy(@NotNull final CheckpointPolicy policy) {
+        checkpointPolicy = Objects.requireNonNull(policy);
+    }
+
+    public static CheckpointPolicy getCheckpointPolicy() {
+        return checkpointPolicy;
+    }
+
+    /**
+     * Determines whether this {@link Change} currently holds a snapshot of its resolved array
+     * @return (boolean): whether this Change is checkpointed
+     */
+    public final boolean isCheckpointed() {
+        final SoftReference<E[]> reference = checkpoint;
+        return reference != null && reference.get() != null;
+    }
+
+    /**
+     * Called whenever a new {@link Change} is appended to this one, so that the checkpoint of this Change can be
+     * computed in the background if the current {@link CheckpointPolicy} requires it. This Change is guaranteed to
+     * be fully constructed at that point.
+     */
+    private void onAppend() {
+        final CheckpointPolicy policy = checkpointPolicy;
+        if (array == null || !policy.isBackground() || !policy.isCheckpoint(generation) || isCheckpointed()) return;
+
+        CheckpointPolicy.schedule(() -> {
+            if (!isCheckpointed()) setCheckpoint(resolveAssociated(false));
+        });
+    }
+
+    private void setCheckpoint(@NotNull final E[] snapshot) {
+        checkpoint = new SoftReference<>(snapshot);
+    }
+
     // ====================================
     //             CONTENTS
     // ====================================
@@ -239,32 +384,38 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
      * array once all change have been applied to it. If the current Change has no array associated to it, returns a
      * length of -1 instead<br><br>
      *
-     * <u><i>Warning:</i></u><br><br>
+     * <u><i>Performance:</i></u><br><br>
      *
-     * This method has an <i>implicit call to toArray</i> which might result in poor performance when called repeatedly
-     * on large Changes. To avoid this issue, used the {@code optimise} method and call {@code size} on the resulting
-     * {@link Origin} instead.<br><br>
+     * The size is first derived from the length of the closest checkpointed or cached array and the {@code resultSize}
+     * of every Change applied after it, without resolving the array. This method only falls back to calling
+     * {@code toArray} when one of those Changes has a resulting size which depends on the contents of the array, such
+     * as a filter.<br><br>
      *
      * @return (int): the size of the array associated to this Change, -1 if no array is associated
      */
     @Override
     public final int size() {
-        if (array == null) {
-            return -1;
-        } else {
-            return toArray().length;
+        if (array == null) return -1;
+
+        // propagates the size of the closest known array through every following change
+        final Start<E> start = findStart(resolutionCache);
+        int size = start.array.length;
+        for (Change<E> change : start.changes(this)) {
+            size = change.resultSize(size);
+            // the size of the array cannot be determined without resolving it
+            if (size < 0) return toArray().length;
         }
+
+        return size;
     }
 
     /**
      * Determines whether this {@link Change}'s array will be empty after all changes have been applied to it. Also
      * returns true if this Change has no array associated to it.<br<br>
      *
-     * <u><i>Warning:</i></u><br><br>
+     * <u><i>Performance:</i></u><br><br>
      *
-     * This method has an <i>implicit call to toArray</i> which might result in poor performance when called repeatedly
-     * on large Changes. To avoid this issue, used the {@code optimise} method and call {@code isEmpty} on the resulting
-     * {@link Origin} instead.<br><br>
+     * Relies on {@code size}, and therefore only resolves the array if its size cannot be derived otherwise.<br><br>
      *
      * @return (boolean): whether this Change's array will be empty after calling toArray
      */
@@ -277,22 +428,55 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
      * Determines whether this {@link Change}'s array will contain the given element once all changes have been applied
      * to it.<br><br>
      *
-     * <u><i>Warning:</i></u><br><br>
+     * <u><i>Performance:</i></u><br><br>
      *
-     * This method has an <i>implicit call to toArray</i> which might result in poor performance when called repeatedly
-     * on large Changes. To avoid this issue, used the {@code optimise} method and call {@code contains} on the
-     * resulting {@link Origin} instead.<br><br>
+     * Changes are first asked in turn, from the newest to the oldest, how they affect the membership of the given
+     * element (see {@link Membership}). The closest checkpointed or cached array is then scanned, stopping at the
+     * first occurrence of the element. This method only falls back to resolving the array when a Change could have
+     * introduced the element, or when an element found in the starting array could have been removed since.<br><br>
      *
      * @param o ({@code Object}): the object to check the occurrence of
      * @return (boolean): whether the array resulting of applying this Change will contain the given object
      */
     @Override
     public final boolean contains(Object o) {
-        if (array == null) {
-            return false;
-        } else {
-            return Arrays.asList(toArray()).contains(o);
+        if (array == null) return false;
+
+        final Start<E> start = findStart(resolutionCache);
+        final Change<E>[] changes = start.changes(this);
+
+        // whether only the absence of the element from previous changes can still be determined
+        boolean absenceOnly = false;
+
+        // for every change, from the newest to the oldest...
+        for (int i = changes.length - 1; i >= 0; i--) {
+            final Membership membership = changes[i].membership(o);
+
+            // ...stops as soon as the membership of the element is certain...
+            if (membership == Membership.REMOVES)                   return false;
+            if (membership == Membership.ADDS && !absenceOnly)      return true;
+            // ...or as soon as it becomes impossible to determine without resolving the array
+            if (membership == Membership.ADDS || membership == Membership.UNKNOWN) return contains(toArray(), o);
+
+            if (membership == Membership.MAY_REMOVE) absenceOnly = true;
+        }
+
+        // scans the starting array, stopping at the first occurrence of the element
+        if (!contains(start.array, o)) return false;
+        if (!absenceOnly)              return true;
+
+        // the element might have been removed since
+        return contains(toArray(), o);
+    }
+
+    private static boolean contains(
+            final Object[] array,
+            final Object o
+    ) {
+        for (Object e : array) {
+            if (Objects.equals(e, o)) return true;
         }
+        return false;
     }
 
     /**
@@ -317,6 +501,128 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
         }
     }
 
+    // ====================================
+    //             STREAMING
+    // ====================================
+
+    /**
+     * <i>If an array has been associated to this {@link Change}</i> using {@code Change.of}, returns a sequential
+     * {@link Stream} of the elements in that array once all changes have been applied to it.<br><br>
+     *
+     * <u><i>Performance:</i></u><br><br>
+     *
+     * Elements are pulled lazily through every Change which can be streamed (see {@code streamStage}), starting from
+     * the newest Change and going back until a Change which cannot be streamed, a checkpoint or a cached array is
+     * found. Only the array preceding those Changes is resolved, so that short-circuiting operations such as
+     * {@code findFirst} or {@code limit} stop the remaining Changes from being applied as soon as they are
+     * satisfied.<br><br>
+     *
+     * @return (Stream\u003C E \u003E): the elements of the resolved array
+     * @throws InaccessibleValueException if no array has been associated to this Change
+     */
+    @Override
+    public final Stream<E> stream() {
+        if (array != null) {
+            return pull(false);
+        } else {
+            throw new InaccessibleValueException("Can't use stream, no array was specified to apply changes to");
+        }
+    }
+
+    /**
+     * Builds the {@link Stream} pulling elements through the longest run of streamable changes ending with this
+     * {@link Change}
+     * @param limitedOnly ({@code boolean}): whether to only build the stream if one of the streamed changes limits the
+     *                    number of elements which are pulled, in which case the stream resolves this Change for
+     *                    {@code toArray} and the cache lookup is recorded
+     * @return (Stream\u003C E \u003E): the elements of the resolved array, null if no change limits the stream and
+     * limitedOnly is true
+     */
+    @Nullable
+    private Stream<E> pull(final boolean limitedOnly) {
+        final Start<E> start = findStart(resolutionCache);
+        final Change<E>[] changes = start.changes(this);
+        final List<Function<Stream<E>, Stream<E>>> stages = new ArrayList<>();
+
+        // collects stages from the newest change until a change which cannot be streamed
+        boolean limited = false;
+        int i = changes.length - 1;
+        for (; i >= 0; i--) {
+            final Function<Stream<E>, Stream<E>> stage = changes[i].streamStage();
+            if (stage == null) break;
+            stages.add(stage);
+            limited |= isLimit(changes[i]);
+        }
+
+        if (limitedOnly && !limited) return null;
+        if (limitedOnly && resolutionCache != null) resolutionCache.recordLookup(start.isHit());
+
+        // only the changes which cannot be streamed are resolved
+        Stream<E> stream = Arrays.stream(i < 0 ? start.array : changes[i].toArray());
+        // the streamed changes run user code for every element pulled, so the deadline is checked for each of them
+        final Deadline deadline = Deadline.current();
+        if (deadline != null) stream = stream.peek(e -> Deadline.poll(deadline));
+        for (int k = stages.size() - 1; k >= 0; k--) {
+            stream = stages.get(k).apply(stream);
+        }
+
+        return stream;
+    }
+
+    /**
+     * <i>If an array has been associated to this {@link Change}</i> using {@code Change.of}, returns a
+     * {@link ChunkCursor} over the elements in that array once all changes have been applied to it, using the default
+     * chunk size
+     * @return (ChunkCursor\u003C E \u003E): cursor over the chunks of the resolved array
+     * @throws InaccessibleValueException if no array has been associated to this Change
+     */
+    public final ChunkCursor<E> chunks() {
+        return chunks(ChunkCursor.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * <i>If an array has been associated to this {@link Change}</i> using {@code Change.of}, returns a
+     * {@link ChunkCursor} over the elements in that array once all changes have been applied to it.<br><br>
+     *
+     * <u><i>Performance:</i></u><br><br>
+     *
+     * The longest run of chunkable Changes ending with this Change (see {@code ChunkCursor.isChunkable}) is rewritten
+     * by the current {@link ChainRewriter} and applied one chunk at a time as the cursor advances. Only the array
+     * preceding those Changes is resolved beforehand, so that the working memory of the remaining Changes is bounded
+     * by the chunk size rather than by the size of the array.<br><br>
+     *
+     * @param chunkSize ({@code int}): maximum number of elements in each chunk
+     * @return (ChunkCursor\u003C E \u003E): cursor over the chunks of the resolved array
+     * @throws InaccessibleValueException if no array has been associated to this Change
+     * @throws IllegalArgumentException if the chunk size is not strictly positive
+     */
+    public final ChunkCursor<E> chunks(final int chunkSize) {
+        if (array == null) {
+            throw new InaccessibleValueException("Can't use chunks, no array was specified to apply changes to");
+        }
+
+        final Start<E> start = findStart(resolutionCache);
+        final Change<E>[] changes = start.changes(this);
+
+        // looks for the first change of the chunkable run
+        int first = changes.length;
+        while (first > 0 && ChunkCursor.isChunkable(changes[first - 1])) first--;
+
+        // only the changes which cannot be chunked are resolved
+        final E[] base = first == 0 ? start.array : changes[first - 1].toArray();
+        Change<E>[] chunked = Arrays.copyOfRange(changes, first, changes.length);
+
+        final ChainRewriter rewriter = chainRewriter;
+        if (rewriter != null) chunked = rewriter.rewrite(chunked, base.length);
+
+        return new ChunkCursor<>(base, chunked, chunkSize);
+    }
+
+    private static boolean isLimit(final Change<?> change) {
+        if (change instanceof ParallelAdapter<?> adapter) return isLimit(adapter.getAdapted());
+        return change instanceof FunctionalChange<?> functional && functional.getFunction() instanceof Functions.Limit;
+    }
+
     // ====================================
     //              APPLYING
     // ====================================
@@ -341,7 +647,9 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
      * must be overridden in child classes. In the case of {@link RemoveFirst} and {@link RemoveAll}, the class
      * {@link com.company.collections.changeAPI.changes.singlethread.remove.SequentialRemove SequentialRemove} handles sequentialisation<br>
      * - In the case where a class <i>cannot be sequentialised</i>, {@code canSequentialise} should return false, which
-     * will result in {@code toSequential} never being called<br><br>
+     * will result in {@code toSequential} never being called<br>
+     * - Classes registered in the {@link SequentialiserRegistry} are sequentialised according to their family during
+     * resolution, in which case this method is only used by Changes which are not registered<br><br>
      *
      * @param change ({@code Change<E>}): the change we would like to check for sequentialisation
      * @return (boolean): whether the given change can be sequentialised with the class instance on which this method
@@ -425,11 +733,154 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
         return applyTo((E[]) c.toArray());
     }
 
+    /**
+     * Applies the {@link Change} to the given array, giving up as soon as the given {@link Deadline} expires. See
+     * {@code toArray(Deadline)}.
+     * @param array ({@code E[]}): the array to which to apply the change
+     * @param deadline ({@code Deadline}): the deadline the resolution is bound by
+     * @return (E[]): resulting changed array
+     * @throws CancellationException if the deadline expires before the change is applied
+     */
+    public final E[] applyTo(
+            @NotNull final E[] array,
+            @NotNull final Deadline deadline
+    ) {
+        Objects.requireNonNull(array);
+        return Deadline.callWith(deadline, () -> applyTo(array));
+    }
+
+    /**
+     * Applies the {@link Change} to every given array. The Change is compiled once (see {@code compile}), so that its
+     * resolution is planned and its lookup structures are built only once for the whole batch, and arrays are then
+     * processed in parallel, each array being handled by a single thread.
+     * @param arrays ({@code E[][]}): the arrays to apply the change to
+     * @return (E[][]): resulting changed arrays, in the same order as the given arrays
+     */
+    public final E[][] applyToAll(@NotNull final E[][] arrays) {
+        return compile().applyToAll(arrays);
+    }
+
+    /**
+     * Applies the {@link Change} to every array in the given {@link Iterable}. See {@code applyToAll(E[][])}.
+     * @param arrays ({@code Iterable<E[]>}): the arrays to apply the change to
+     * @return (List< E[] >): resulting changed arrays, in iteration order
+     */
+    public final List<E[]> applyToAll(@NotNull final Iterable<E[]> arrays) {
+        return compile().applyToAll(arrays);
+    }
+
+    // ====================================
+    //            ASYNCHRONOUS
+    // ====================================
+
+    /**
+     * Sets the {@link Executor} asynchronous methods such as {@code toArrayAsync} resolve {@link Change Changes} on.
+     * Defaults to the executor parallel algorithms run their tasks on (see {@code ThreadUtil.getExecutor})
+     * @param executor ({@code Executor}): the executor to use, or null to go back to the default one
+     */
+    public static void setAsyncExecutor(@Nullable final Executor executor) {
+        asyncExecutor = executor;
+    }
+
+    @NotNull
+    public static Executor getAsyncExecutor() {
+        final Executor current = asyncExecutor;
+        return current == null ? ThreadUtil.getExecutor() : current;
+    }
+
+    /**
+     * Resolves this {@link Change}'s associated array on the current asynchronous {@link Executor}, without blocking
+     * the calling thread. Independent Changes resolved this way are resolved concurrently, and cancelling the returned
+     * future stops the resolution.
+     * @return (CompletableFuture\u003C E[] \u003E): completed with the resulting array, or exceptionally with an
+     * {@link InaccessibleValueException} if this change has no array associated to it
+     */
+    public final CompletableFuture<E[]> toArrayAsync() {
+        return toArrayAsync(getAsyncExecutor());
+    }
+
+    /**
+     * Resolves this {@link Change}'s associated array on the given {@link Executor}. See {@code toArrayAsync()}.
+     * @param executor ({@code Executor}): the executor to resolve the Change on
+     * @return (CompletableFuture\u003C E[] \u003E): completed with the resulting array
+     */
+    public final CompletableFuture<E[]> toArrayAsync(@NotNull final Executor executor) {
+        return supplyAsync(this::toArray, executor);
+    }
+
+    /**
+     * Applies this {@link Change} to the given array on the current asynchronous {@link Executor}, without blocking
+     * the calling thread. See {@code applyTo}.
+     * @param array ({@code E[]}): the array to apply the change to
+     * @return (CompletableFuture\u003C E[] \u003E): completed with the resulting changed array
+     */
+    public final CompletableFuture<E[]> applyToAsync(@NotNull final E[] array) {
+        return applyToAsync(array, getAsyncExecutor());
+    }
+
+    /**
+     * Applies this {@link Change} to the given array on the given {@link Executor}. See {@code applyTo}.
+     * @param array ({@code E[]}): the array to apply the change to
+     * @param executor ({@code Executor}): the executor to apply the Change on
+     * @return (CompletableFuture\u003C E[] \u003E): completed with the resulting changed array
+     */
+    public final CompletableFuture<E[]> applyToAsync(
+            @NotNull final E[] array,
+            @NotNull final Executor executor
+    ) {
+        Objects.requireNonNull(array);
+        return supplyAsync(() -> applyTo(array), executor);
+    }
+
+    /**
+     * Runs a query on this {@link Change} asynchronously, for example {@code change.queryAsync(Change::size)}
+     * @param query ({@code Function<? super Change<E>, ? extends R>}): the query to run
+     * @return (CompletableFuture\u003C R \u003E): completed with the result of the query
+     * @param <R> the type of the result
+     */
+    public final <R> CompletableFuture<R> queryAsync(@NotNull final Function<? super Change<E>, ? extends R> query) {
+        Objects.requireNonNull(query);
+        return supplyAsync(() -> query.apply(this), getAsyncExecutor());
+    }
+
+    /**
+     * Runs the given action on an {@link Executor}, failing the returned future if the executor rejects it. Cancelling
+     * the returned future cancels the {@link Deadline} the action runs with, so that it stops as well. The action is
+     * also bound by the Deadline of the calling thread, and its parallel algorithms run their tasks on the calling
+     * thread's scoped executor (see {@code ThreadUtil.callWith}), as they would if the action was run directly.
+     */
+    protected static <R> CompletableFuture<R> supplyAsync(
+            @NotNull final Supplier<R> action,
+            @NotNull final Executor executor
+    ) {
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(executor);
+
+        final Deadline deadline = Deadline.cancellable(Deadline.current());
+        final Executor scoped = ThreadUtil.getScopedExecutor();
+        final Supplier<R> scopedAction = scoped == null ? action : () -> ThreadUtil.callWith(scoped, action);
+
+        final CompletableFuture<R> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> Deadline.callWith(deadline, scopedAction), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((result, failure) -> {
+            if (failure instanceof CancellationException) deadline.cancel();
+        });
+        return future;
+    }
+
     /**
      * <strong>Must be overridden in child classes</strong>. Specifies how a {@link Change} should be applied to a given
      * array <strong>without mutating it</strong>. Instead, child classes should always rely on array copying instead of
      * directly manipulating the original array.<br><br>
      *
+     * The resulting array must either be the given array, if the change has no effect, or a new array no other object
+     * holds a reference to, so that resolution can later modify it in place (see {@code applyInPlace}).<br><br>
+     *
      * @implNote this is likely to change in later versions, with applyTo providing Changes with a deep copy of the
      * original array instead of the array itself
      * @param array ({@code E[]}): the array to apply the change to
@@ -437,6 +888,88 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
      */
     protected abstract E[] applyToImpl(@NotNull E[] array);
 
+    /**
+     * Specifies how a {@link Change} should be applied to an intermediate array which is privately owned by
+     * resolution, and which can therefore be <strong>mutated</strong> instead of copied. Only called on arrays
+     * produced by a previous stage of the same resolution, never on the array given to {@code applyTo}, on the
+     * array associated to a Change nor on checkpointed or cached arrays. Changes which can apply themselves directly
+     * to the given array should override this method, by default it simply calls {@code applyToImpl}.
+     * @param array ({@code E[]}): the array to apply the change to, which may be modified
+     * @return (E[]): resulting array with the change applied, either the given array or a new one
+     */
+    protected E[] applyInPlace(@NotNull final E[] array) {
+        return applyToImpl(array);
+    }
+
+    /**
+     * Builds any lookup structure this {@link Change} derives from its parameters, such as sorted copies of the values
+     * to remove, so that it is not rebuilt on each application. Called once on every stage when a Change is compiled
+     * (see {@code compile}), structures which are not built here are built the first time they are needed instead.
+     * Changes keeping such structures must build them lazily and share them safely between threads.
+     */
+    protected void prepare() {}
+
+    /**
+     * Returns the array resolution starts from once it reaches this generation 0 {@link Change}. Generation 0 Changes
+     * which do not keep their initial elements as an array should override this method to build it. The returned
+     * array is never modified nor handed out directly.
+     * @return (E[]): the initial array of the chain of Changes
+     */
+    protected E[] initialArray() {
+        return array;
+    }
+
+    /**
+     * Determines the length of the array resulting from applying this {@link Change} to an array of the given length,
+     * without having to apply it. Used to optimise chains of Changes before resolution. Changes whose resulting size
+     * depends on the contents of the array should keep the default implementation.
+     * @param inputSize ({@code int}): length of the array the Change is applied to, -1 if unknown
+     * @return (int): length of the resulting array, -1 if it cannot be determined
+     */
+    protected int resultSize(final int inputSize) {
+        return -1;
+    }
+
+    /**
+     * How applying a {@link Change} affects whether an element is contained in an array
+     */
+    protected enum Membership {
+        /** the element is always contained in the resulting array */
+        ADDS,
+        /** the element is never contained in the resulting array */
+        REMOVES,
+        /** the element is contained in the resulting array if and only if it was contained in the original array */
+        PRESERVES,
+        /** the element can only be contained in the resulting array if it was contained in the original array */
+        MAY_REMOVE,
+        /** the Change may introduce the element in the array */
+        UNKNOWN
+    }
+
+    /**
+     * Determines how applying this {@link Change} affects whether the given element is contained in an array, without
+     * having to apply it. Used by {@code contains} to avoid resolving the array whenever possible. Changes which may
+     * introduce new values in the array should keep the default implementation.
+     * @param o ({@code Object}): the element to check the membership of
+     * @return (Membership): how this Change affects the membership of the element
+     */
+    protected Membership membership(final Object o) {
+        return Membership.UNKNOWN;
+    }
+
+    /**
+     * Describes how to apply this {@link Change} lazily, one element at a time, to a {@link Stream} of the elements in
+     * an array. Used by {@code stream} to pull elements through a chain of Changes without resolving intermediate
+     * arrays. Changes which need to see the whole array at once, such as those relying on indexes, should keep the
+     * default implementation.
+     * @return (Function< Stream< E >, Stream< E > >): function adding this Change to a stream of elements, null if the
+     * Change cannot be streamed
+     */
+    @Nullable
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return null;
+    }
+
     /**
      * <i>Resolution</i> occurs when the {@link Change} being applied to an array is of a generation greater than 0
      * (ie: there were other changes before it). It that case it is necessary to retrieve all changes <i>before</i> the
@@ -449,6 +982,11 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
      * to the array. If a change cannot be sequentialised, it is applied directly. Changes specify whether they can be
      * sequentialised through the canSequentialise method<br><br>
      *
+     * <u><i>Rewriting:</i></u><br><br>
+     *
+     * Before being sequentialised, changes are rewritten by the current {@link ChainRewriter}, which removes, merges
+     * or reorders changes whenever doing so does not affect the resulting array<br><br>
+     *
      * <u><i>Warning:</i></u><br><br>
      *
      * Sequentialisable changes <i>cannot have toSequential return null</i>, otherwise change resolution will fail due
@@ -458,43 +996,252 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
      * @return (E[]): resulting changed array
      */
     protected final E[] resolve(E[] array) {
+        return execute(plan(retrieveAllChanges(this), ResolutionPlan.Source.ARRAY, -1, array.length, null), array, null);
+    }
 
-        final Change<E>[] allChanges = retrieveAllChanges(this);
+    /**
+     * Returns the {@link ResolutionPlan} which would be followed to resolve this {@link Change}'s associated array,
+     * without applying any Change. Describes where resolution starts from, how Changes are rewritten and grouped, which
+     * algorithm applies each group, with how many threads, and the estimated size of every intermediate array.<br><br>
+     *
+     * If no array is associated to this Change, describes how the Change would be applied to an array of unknown
+     * length through {@code applyTo} instead.
+     * @return (ResolutionPlan\u003C E \u003E): the plan followed when calling {@code toArray}
+     */
+    public final ResolutionPlan<E> explain() {
+        if (array == null) {
+            return plan(retrieveAllChanges(this), ResolutionPlan.Source.ARRAY, -1, -1, null);
+        }
 
-        // region applying changes
-        E[] result = array;
+        final Start<E> start = findStart(resolutionCache);
+        return plan(start.changes(this), start.source, start.generation(this), start.array.length, checkpointPolicy);
+    }
 
-        int i = 0; // index in allChanges
-        int lastIndex = 0; // last value of 'i' before looking for sequential changes
+    /**
+     * Plans once how this {@link Change} is applied to an array of unknown length, and prepares the lookup structures
+     * of every resulting stage. The returned {@link CompiledChange} can then be applied to any number of arrays,
+     * including concurrently, without rewriting, sequentialising or re-sorting anything. Changes appended to this
+     * Change later on have no effect on the CompiledChange.
+     * @return (CompiledChange\u003C E \u003E): compiled form of this Change
+     */
+    public final CompiledChange<E> compile() {
+        return new CompiledChange<>(plan(retrieveAllChanges(this), ResolutionPlan.Source.ARRAY, -1, -1, null));
+    }
+
+    /**
+     * Plans how the given {@link Change Changes} should be applied to an array: changes are split into segments between
+     * checkpoints, each segment is rewritten by the current {@link ChainRewriter} and sequentialisable changes are
+     * grouped together. Neither rewriting nor sequentialisation ever cross a checkpoint.
+     * @param changes ({@code Change<E>[]}): the changes to apply, from oldest to newest
+     * @param source ({@code ResolutionPlan.Source}): where the array the Changes are applied to comes from
+     * @param startGeneration ({@code int}): generation of the Change the array is the result of, -1 if none
+     * @param inputSize ({@code int}): length of the array the Changes are applied to, -1 if unknown
+     * @param policy ({@code CheckpointPolicy}): the policy used to take checkpoints, null if the array is not the one
+     *               associated to the Changes
+     * @return (ResolutionPlan\u003C E \u003E): resulting plan
+     */
+    private ResolutionPlan<E> plan(
+            final Change<E>[] changes,
+            final ResolutionPlan.Source source,
+            final int startGeneration,
+            final int inputSize,
+            @Nullable final CheckpointPolicy policy
+    ) {
+        final ChainRewriter rewriter = chainRewriter;
+        final List<ResolutionPlan.Stage<E>> stages = new ArrayList<>();
+        final List<ResolutionPlan.Checkpoint<E>> checkpoints = new ArrayList<>();
+
+        int size = inputSize; // estimated length of the array at the current stage
+
+        // for every segment of changes between two checkpoints...
+        for (int start = 0; start < changes.length; ) {
+
+            // ...looks for the end of the segment...
+            int end = start + 1;
+            while (end < changes.length && (policy == null || !policy.isCheckpoint(changes[end - 1].generation))) end++;
+
+            // ...rewrites it...
+            final Change<E>[] original = Arrays.copyOfRange(changes, start, end);
+            final Change<E>[] segment = rewriter == null ? original : rewriter.rewrite(original, size);
+
+            // changes of the segment before rewriting, to tell apart the changes produced by the rewriter
+            final Set<Change<E>> originals = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (segment != original) originals.addAll(Arrays.asList(original));
 
-        // for every change...
-        for (; i < allChanges.length; i++) {
+            // ...and plans how every change in it is applied
+            for (int i = 0; i < segment.length; ) {
 
-            // ...looks for sequentialisable changes
-            for (; i+1 < allChanges.length && allChanges[i].canSequentialise(allChanges[i+1]); i++) {}
+                // looks for sequentialisable changes
+                int j = i + 1;
+                while (j < segment.length && SequentialiserRegistry.canSequentialise(segment[j - 1], segment[j])) j++;
 
-            final Change<E> currentChange;            // the next change to be applied to the result array
-            final int sequentialLength = i - lastIndex; // number of changes which can be sequentialised
+                final Change<E>[] group = Arrays.copyOfRange(segment, i, j);
+                final Change<E> currentChange; // the change which will be applied to the result array
 
-            // if multiple changes can be sequentialised...
-            if (sequentialLength > 1) {
-                // ...extracts them from the change array...
-                final Change<E>[] subArray = (Change<E>[]) Array.newInstance(Change.class, sequentialLength);
-                System.arraycopy(allChanges, lastIndex + 1, subArray, 0, sequentialLength);
-                // ...and sequentialises them
-                currentChange = subArray[0].toSequential(subArray);
+                // if multiple changes can be sequentialised...
+                if (group.length > 1) {
+                    // ...sequentialises them
+                    currentChange = SequentialiserRegistry.toSequential(group);
+                }
+                // if there are no changes to sequentialise...
+                else {
+                    // ...directly applies the current change
+                    currentChange = group[0];
+                }
+
+                // estimates the size of the resulting array & checks whether the changes were produced by rewriting
+                int outputSize = size;
+                boolean rewritten = false;
+                for (Change<E> change : group) {
+                    outputSize = change.resultSize(outputSize);
+                    rewritten |= segment != original && !originals.contains(change);
+                }
+
+                stages.add(new ResolutionPlan.Stage<>(group, currentChange, rewritten, size, outputSize));
+                size = outputSize;
+
+                i = j; // moves on to the next changes
+            }
+
+            // saves a checkpoint if the last change in the segment requires one
+            final Change<E> lastChange = changes[end - 1];
+            if (policy != null && policy.isCheckpoint(lastChange.generation)) {
+                checkpoints.add(new ResolutionPlan.Checkpoint<>(stages.size(), lastChange));
             }
-            // if there are no changes to sequentialise...
-            else {
-                // ...directly updates te current change
-                currentChange = allChanges[i];
+
+            start = end; // moves on to the next segment
+        }
+
+        final Change<E> target = changes.length == 0 ? null : changes[changes.length - 1];
+        return new ResolutionPlan<>(source, startGeneration, inputSize, stages, checkpoints, target);
+    }
+
+    /**
+     * Executes a {@link ResolutionPlan}, applying each of its stages in order to the given array and saving
+     * checkpoints along the way. The final resolved Change is also checkpointed if the number of elements processed
+     * exceeds the given policy's cost threshold.
+     * @param plan ({@code ResolutionPlan<E>}): the plan to execute
+     * @param array ({@code E[]}): the array to apply the plan to
+     * @param policy ({@code CheckpointPolicy}): the policy used to take checkpoints, null if the given array is not
+     *               the one associated to the Changes
+     * @return (E[]): resulting changed array, never shared with a checkpoint
+     */
+    static <E> E[] execute(
+            final ResolutionPlan<E> plan,
+            final E[] array,
+            @Nullable final CheckpointPolicy policy
+    ) {
+        final List<ResolutionPlan.Stage<E>> stages = plan.getStages();
+        final List<ResolutionPlan.Checkpoint<E>> checkpoints = plan.getCheckpoints();
+
+        E[] result = array;
+        E[] shared = null;     // last array to have been saved as a checkpoint
+        boolean owned = false; // whether no one else holds a reference to the current array
+        long cost = 0;         // number of elements processed so far
+        int k = 0;             // next checkpoint to save
+
+        for (int i = 0; i <= stages.size(); i++) {
+            // saves the checkpoints which fall right before the current stage
+            while (k < checkpoints.size() && checkpoints.get(k).after() == i) {
+                checkpoints.get(k++).change().setCheckpoint(result);
+                shared = result;
+                owned = false;
             }
+            if (i == stages.size()) break;
+
+            // stops between stages once the deadline of the resolution has expired
+            Deadline.checkCurrent();
+            cost += result.length;
+
+            // applies the current stage, in place if the array is not visible outside of resolution
+            final Change<E> change = stages.get(i).getChange();
+            final E[] input = result;
+            result = owned ? change.applyInPlace(input) : change.applyToImpl(input);
+            // any new array was allocated by the stage and is therefore owned
+            if (result != input) owned = true;
+        }
 
-            result = currentChange.applyToImpl(result); // applies the current change
-            lastIndex = i;                                 // saves the value of i
+        // saves a checkpoint on the resolved change if resolution was costly enough
+        final Change<E> target = plan.getTarget();
+        if (policy != null && target != null && policy.exceedsCost(cost)) {
+            target.setCheckpoint(result);
+            shared = result;
         }
 
         // returns the resulting array after all changes have been applied
+        return result == shared ? Arrays.copyOf(result, result.length) : result;
+    }
+
+    /**
+     * Closest snapshot to a {@link Change}, from which its resolution can resume
+     * @param array ({@code E[]}): the snapshot, or the array associated to the Change if there is none
+     * @param source ({@code ResolutionPlan.Source}): where the snapshot comes from
+     * @param distance ({@code int}): number of generations between the snapshot and the Change
+     */
+    private record Start<E>(E[] array, ResolutionPlan.Source source, int distance) {
+
+        private boolean isHit() {
+            return source != ResolutionPlan.Source.ORIGIN;
+        }
+
+        private Change<E>[] changes(final Change<E> change) {
+            return isHit() ? change.retrieveChanges(change, distance) : change.retrieveAllChanges(change);
+        }
+
+        private int generation(final Change<E> change) {
+            return isHit() ? change.generation - distance : -1;
+        }
+    }
+
+    /**
+     * Looks for the closest ancestor of this {@link Change} (this Change included) which is either checkpointed or
+     * whose result is available in the given {@link ResolutionCache}
+     * @param cache ({@code ResolutionCache}): the cache to look in, if any
+     * @return (Start\u003C E \u003E): the closest snapshot, or the associated array if there is none
+     */
+    private Start<E> findStart(@Nullable final ResolutionCache cache) {
+        int distance = 0;
+        for (Change<E> current = this; ; current = current.parent, distance++) {
+            final SoftReference<E[]> reference = current.checkpoint;
+            final E[] checkpointed = reference == null ? null : reference.get();
+            if (checkpointed != null) return new Start<>(checkpointed, ResolutionPlan.Source.CHECKPOINT, distance);
+
+            final E[] cached = cache == null ? null : (E[]) cache.get(current);
+            if (cached != null) return new Start<>(cached, ResolutionPlan.Source.CACHE, distance);
+
+            if (current.isFinal()) return new Start<>(current.initialArray(), ResolutionPlan.Source.ORIGIN, distance);
+        }
+    }
+
+    /**
+     * Resolves this {@link Change}'s associated array, starting from the closest ancestor (this Change included)
+     * which is either checkpointed or whose result is available in the current {@link ResolutionCache}. The result
+     * is then cached in turn.
+     * @param useCache ({@code boolean}): whether to look up and save the result in the current cache
+     * @return (E[]): resulting array once all changes have been applied
+     */
+    private E[] resolveAssociated(final boolean useCache) {
+        final ResolutionCache cache = useCache ? resolutionCache : null;
+
+        // looks for the closest snapshot, starting with this change
+        final Start<E> start = findStart(cache);
+        if (cache != null) cache.recordLookup(start.isHit());
+
+        // this change has already been resolved, snapshots are never handed out directly
+        if (start.isHit() && start.distance == 0) return Arrays.copyOf(start.array, start.array.length);
+
+        // resumes from the snapshot if there is one, otherwise resolves from generation 0
+        final ResolutionPlan<E> plan = plan(
+                start.changes(this),
+                start.source,
+                start.generation(this),
+                start.array.length,
+                checkpointPolicy
+        );
+        E[] result = execute(plan, start.array, checkpointPolicy);
+        if (result == start.array) result = Arrays.copyOf(result, result.length);
+
+        if (cache != null) cache.put(this, Arrays.copyOf(result, result.length));
         return result;
     }
 
@@ -504,26 +1251,61 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
      * @return (Change\u003C E \u003E): all changes up to generation 0, including the original change
      */
     private Change<E>[] retrieveAllChanges(final Change<E> change) {
-        // if given change is of generation 0, does not look for any parents
-        if (generation == 0) return new Change[]{this};
+        return retrieveChanges(change, change.generation + 1);
+    }
 
-        int i = 0;                  // number of generations back from given change
-        Change<E> currentChange = change;             // the last change to be added to the array of all changes
+    /**
+     * Retrieves the given number of linked {@link Change Changes}, starting from the specified change and going back
+     * towards generation 0.
+     * @param change ({@code Change<E>}): the original change from which the parent changes are retrieved
+     * @param count ({@code int}): the number of changes to retrieve, including the original change
+     * @return (Change\u003C E \u003E): the retrieved changes, from oldest to newest
+     */
+    private Change<E>[] retrieveChanges(final Change<E> change, final int count) {
+        // array of all changes to retrieve
+        final Change<E>[] changes = new Change[count];
 
-        // array of all changes up to generation 0
-        final Change<E>[] allChanges = new Change[change.generation + 1];
+        Change<E> currentChange = change; // the last change to be added to the array of changes
 
-        // while we have not yet reached a change of generation 0...
-        while (!currentChange.isFinal()) {
-            allChanges [allChanges.length - 1 - i++] = currentChange; // saves the current change
-            currentChange = currentChange.parent;                     // gets the previous change
+        // saves every change, starting from the newest one
+        for (int i = count - 1; i >= 0; i--) {
+            changes[i] = currentChange;           // saves the current change
+            currentChange = currentChange.parent; // gets the previous change
         }
 
-        // saves the last change
-        allChanges[0] = currentChange;
+        // returns the final array of changes
+        return changes;
+    }
+
+    /**
+     * Flattens Changes made of other Changes, such as the ones built when rewriting a run of Changes, into the
+     * Changes they are made of. Rewriting nests those Changes as deep as the run is long, so they are flattened with a
+     * stack rather than recursively.
+     * @param parts ({@code Change<E>[]}): the Changes to flatten, from oldest to newest
+     * @param partsOf ({@code Function<Change<E>, Change<E>[]>}): the Changes a Change is made of, null if it should be
+     *                kept as is
+     * @return (Change\u003C E \u003E[]): the Changes none of the given Changes are made of, from oldest to newest
+     */
+    protected static <E> Change<E>[] flatten(
+            @NotNull final Change<E>[] parts,
+            @NotNull final Function<Change<E>, Change<E>[]> partsOf
+    ) {
+        final List<Change<E>> result = new ArrayList<>();
+
+        final Deque<Change<E>> pending = new ArrayDeque<>();
+        for (int i = parts.length - 1; i >= 0; i--) pending.push(parts[i]);
+
+        while (!pending.isEmpty()) {
+            final Change<E> change = pending.pop();
+            final Change<E>[] nested = partsOf.apply(change);
+            if (nested == null) {
+                result.add(change);
+            } else {
+                for (int i = nested.length - 1; i >= 0; i--) pending.push(nested[i]);
+            }
+        }
 
-        // returns the final array of all changes
-        return allChanges;
+        return result.toArray((Change<E>[]) new Change<?>[0]);
     }
 
     /**
@@ -546,12 +1328,32 @@ public abstract class Change<E> implements ImmutableCollection<E>, Iterable<Chan
     @Override
     public final E[] toArray() {
         if (array != null) {
-            return applyTo(array);
+            // limited changes only pull the elements they keep through the previous changes
+            final Stream<E> limited = pull(true);
+            if (limited == null) return resolveAssociated(true);
+
+            // the pulled result is cached like any resolved array, later resolutions never pull it again
+            final E[] result = limited.toArray(length -> (E[]) Array.newInstance(clazz, length));
+            if (resolutionCache != null) resolutionCache.put(this, Arrays.copyOf(result, result.length));
+            return result;
         } else {
             throw new InaccessibleValueException("Can't use toArray, no array was specified to apply changes to");
         }
     }
 
+    /**
+     * Applies all {@link Change Changes} to this change's associated array, giving up as soon as the given
+     * {@link Deadline} expires. Every partition of the parallel stages running at that time stops as well, so that
+     * the resolution stops using the processor almost immediately.
+     * @param deadline ({@code Deadline}): the deadline the resolution is bound by
+     * @return (E[]): resulting array once all changes have been applied
+     * @throws CancellationException if the deadline expires before the array is resolved
+     * @throws InaccessibleValueException if this change has no array associated to it
+     */
+    public final E[] toArray(@NotNull final Deadline deadline) {
+        return Deadline.callWith(deadline, this::toArray);
+    }
+
     // TODO: implement this properly
     @Override
     public <T> T[] toArray(T[] a) {
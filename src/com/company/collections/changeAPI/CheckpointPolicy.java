@@ -0,0 +1,157 @@
+package com.company.collections.changeAPI;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Determines when {@link Change Changes} should keep a snapshot -or <i>checkpoint</i>- of their resolved array. When
+ * resolving the array associated to a Change, resolution starts from the closest checkpointed ancestor instead of
+ * generation 0, so that the cost of resolving deep chains of Changes is bounded by the distance to the nearest
+ * checkpoint rather than by the total number of generations.<br><br>
+ *
+ * <u><i>Checkpoints:</i></u><br><br>
+ *
+ * Checkpoints are taken:
+ * <ul>
+ *     <li>On every Change whose generation is a multiple of the policy's interval, as it is being resolved</li>
+ *     <li>On the resolved Change itself, if the number of elements processed during resolution exceeds the policy's
+ *     cost threshold</li>
+ *     <li>In the background, on every Change whose generation is a multiple of the interval as soon as a new Change
+ *     is appended to it, if background collapsing is enabled</li>
+ * </ul>
+ * Checkpoints are only softly referenced and can be reclaimed by the garbage collector when memory runs low, in which
+ * case resolution simply falls back to an older checkpoint.
+ *
+ * @author Eliot McNab
+ */
+public class CheckpointPolicy {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    public static final CheckpointPolicy DISABLED = new CheckpointPolicy(0, 0, false);
+    public static final CheckpointPolicy DEFAULT = new CheckpointPolicy(64, 0, false);
+
+    private static ExecutorService backgroundExecutor = null;
+
+    private final int interval;
+    private final long costThreshold;
+    private final boolean background;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    /**
+     * @param interval ({@code int}): number of generations between two checkpoints, 0 to disable periodic checkpoints
+     * @param costThreshold ({@code long}): number of processed elements above which the resolved Change is
+     *                      checkpointed, 0 to disable
+     * @param background ({@code boolean}): whether periodic checkpoints should be computed in the background
+     */
+    public CheckpointPolicy(
+            final int interval,
+            final long costThreshold,
+            final boolean background
+    ) {
+        if (interval < 0) throw new IllegalArgumentException("Checkpoint interval cannot be negative");
+        if (costThreshold < 0) throw new IllegalArgumentException("Checkpoint cost threshold cannot be negative");
+
+        this.interval = interval;
+        this.costThreshold = costThreshold;
+        this.background = background;
+    }
+
+    /**
+     * Creates a new {@link CheckpointPolicy} which checkpoints a {@link Change} every given number of generations
+     * @param interval ({@code int}): number of generations between two checkpoints
+     * @return (CheckpointPolicy): the resulting policy
+     */
+    public static CheckpointPolicy every(final int interval) {
+        return new CheckpointPolicy(interval, 0, false);
+    }
+
+    public CheckpointPolicy withCostThreshold(final long costThreshold) {
+        return new CheckpointPolicy(interval, costThreshold, background);
+    }
+
+    public CheckpointPolicy inBackground(final boolean background) {
+        return new CheckpointPolicy(interval, costThreshold, background);
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public long getCostThreshold() {
+        return costThreshold;
+    }
+
+    public boolean isBackground() {
+        return background;
+    }
+
+    // ====================================
+    //            CHECKPOINTS
+    // ====================================
+
+    /**
+     * Determines whether a {@link Change} of the given generation should be checkpointed
+     * @param generation ({@code int}): the generation of the Change
+     * @return (boolean): whether the Change falls on a checkpoint interval
+     */
+    boolean isCheckpoint(final int generation) {
+        return interval > 0 && generation > 0 && generation % interval == 0;
+    }
+
+    /**
+     * Determines whether a resolution has processed enough elements for its result to be checkpointed
+     * @param cost ({@code long}): the number of elements processed during resolution
+     * @return (boolean): whether the cost threshold has been exceeded
+     */
+    boolean exceedsCost(final long cost) {
+        return costThreshold > 0 && cost >= costThreshold;
+    }
+
+    /**
+     * Schedules the given task on the shared background checkpointing thread
+     * @param task ({@code Runnable}): the task to run in the background
+     */
+    static void schedule(@NotNull final Runnable task) {
+        Objects.requireNonNull(task);
+        getBackgroundExecutor().execute(task);
+    }
+
+    private static synchronized ExecutorService getBackgroundExecutor() {
+        if (backgroundExecutor == null) {
+            backgroundExecutor = Executors.newSingleThreadExecutor(task -> {
+                final Thread thread = new Thread(task, "change-checkpoints");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return backgroundExecutor;
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "CheckpointPolicy{interval=" +
+                interval +
+                ", costThreshold=" +
+                costThreshold +
+                ", background=" +
+                background +
+                "}";
+    }
+}
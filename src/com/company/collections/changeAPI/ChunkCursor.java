@@ -0,0 +1,231 @@
+package com.company.collections.changeAPI;
+
+import com.company.collections.changeAPI.changes.parallel.ParallelOrigin;
+import com.company.collections.changeAPI.changes.singlethread.Origin;
+import com.company.collections.changeAPI.changes.singlethread.add.Add;
+import com.company.collections.changeAPI.changes.singlethread.functions.FunctionalChange;
+import com.company.collections.changeAPI.changes.singlethread.functions.Functions;
+import com.company.collections.changeAPI.changes.singlethread.functions.FusedChange;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor over the array resolved by a {@link Change}, returning its elements in consecutive blocks -or <i>chunks</i>-
+ * of at most a fixed number of elements. Each chunk is computed only once it is requested, so that results can be
+ * consumed before the last element has been computed and only one chunk is held in memory at a time.<br><br>
+ *
+ * <u><i>Chunkable Changes:</i></u><br><br>
+ *
+ * Only Changes which decide what to do with each element independently of the rest of the array can be applied one
+ * chunk at a time:
+ * <ul>
+ *     <li>element-wise Changes, as defined by {@link FusedChange}</li>
+ *     <li>{@link Add}, whose elements go through the following Changes once every previous chunk has been consumed</li>
+ *     <li>{@code limit} and {@code clear}, which stop previous Changes from being applied once they are satisfied</li>
+ * </ul>
+ * The longest run of chunkable Changes ending with the resolved Change is applied chunk by chunk. The array preceding
+ * that run is resolved as usual (or retrieved from a checkpoint or cache), and is the only array held in full.
+ *
+ * @param <E> the type the Change operates on
+ * @author Eliot McNab
+ */
+public final class ChunkCursor<E> implements Iterator<E[]> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final int chunkSize;
+    private final Stage<E>[] stages;
+    // arrays fed to the stages, each one entering at a given stage
+    private final List<Input<E>> inputs = new ArrayList<>();
+
+    private int currentInput = 0;
+    private int position = 0;
+    private E[] pending = null;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    ChunkCursor(
+            @NotNull final E[] base,
+            @NotNull final Change<E>[] changes,
+            final int chunkSize
+    ) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be strictly positive");
+
+        this.chunkSize = chunkSize;
+        this.stages = (Stage<E>[]) new Stage<?>[changes.length];
+        this.inputs.add(new Input<>(base, 0));
+
+        for (int i = 0; i < changes.length; i++) {
+            final Change<E> change = unwrap(changes[i]);
+            stages[i] = new Stage<>(change, maxSize(change));
+            // added elements only go through the changes applied after them
+            if (change instanceof Add<E> add) inputs.add(new Input<>(add.getToAdd(), i + 1));
+        }
+    }
+
+    private record Input<E>(E[] array, int firstStage) {}
+
+    private static final class Stage<E> {
+
+        private final Change<E> change;
+        // number of elements this stage can still let through, -1 if unlimited
+        private int remaining;
+
+        private Stage(
+                final Change<E> change,
+                final int remaining
+        ) {
+            this.change = change;
+            this.remaining = remaining;
+        }
+    }
+
+    // ====================================
+    //              CHUNKING
+    // ====================================
+
+    /**
+     * Determines whether a {@link Change} can be applied one chunk at a time
+     * @param change ({@code Change<?>}): the change to check
+     * @return (boolean): whether the change is chunkable
+     */
+    public static boolean isChunkable(@NotNull final Change<?> change) {
+        final Change<?> unwrapped = unwrap(change);
+        return unwrapped instanceof Origin         ||
+               unwrapped instanceof ParallelOrigin ||
+               unwrapped.getClass() == Add.class   ||
+               maxSize(unwrapped) >= 0             ||
+               FusedChange.isFusable(unwrapped);
+    }
+
+    private static <E> Change<E> unwrap(final Change<E> change) {
+        return change instanceof ParallelAdapter<E> adapter ? unwrap(adapter.getAdapted()) : change;
+    }
+
+    private static int maxSize(final Change<?> change) {
+        if (!(change instanceof FunctionalChange<?> functional)) return -1;
+        if (functional.getFunction() instanceof Functions.Limit<?> limit) return limit.getMaxSize();
+        if (functional.getFunction() instanceof Functions.Clear)          return 0;
+        return -1;
+    }
+
+    private static boolean isPassThrough(final Change<?> change) {
+        return change instanceof Origin || change instanceof ParallelOrigin || change instanceof Add;
+    }
+
+    // ====================================
+    //             ITERATION
+    // ====================================
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pending == null && currentInput < inputs.size()) {
+            pending = computeNext();
+        }
+        return pending != null;
+    }
+
+    /**
+     * @return (E[]): the next chunk, containing between 1 and {@code getChunkSize} elements
+     */
+    @Override
+    public E[] next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        final E[] chunk = pending;
+        pending = null;
+        return chunk;
+    }
+
+    /**
+     * Iterates over the elements of every remaining chunk, computing each chunk once the previous one has been
+     * consumed
+     * @return (Iterator< E >): iterator over the remaining elements
+     */
+    public Iterator<E> elements() {
+        return new Iterator<>() {
+
+            private E[] chunk = null;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (chunk != null && index < chunk.length) return true;
+                if (!ChunkCursor.this.hasNext()) return false;
+
+                chunk = ChunkCursor.this.next();
+                index = 0;
+                return true;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return chunk[index++];
+            }
+        };
+    }
+
+    /**
+     * Pushes the next block of the current input through the stages
+     * @return (E[]): the resulting chunk, null if every element in the block was filtered out
+     */
+    private E[] computeNext() {
+        final Input<E> input = inputs.get(currentInput);
+
+        // skips inputs which can no longer produce any element
+        if (position >= input.array.length || isExhausted(input.firstStage)) {
+            currentInput++;
+            position = 0;
+            return null;
+        }
+
+        final int end = Math.min(input.array.length, position + chunkSize);
+        E[] chunk = Arrays.copyOfRange(input.array, position, end);
+        position = end;
+
+        // for every stage the input goes through...
+        for (int i = input.firstStage; i < stages.length && chunk.length > 0; i++) {
+            final Stage<E> stage = stages[i];
+
+            // ...caps the number of elements let through...
+            if (stage.remaining >= 0) {
+                if (chunk.length > stage.remaining) chunk = Arrays.copyOf(chunk, stage.remaining);
+                stage.remaining -= chunk.length;
+            }
+            // ...or applies the change to the chunk
+            else if (!isPassThrough(stage.change)) {
+                chunk = stage.change.applyToImpl(chunk);
+            }
+        }
+
+        return chunk.length == 0 ? null : chunk;
+    }
+
+    /**
+     * Determines whether a stage reached by an input has stopped letting elements through
+     * @param firstStage ({@code int}): the first stage the input goes through
+     * @return (boolean): whether no element of the input can be output anymore
+     */
+    private boolean isExhausted(final int firstStage) {
+        for (int i = firstStage; i < stages.length; i++) {
+            if (stages[i].remaining == 0) return true;
+        }
+        return false;
+    }
+}
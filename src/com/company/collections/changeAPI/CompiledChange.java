@@ -0,0 +1,157 @@
+package com.company.collections.changeAPI;
+
+import com.company.utilities.ThreadUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Change} whose resolution has been planned once and for all, as returned by {@code Change.compile}. Rewriting
+ * and sequentialisation are done when the Change is compiled, and every stage builds its lookup structures (sorted
+ * values to remove, to retain or to replace...) ahead of time, so that applying the CompiledChange to an array only
+ * costs the application of each stage.<br><br>
+ *
+ * <u><i>Multithreading:</i></u><br><br>
+ *
+ * A CompiledChange is immutable and never saves checkpoints, so it can be applied to any number of arrays from any
+ * number of threads at the same time. {@code applyToAll} relies on this to apply it to a batch of arrays, spreading the
+ * arrays between threads rather than splitting each array.
+ *
+ * @param <E> the type the compiled Change operates on
+ * @author Eliot McNab
+ */
+public final class CompiledChange<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private final ResolutionPlan<E> plan;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    CompiledChange(@NotNull final ResolutionPlan<E> plan) {
+        this.plan = Objects.requireNonNull(plan);
+
+        // builds every lookup structure once, before the first application
+        for (ResolutionPlan.Stage<E> stage : plan.getStages()) {
+            stage.getChange().prepare();
+        }
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    /**
+     * Applies the compiled {@link Change} to the given array, without modifying it
+     * @param array ({@code E[]}): the array to apply the change to
+     * @return (E[]): resulting changed array
+     */
+    public E[] applyTo(@NotNull final E[] array) {
+        Objects.requireNonNull(array);
+        return Change.execute(plan, array, null);
+    }
+
+    /**
+     * Applies the compiled {@link Change} to the given {@link Collection} through a call to its toArray method
+     * @param c ({@code Collection<? extends E>}): the collection to apply the change to
+     * @return (E[]): resulting changed array
+     */
+    public E[] applyTo(@NotNull final Collection<? extends E> c) {
+        return applyTo((E[]) c.toArray());
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    /**
+     * Applies the compiled {@link Change} to every given array, without modifying them. Arrays are spread between as
+     * many tasks as there are available processors, each task taking the next array left once it is done with the
+     * previous one, so that batches of many small arrays are processed in parallel. Tasks run on the executor shared
+     * by every parallel Change (see {@code ParallelChange.setExecutor}).
+     * @param arrays ({@code E[][]}): the arrays to apply the change to
+     * @return (E[][]): resulting changed arrays, in the same order as the given arrays
+     */
+    public E[][] applyToAll(@NotNull final E[][] arrays) {
+        return applyToAll(arrays, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Applies the compiled {@link Change} to every given array, without modifying them. Arrays are spread between at
+     * most the given number of tasks, each task taking the next array left once it is done with the previous one.
+     * @param arrays ({@code E[][]}): the arrays to apply the change to
+     * @param threadCount ({@code int}): maximum number of tasks applying the change at the same time
+     * @return (E[][]): resulting changed arrays, in the same order as the given arrays
+     */
+    public E[][] applyToAll(
+            @NotNull final E[][] arrays,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(arrays);
+        if (threadCount <= 0) throw new IllegalArgumentException("Thread count must be strictly positive");
+
+        final E[][] results = Arrays.copyOf(arrays, arrays.length);
+        final AtomicInteger next = new AtomicInteger(0); // next array to apply the change to
+
+        // the task run in parallel: applies the change to arrays until there are none left
+        final Runnable task = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < arrays.length) results[i] = applyTo(arrays[i]);
+        };
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        final Runnable[] tasks = new Runnable[Math.min(threadCount, arrays.length)];
+        Arrays.fill(tasks, task);
+        ThreadUtil.runAll(tasks);
+
+        return results;
+    }
+
+    /**
+     * Applies the compiled {@link Change} to every array in the given {@link Iterable}, without modifying them. See
+     * {@code applyToAll(E[][])}.
+     * @param arrays ({@code Iterable<E[]>}): the arrays to apply the change to
+     * @return (List< E[] >): resulting changed arrays, in iteration order
+     */
+    public List<E[]> applyToAll(@NotNull final Iterable<E[]> arrays) {
+        Objects.requireNonNull(arrays);
+
+        final List<E[]> inputs = new ArrayList<>();
+        for (E[] array : arrays) inputs.add(array);
+
+        return Arrays.asList(applyToAll((E[][]) inputs.toArray(new Object[0][])));
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    /**
+     * @return (ResolutionPlan< E >): the plan followed on every application
+     */
+    public ResolutionPlan<E> getPlan() {
+        return plan;
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "CompiledChange{stages=" +
+                plan.getStages().size() +
+                ", target=" +
+                plan.getTarget() +
+                "}";
+    }
+}
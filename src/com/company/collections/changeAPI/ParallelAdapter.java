@@ -4,6 +4,9 @@ import com.company.collections.changeAPI.changes.parallel.ParallelChange;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 public class ParallelAdapter<E> extends ParallelChange<E> {
 
     // ====================================
@@ -42,6 +45,17 @@ public class ParallelAdapter<E> extends ParallelChange<E> {
         this.adapted = adapted;
     }
 
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    /**
+     * @return (Change< E >): the single-thread Change applied by this ParallelAdapter
+     */
+    public Change<E> getAdapted() {
+        return adapted;
+    }
+
     // ====================================
     //           MULTITHREADING
     // ====================================
@@ -70,6 +84,31 @@ public class ParallelAdapter<E> extends ParallelChange<E> {
         return adapted.applyToImpl(array);
     }
 
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] array) {
+        return adapted.applyInPlace(array);
+    }
+
+    @Override
+    protected void prepare() {
+        adapted.prepare();
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        return adapted.resultSize(inputSize);
+    }
+
+    @Override
+    protected Membership membership(final Object o) {
+        return adapted.membership(o);
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return adapted.streamStage();
+    }
+
     // ====================================
     //          ARRAY CONVERSION
     // ====================================
@@ -0,0 +1,288 @@
+package com.company.collections.changeAPI;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Memory-bounded cache of resolved arrays, keyed by {@link Change} node. Once enabled through
+ * {@code Change.setResolutionCache}, every call to {@code toArray} (and therefore every query relying on it such as
+ * {@code size}, {@code contains} or {@code findFirst}) first looks for the closest cached Change in its chain of
+ * parents. A cache hit on the queried Change itself skips resolution altogether, while a hit on one of its ancestors
+ * only resolves the Changes which were applied after that ancestor.<br><br>
+ *
+ * <u><i>Eviction:</i></u><br><br>
+ *
+ * Entries are evicted in least-recently-used order once the estimated size of all cached arrays exceeds the byte
+ * budget. Cached arrays are also only softly referenced, so they can be reclaimed by the garbage collector before
+ * the budget is reached if memory runs low.<br><br>
+ *
+ * <u><i>Warning:</i></u><br><br>
+ *
+ * Sizes are estimated from the length of the cached arrays only (header and references), the elements themselves are
+ * not taken into account since they are usually shared with the original array.<br><br>
+ *
+ * <u><i>Keys:</i></u><br><br>
+ *
+ * Changes are compared by identity and only weakly referenced, since every Change references its whole chain of
+ * parents. Caching the result of a Change therefore never keeps that chain alive: the entries of Changes which have
+ * been garbage collected are dropped the next time the cache is accessed.
+ *
+ * @author Eliot McNab
+ */
+public class ResolutionCache {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private static final long ARRAY_HEADER_SIZE = 16;
+    private static final long REFERENCE_SIZE = 8;
+    static final long ENTRY_OVERHEAD = 64;
+
+    private final long byteBudget;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final ReferenceQueue<Change<?>> collected = new ReferenceQueue<>();
+    private long usedBytes = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ResolutionCache(
+            final long byteBudget
+    ) {
+        if (byteBudget < 0) throw new IllegalArgumentException("Byte budget cannot be negative");
+
+        this.byteBudget = byteBudget;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    private record Entry(SoftReference<Object[]> reference, long bytes) {}
+
+    /**
+     * Weak reference to a {@link Change}, equal to the keys referencing the same Change instance
+     */
+    private static final class Key extends WeakReference<Change<?>> {
+
+        private final int hash;
+
+        private Key(
+                @NotNull final Change<?> change,
+                @Nullable final ReferenceQueue<Change<?>> queue
+        ) {
+            super(change, queue);
+            this.hash = System.identityHashCode(change);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+
+            // keys whose Change has been collected are only equal to themselves
+            final Change<?> change = get();
+            return change != null && change == key.get();
+        }
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public long getByteBudget() {
+        return byteBudget;
+    }
+
+    public synchronized long getUsedBytes() {
+        purge();
+        return usedBytes;
+    }
+
+    public synchronized int size() {
+        purge();
+        return entries.size();
+    }
+
+    /**
+     * Number of queries which found either the queried {@link Change} or one of its ancestors in the cache
+     * @return (long): the number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Number of queries which had to resolve their {@link Change} from generation 0
+     * @return (long): the number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    // ====================================
+    //              CACHING
+    // ====================================
+
+    /**
+     * Estimates the memory footprint of an array, not counting the elements it references
+     * @param array ({@code Object[]}): the array to estimate the size of
+     * @return (long): estimated size of the array in bytes
+     */
+    public static long estimateSize(@NotNull final Object[] array) {
+        return estimateSize(array.length);
+    }
+
+    /**
+     * Estimates the memory footprint of an array of the given length, not counting the elements it references
+     * @param length ({@code int}): the length of the array
+     * @return (long): estimated size of the array in bytes
+     */
+    static long estimateSize(final int length) {
+        return ARRAY_HEADER_SIZE + REFERENCE_SIZE * length;
+    }
+
+    /**
+     * Retrieves the array cached for the given {@link Change}. The returned array is shared with the cache and
+     * <strong>must not be mutated</strong>
+     * @param change ({@code Change<?>}): the change to look for
+     * @return (Object[]): the cached array, or null if none is available
+     */
+    @Nullable
+    synchronized Object[] get(@NotNull final Change<?> change) {
+        purge();
+
+        final Key key = new Key(change, null);
+        final Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        final Object[] array = entry.reference.get();
+        // the array was reclaimed by the garbage collector, forgets about the entry
+        if (array == null) {
+            entries.remove(key);
+            usedBytes -= entry.bytes;
+        }
+
+        return array;
+    }
+
+    /**
+     * Caches the given array for the specified {@link Change}. The cache takes ownership of the array, which
+     * <strong>must not be mutated</strong> afterwards
+     * @param change ({@code Change<?>}): the change the array is the result of
+     * @param array ({@code Object[]}): the resolved array
+     */
+    synchronized void put(
+            @NotNull final Change<?> change,
+            @NotNull final Object[] array
+    ) {
+        Objects.requireNonNull(change);
+        Objects.requireNonNull(array);
+
+        final long bytes = estimateSize(array) + ENTRY_OVERHEAD;
+        // arrays bigger than the whole budget would evict every other entry for nothing
+        if (bytes > byteBudget) return;
+
+        purge();
+        final Entry previous = entries.put(new Key(change, collected), new Entry(new SoftReference<>(array), bytes));
+        if (previous != null) usedBytes -= previous.bytes;
+        usedBytes += bytes;
+
+        evict();
+    }
+
+    synchronized void recordLookup(final boolean hit) {
+        if (hit) hitCount++;
+        else     missCount++;
+    }
+
+    /**
+     * Removes the least recently used entries until the cache fits within its byte budget. Entries whose arrays have
+     * already been reclaimed are removed first.
+     */
+    private void evict() {
+        // forgets about reclaimed arrays
+        final Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next().getValue();
+            if (entry.reference.get() == null) {
+                usedBytes -= entry.bytes;
+                iterator.remove();
+            }
+        }
+
+        // removes the least recently used entries
+        final Iterator<Map.Entry<Key, Entry>> lru = entries.entrySet().iterator();
+        while (usedBytes > byteBudget && lru.hasNext()) {
+            usedBytes -= lru.next().getValue().bytes;
+            lru.remove();
+        }
+    }
+
+    /**
+     * Removes the entries of the {@link Change Changes} which have been garbage collected
+     */
+    private void purge() {
+        Reference<? extends Change<?>> key;
+        while ((key = collected.poll()) != null) {
+            final Entry entry = entries.remove(key);
+            if (entry != null) usedBytes -= entry.bytes;
+        }
+    }
+
+    /**
+     * Clears every cached array the way the garbage collector does when memory runs low, leaving their entries to be
+     * dropped the next time they are looked up
+     */
+    synchronized void reclaimAll() {
+        for (Entry entry : entries.values()) entry.reference.clear();
+    }
+
+    /**
+     * Removes the array cached for the given {@link Change}, if any
+     * @param change ({@code Change<?>}): the change to forget about
+     */
+    public synchronized void invalidate(@NotNull final Change<?> change) {
+        final Entry entry = entries.remove(new Key(change, null));
+        if (entry != null) usedBytes -= entry.bytes;
+    }
+
+    /**
+     * Removes every cached array
+     */
+    public synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+        purge();
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public synchronized String toString() {
+        return "ResolutionCache{entries=" +
+                entries.size() +
+                ", usedBytes=" +
+                usedBytes +
+                ", byteBudget=" +
+                byteBudget +
+                "}";
+    }
+}
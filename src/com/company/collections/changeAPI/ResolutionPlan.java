@@ -0,0 +1,308 @@
+package com.company.collections.changeAPI;
+
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
+import com.company.collections.changeAPI.changes.singlethread.functions.FusedChange;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Physical plan followed when resolving a {@link Change}, as returned by {@code Change.explain}. Describes where
+ * resolution starts from and every {@link Stage} applied to the array afterwards: which Changes were grouped together,
+ * which algorithm applies them, how many threads it uses and how big the arrays it handles are expected to be.<br><br>
+ *
+ * <u><i>Estimates:</i></u><br><br>
+ *
+ * Sizes are estimated without applying any Change, so they are only known for as long as every previous Change has a
+ * predictable resulting size. Filters such as {@code removeIf} make every following estimate unknown, in which case
+ * it is reported as -1.
+ *
+ * @param <E> the type the resolved Change operates on
+ * @author Eliot McNab
+ */
+public class ResolutionPlan<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    /**
+     * Where resolution starts from
+     */
+    public enum Source {
+        /** the array given to {@code applyTo} */
+        ARRAY,
+        /** the array associated to the generation 0 Change */
+        ORIGIN,
+        /** the checkpoint of an ancestor, or of the resolved Change itself */
+        CHECKPOINT,
+        /** the array cached for an ancestor, or for the resolved Change itself */
+        CACHE
+    }
+
+    /**
+     * How a {@link Stage} applies its Changes
+     */
+    public enum Kind {
+        /** a single Change applied on its own */
+        DIRECT,
+        /** multiple Changes grouped through {@code toSequential} */
+        SEQUENTIALISED,
+        /** element-wise Changes applied in a single pass by a {@link FusedChange} */
+        FUSED,
+        /** element-wise ParallelChanges applied chunk by chunk by a {@link ParallelPipeline} */
+        PIPELINED
+    }
+
+    private final Source source;
+    private final int startGeneration;
+    private final int inputSize;
+    private final List<Stage<E>> stages;
+    private final List<Checkpoint<E>> checkpoints;
+    private final Change<E> target;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    ResolutionPlan(
+            @NotNull final Source source,
+            final int startGeneration,
+            final int inputSize,
+            @NotNull final List<Stage<E>> stages,
+            @NotNull final List<Checkpoint<E>> checkpoints,
+            @Nullable final Change<E> target
+    ) {
+        this.source = source;
+        this.startGeneration = startGeneration;
+        this.inputSize = inputSize;
+        this.stages = Collections.unmodifiableList(stages);
+        this.checkpoints = Collections.unmodifiableList(checkpoints);
+        this.target = target;
+    }
+
+    /**
+     * Checkpoint to save once the given number of stages have been applied
+     */
+    record Checkpoint<E>(int after, Change<E> change) {}
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * Generation of the Change whose result resolution starts from, -1 when starting from an array no Change has
+     * been applied to yet
+     * @return (int): the generation resolution starts from
+     */
+    public int getStartGeneration() {
+        return startGeneration;
+    }
+
+    /**
+     * @return (int): length of the array resolution starts from, -1 if unknown
+     */
+    public int getInputSize() {
+        return inputSize;
+    }
+
+    public List<Stage<E>> getStages() {
+        return stages;
+    }
+
+    /**
+     * @return (int): estimated length of the resolved array, -1 if unknown
+     */
+    public int getEstimatedOutputSize() {
+        return stages.isEmpty() ? inputSize : stages.get(stages.size() - 1).estimatedOutputSize;
+    }
+
+    /**
+     * Estimated number of bytes allocated for the result arrays of every stage, not counting stages whose sizes are
+     * unknown
+     * @return (long): the estimated allocation of the whole resolution, in bytes
+     */
+    public long getEstimatedAllocation() {
+        long total = 0;
+        for (Stage<E> stage : stages) {
+            if (stage.estimatedAllocation > 0) total += stage.estimatedAllocation;
+        }
+        return total;
+    }
+
+    List<Checkpoint<E>> getCheckpoints() {
+        return checkpoints;
+    }
+
+    @Nullable
+    Change<E> getTarget() {
+        return target;
+    }
+
+    static long estimateAllocation(
+            final int inputSize,
+            final int outputSize
+    ) {
+        // arrays whose size is unknown are at most as big as their input
+        final int size = outputSize >= 0 ? outputSize : inputSize;
+        return size < 0 ? -1 : ResolutionCache.estimateSize(size);
+    }
+
+    // ====================================
+    //               STAGES
+    // ====================================
+
+    /**
+     * Single step of a {@link ResolutionPlan}, applying one or more {@link Change Changes} to the array at once
+     * @param <E> the type the Changes operate on
+     */
+    public static final class Stage<E> {
+
+        private final Change<E>[] sources;
+        private final Change<E> change;
+        private final Kind kind;
+        private final boolean rewritten;
+        private final boolean adapted;
+        private final int threadCount;
+        private final int estimatedInputSize;
+        private final int estimatedOutputSize;
+        private final long estimatedAllocation;
+
+        Stage(
+                @NotNull final Change<E>[] sources,
+                @NotNull final Change<E> change,
+                final boolean rewritten,
+                final int estimatedInputSize,
+                final int estimatedOutputSize
+        ) {
+            this.sources = sources;
+            this.change = change;
+            this.rewritten = rewritten;
+            this.estimatedInputSize = estimatedInputSize;
+            this.estimatedOutputSize = estimatedOutputSize;
+            this.estimatedAllocation = estimateAllocation(estimatedInputSize, estimatedOutputSize);
+
+            if (change instanceof FusedChange)           this.kind = Kind.FUSED;
+            else if (change instanceof ParallelPipeline) this.kind = Kind.PIPELINED;
+            else if (sources.length > 1)                 this.kind = Kind.SEQUENTIALISED;
+            else                                         this.kind = Kind.DIRECT;
+
+            // parallel changes relying on a single thread implementation
+            this.adapted = Arrays.stream(sources).anyMatch(source -> source instanceof ParallelAdapter);
+
+            if (!adapted && change instanceof ParallelChange<E> parallel) this.threadCount = parallel.getCoreCount();
+            else                                                         this.threadCount = 1;
+        }
+
+        /**
+         * @return (Change< E >[]): the Changes applied by this stage, after rewriting
+         */
+        public Change<E>[] getSources() {
+            return Arrays.copyOf(sources, sources.length);
+        }
+
+        /**
+         * @return (Change< E >): the Change actually applied to the array
+         */
+        public Change<E> getChange() {
+            return change;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getAlgorithm() {
+            return change.getClass().getSimpleName();
+        }
+
+        /**
+         * @return (boolean): whether this stage was produced by the {@link ChainRewriter} rather than by the Changes
+         * which were originally linked together
+         */
+        public boolean isRewritten() {
+            return rewritten;
+        }
+
+        /**
+         * @return (boolean): whether this stage comes from a {@link ParallelAdapter}, and is therefore applied by a
+         * single-thread implementation
+         */
+        public boolean isAdapted() {
+            return adapted;
+        }
+
+        public int getThreadCount() {
+            return threadCount;
+        }
+
+        public int getEstimatedInputSize() {
+            return estimatedInputSize;
+        }
+
+        public int getEstimatedOutputSize() {
+            return estimatedOutputSize;
+        }
+
+        public long getEstimatedAllocation() {
+            return estimatedAllocation;
+        }
+
+        @Override
+        public String toString() {
+            return kind +
+                    " " +
+                    getAlgorithm() +
+                    (rewritten ? " (rewritten)" : "") +
+                    (adapted ? " (adapted)" : "") +
+                    " threads=" +
+                    threadCount +
+                    " in=" +
+                    (estimatedInputSize < 0 ? "?" : estimatedInputSize) +
+                    " out=" +
+                    (estimatedOutputSize < 0 ? "?" : estimatedOutputSize) +
+                    " alloc=" +
+                    (estimatedAllocation < 0 ? "?" : estimatedAllocation + "B") +
+                    " <- " +
+                    Arrays.toString(Arrays.stream(sources).map(source -> source.getClass().getSimpleName()).toArray());
+        }
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("ResolutionPlan{source=")
+                .append(source)
+                .append(", startGeneration=")
+                .append(startGeneration)
+                .append(", in=")
+                .append(inputSize < 0 ? "?" : inputSize)
+                .append(", out=")
+                .append(getEstimatedOutputSize() < 0 ? "?" : getEstimatedOutputSize())
+                .append(", alloc=")
+                .append(getEstimatedAllocation())
+                .append("B}");
+
+        int checkpoint = 0;
+        for (int i = 0; i <= stages.size(); i++) {
+            // checkpoints saved once i stages have been applied
+            while (checkpoint < checkpoints.size() && checkpoints.get(checkpoint).after == i) {
+                builder.append("\n  CHECKPOINT generation=").append(checkpoints.get(checkpoint++).change.getGeneration());
+            }
+            if (i < stages.size()) builder.append("\n  ").append(i + 1).append(". ").append(stages.get(i));
+        }
+
+        return builder.toString();
+    }
+}
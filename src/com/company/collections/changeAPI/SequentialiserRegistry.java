@@ -0,0 +1,255 @@
+package com.company.collections.changeAPI;
+
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveAll;
+import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveFirst;
+import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveIf;
+import com.company.collections.changeAPI.changes.parallel.remove.SequentialParallelRemove;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceAll;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceAllIf;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceAt;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceFirstIf;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceLastIf;
+import com.company.collections.changeAPI.changes.parallel.retain.ParallelRetainAll;
+import com.company.collections.changeAPI.changes.parallel.retain.ParallelRetainFirst;
+import com.company.collections.changeAPI.changes.parallel.retain.ParallelRetainIf;
+import com.company.collections.changeAPI.changes.singlethread.add.Add;
+import com.company.collections.changeAPI.changes.singlethread.add.SequentialAdd;
+import com.company.collections.changeAPI.changes.singlethread.remove.*;
+import com.company.collections.changeAPI.changes.singlethread.replace.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of <i>sequentialisation families</i>. {@link Change Changes} belonging to the same family can be
+ * sequentialised together, in which case the family's {@link Sequentialiser} creates the Change applying them all at
+ * once. During resolution, whether two consecutive Changes can be sequentialised is determined with a single lookup
+ * of each Change's class in the registry, instead of each Change scanning the classes it is compatible with.<br><br>
+ *
+ * <u><i>Custom Changes:</i></u><br><br>
+ *
+ * User-defined Changes can either register their own family, or join an existing one as long as they are compatible
+ * with its sequentialiser. For example, any {@link RemoveBase} relying on a filter can join the {@link #REMOVE_IF}
+ * family, and will then be applied in the same pass as the built-in {@link RemoveIf} Changes next to it. Changes whose
+ * class is not registered fall back to their own {@code canSequentialise} and {@code toSequential} methods.
+ *
+ * @author Eliot McNab
+ */
+public final class SequentialiserRegistry {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    public static final String ADD                       = "add";
+    public static final String REMOVE                    = "remove";
+    public static final String REMOVE_AT                 = "removeAt";
+    public static final String REMOVE_IF                 = "removeIf";
+    public static final String REPLACE_AT                = "replaceAt";
+    public static final String REPLACE_ALL_IF            = "replaceAllIf";
+    public static final String REPLACE_FIRST_IF          = "replaceFirstIf";
+    public static final String REPLACE_LAST_IF           = "replaceLastIf";
+    public static final String PARALLEL_REMOVE           = "parallelRemove";
+    public static final String PARALLEL_REPLACE_AT       = "parallelReplaceAt";
+    public static final String PARALLEL_REPLACE_ALL      = "parallelReplaceAll";
+    public static final String PARALLEL_REPLACE_ALL_IF   = "parallelReplaceAllIf";
+    public static final String PARALLEL_REPLACE_FIRST_IF = "parallelReplaceFirstIf";
+    public static final String PARALLEL_REPLACE_LAST_IF  = "parallelReplaceLastIf";
+    public static final String PARALLEL_RETAIN           = "parallelRetain";
+    public static final String PARALLEL_RETAIN_FIRST     = "parallelRetainFirst";
+
+    private static final Map<Class<?>, String> FAMILIES = new ConcurrentHashMap<>();
+    private static final Map<String, Sequentialiser> SEQUENTIALISERS = new ConcurrentHashMap<>();
+
+    static {
+        register(ADD, SequentialAdd::new, Add.class);
+        register(REMOVE, SequentialRemove::new, RemoveAll.class, RemoveFirst.class);
+        register(REMOVE_AT, SequentialRemoveAt::new, RemoveAt.class);
+        register(REMOVE_IF, SequentialRemoveIf::new, RemoveIf.class);
+        register(REPLACE_AT, SequentialReplaceAt::new, ReplaceAt.class);
+        register(REPLACE_ALL_IF, SequentialReplaceAllIf::new, ReplaceAllIf.class);
+        register(REPLACE_FIRST_IF, SequentialReplaceFirstIf::new, ReplaceFirstIf.class);
+        register(REPLACE_LAST_IF, SequentialReplaceLastIf::new, ReplaceLastIf.class);
+        register(
+                PARALLEL_REMOVE,
+                SequentialiserRegistry::sequentialiseParallelRemove,
+                ParallelRemoveAll.class,
+                ParallelRemoveFirst.class
+        );
+        register(PARALLEL_REPLACE_AT, SequentialiserRegistry::sequentialiseParallel, ParallelReplaceAt.class);
+        register(PARALLEL_REPLACE_ALL, SequentialiserRegistry::sequentialiseParallel, ParallelReplaceAll.class);
+        register(PARALLEL_REPLACE_ALL_IF, SequentialiserRegistry::sequentialiseParallel, ParallelReplaceAllIf.class);
+        register(
+                PARALLEL_REPLACE_FIRST_IF,
+                SequentialiserRegistry::sequentialiseParallel,
+                ParallelReplaceFirstIf.class
+        );
+        register(PARALLEL_REPLACE_LAST_IF, SequentialiserRegistry::sequentialiseParallel, ParallelReplaceLastIf.class);
+        register(
+                PARALLEL_RETAIN,
+                SequentialiserRegistry::sequentialiseParallel,
+                ParallelRetainAll.class,
+                ParallelRetainIf.class,
+                ParallelRemoveIf.class
+        );
+        register(PARALLEL_RETAIN_FIRST, SequentialiserRegistry::sequentialiseParallel, ParallelRetainFirst.class);
+    }
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    private SequentialiserRegistry() {}
+
+    /**
+     * Creates the {@link Change} applying multiple Changes of the same family at once
+     */
+    public interface Sequentialiser {
+
+        /**
+         * @param clazz ({@code Class<E>}): the class the Changes operate on
+         * @param changes ({@code Change<E>[]}): the Changes to sequentialise, from oldest to newest
+         * @return (Change< E >): the resulting sequentialised Change
+         * @param <E> the type the Changes operate on
+         */
+        <E> Change<E> sequentialise(
+                @NotNull Class<E> clazz,
+                @NotNull Change<E>[] changes
+        );
+    }
+
+    // ====================================
+    //            REGISTRATION
+    // ====================================
+
+    /**
+     * Registers a new family of sequentialisable {@link Change Changes}, replacing any sequentialiser previously
+     * registered for it
+     * @param family ({@code String}): id of the family
+     * @param sequentialiser ({@code Sequentialiser}): creates the Change applying multiple Changes of the family at once
+     * @param members ({@code Class<?>...}): classes of the Changes belonging to the family
+     */
+    public static void register(
+            @NotNull final String family,
+            @NotNull final Sequentialiser sequentialiser,
+            @NotNull final Class<?>... members
+    ) {
+        Objects.requireNonNull(family);
+        Objects.requireNonNull(sequentialiser);
+
+        SEQUENTIALISERS.put(family, sequentialiser);
+        for (Class<?> member : members) join(member, family);
+    }
+
+    /**
+     * Adds a {@link Change} class to an existing family. The class must be supported by the family's
+     * {@link Sequentialiser}. Only the exact class is added, not its subclasses.
+     * @param member ({@code Class<?>}): the class of the Change joining the family
+     * @param family ({@code String}): id of the family
+     * @throws IllegalArgumentException if the family has not been registered
+     */
+    public static void join(
+            @NotNull final Class<?> member,
+            @NotNull final String family
+    ) {
+        Objects.requireNonNull(member);
+        if (!SEQUENTIALISERS.containsKey(Objects.requireNonNull(family))) {
+            throw new IllegalArgumentException("Unknown sequentialisation family " + family);
+        }
+        if (!Change.class.isAssignableFrom(member)) {
+            throw new IllegalArgumentException(member.getName() + " is not a Change");
+        }
+
+        FAMILIES.put(member, family);
+    }
+
+    /**
+     * Removes a {@link Change} class from its family, after which it falls back to its own sequentialisation methods
+     * @param member ({@code Class<?>}): the class of the Change leaving its family
+     */
+    public static void leave(@NotNull final Class<?> member) {
+        FAMILIES.remove(Objects.requireNonNull(member));
+    }
+
+    /**
+     * @param member ({@code Class<?>}): the class of a Change
+     * @return (String): the id of the family the class belongs to, null if it has not been registered
+     */
+    @Nullable
+    public static String getFamily(@NotNull final Class<?> member) {
+        return FAMILIES.get(member);
+    }
+
+    // ====================================
+    //          SEQUENTIALISATION
+    // ====================================
+
+    /**
+     * Determines whether two {@link Change Changes} belong to the same registered family
+     * @param first ({@code Change<?>}): the first Change
+     * @param second ({@code Change<?>}): the Change applied after it
+     * @return (boolean): whether both Changes can be sequentialised through the registry
+     */
+    public static boolean isSameFamily(
+            @NotNull final Change<?> first,
+            @NotNull final Change<?> second
+    ) {
+        final String family = FAMILIES.get(first.getClass());
+        return family != null && family.equals(FAMILIES.get(second.getClass()));
+    }
+
+    /**
+     * Determines whether two consecutive {@link Change Changes} can be sequentialised, falling back to the first
+     * Change's {@code canSequentialise} method if its class has not been registered
+     * @param first ({@code Change<E>}): the first Change
+     * @param second ({@code Change<E>}): the Change applied after it
+     * @return (boolean): whether both Changes can be sequentialised
+     * @param <E> the type the Changes operate on
+     */
+    static <E> boolean canSequentialise(
+            @NotNull final Change<E> first,
+            @NotNull final Change<E> second
+    ) {
+        final String family = FAMILIES.get(first.getClass());
+        if (family == null) return first.canSequentialise(second);
+        return family.equals(FAMILIES.get(second.getClass()));
+    }
+
+    /**
+     * Sequentialises the given {@link Change Changes} using their family's {@link Sequentialiser}, falling back to
+     * the first Change's {@code toSequential} method if its class has not been registered
+     * @param changes ({@code Change<E>[]}): the Changes to sequentialise, from oldest to newest
+     * @return (Change< E >): the resulting sequentialised Change
+     * @param <E> the type the Changes operate on
+     */
+    static <E> Change<E> toSequential(@NotNull final Change<E>[] changes) {
+        final Change<E> first = changes[0];
+        final String family = FAMILIES.get(first.getClass());
+        final Sequentialiser sequentialiser = family == null ? null : SEQUENTIALISERS.get(family);
+
+        if (sequentialiser == null) return first.toSequential(changes);
+        return sequentialiser.sequentialise(first.clazz, changes);
+    }
+
+    private static <E> Change<E> sequentialiseParallelRemove(
+            final Class<E> clazz,
+            final Change<E>[] changes
+    ) {
+        return new SequentialParallelRemove<>(clazz, ((ParallelChange<E>) changes[0]).getCoreCount(), changes);
+    }
+
+    /**
+     * Sequentialises {@link ParallelChange ParallelChanges} using the first Change's {@code toSequential} method, which
+     * keeps its number of threads
+     */
+    private static <E> Change<E> sequentialiseParallel(
+            final Class<E> clazz,
+            final Change<E>[] changes
+    ) {
+        return changes[0].toSequential(changes);
+    }
+}
@@ -7,4 +7,12 @@ public interface Multipliable<E> {
     E mult(@NotNull final E element);
 
     E mult(final int num);
+
+    /**
+     * @return (boolean): whether multiplication is associative, in which case parallel Changes may multiply elements by
+     * groups
+     */
+    default boolean isMultiplicationAssociative() {
+        return false;
+    }
 }
@@ -18,6 +18,20 @@ public abstract class Operator<E> {
         return new OPERATIONS[0];
     }
 
+    /**
+     * Determines whether an operation is associative, {@code op(op(a, b), c)} being equal to {@code op(a, op(b, c))}.
+     * Associative operations may be computed over many elements by grouping them in any way, which lets parallel
+     * Changes split the elements between threads. Operators are free to declare an operation associative when its
+     * result only changes slightly once elements are grouped differently, such as floating point addition, parallel
+     * Changes still grouping the elements the same way whatever the number of threads. Integer addition and
+     * multiplication are associative even when they overflow, since integer arithmetic wraps around.
+     * @param operation ({@code OPERATIONS}): the operation to check
+     * @return (boolean): whether the operation is associative, false unless the operator declares it so
+     */
+    public boolean isAssociative(@NotNull final OPERATIONS operation) {
+        return false;
+    }
+
     public E add(@NotNull final E a, @NotNull final E b) throws OperationNotSupportedException {
         throw new OperationNotSupportedException(
                 "Addition is not supported by this operator"
@@ -7,4 +7,11 @@ public interface Summable<E> {
     E add(@NotNull final E element);
 
     E sub(@NotNull final E element);
+
+    /**
+     * @return (boolean): whether addition is associative, in which case parallel Changes may sum elements by groups
+     */
+    default boolean isAdditionAssociative() {
+        return false;
+    }
 }
@@ -13,6 +13,11 @@ public class ByteOperator extends Operator<Byte> {
         return new OPERATIONS[]{ADD, SUBTRACT, MULTIPLY, MULTIPLY_NUM, DIVIDE, DIVIDE_NUM};
     }
 
+    @Override
+    public boolean isAssociative(@NotNull OPERATIONS operation) {
+        return operation == ADD || operation == MULTIPLY;
+    }
+
     @Override
     public Byte add(@NotNull Byte a, @NotNull Byte b) throws OperationNotSupportedException {
         return (byte) (a + b);
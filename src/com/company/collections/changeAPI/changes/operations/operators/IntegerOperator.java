@@ -13,6 +13,11 @@ public class IntegerOperator extends Operator<Integer> {
         return new OPERATIONS[]{ADD, SUBTRACT, MULTIPLY, MULTIPLY_NUM, DIVIDE, DIVIDE_NUM};
     }
 
+    @Override
+    public boolean isAssociative(@NotNull OPERATIONS operation) {
+        return operation == ADD || operation == MULTIPLY;
+    }
+
     @Override
     public Integer add(@NotNull Integer a, @NotNull Integer b) throws OperationNotSupportedException {
         return Integer.sum(a, b);
@@ -14,6 +14,11 @@ public class LongOperator extends Operator<Long> {
         return new OPERATIONS[]{ADD, SUBTRACT, MULTIPLY, MULTIPLY_NUM, DIVIDE, DIVIDE_NUM};
     }
 
+    @Override
+    public boolean isAssociative(@NotNull OPERATIONS operation) {
+        return operation == ADD || operation == MULTIPLY;
+    }
+
     @Override
     public Long add(@NotNull Long a, @NotNull Long b) throws OperationNotSupportedException {
         return a + b;
@@ -13,6 +13,11 @@ public class ShortOperator extends Operator<Short> {
         return new OPERATIONS[]{ADD, SUBTRACT, MULTIPLY, MULTIPLY_NUM, DIVIDE, DIVIDE_NUM};
     }
 
+    @Override
+    public boolean isAssociative(@NotNull OPERATIONS operation) {
+        return operation == ADD || operation == MULTIPLY;
+    }
+
     @Override
     public Short add(@NotNull Short a, @NotNull Short b) throws OperationNotSupportedException {
         return (short) (a + b);
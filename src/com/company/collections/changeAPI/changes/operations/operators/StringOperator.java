@@ -15,6 +15,11 @@ public class StringOperator extends Operator<String> {
         return new OPERATIONS[]{ADD, SUBTRACT, MULTIPLY};
     }
 
+    @Override
+    public boolean isAssociative(@NotNull OPERATIONS operation) {
+        return operation == ADD;
+    }
+
     @Override
     public String add(@NotNull String a, @NotNull String b) throws OperationNotSupportedException {
         return a + b;
@@ -3,27 +3,47 @@ package com.company.collections.changeAPI.changes.parallel;
 import com.company.collections.ImmutableCollection;
 import com.company.collections.changeAPI.Change;
 import com.company.collections.changeAPI.ParallelAdapter;
+import com.company.collections.changeAPI.changes.operations.Multipliable;
+import com.company.collections.changeAPI.changes.operations.Operator;
+import com.company.collections.changeAPI.changes.operations.Summable;
+import com.company.collections.changeAPI.changes.parallel.add.ParallelAdd;
+import com.company.collections.changeAPI.changes.parallel.functions.ParallelForEach;
 import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveAll;
+import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveAt;
 import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveFirst;
+import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveIf;
 import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceAll;
 import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceAllIf;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceAt;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceFirstIf;
 import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceFirstOrLast;
+import com.company.collections.changeAPI.changes.parallel.replace.ParallelReplaceLastIf;
 import com.company.collections.changeAPI.changes.parallel.retain.ParallelRetainAll;
 import com.company.collections.changeAPI.changes.parallel.retain.ParallelRetainFirst;
+import com.company.collections.changeAPI.changes.parallel.retain.ParallelRetainIf;
 import com.company.collections.changeAPI.changes.singlethread.functions.FunctionalChange;
 import com.company.collections.changeAPI.changes.singlethread.functions.Functions;
-import com.company.collections.changeAPI.changes.singlethread.remove.RemoveAt;
-import com.company.collections.changeAPI.changes.singlethread.replace.ReplaceAt;
-import com.company.collections.changeAPI.changes.singlethread.replace.ReplaceFirstIf;
-import com.company.collections.changeAPI.changes.singlethread.replace.ReplaceLastIf;
+import com.company.collections.changeAPI.changes.singlethread.information.ChangeInformation;
+import com.company.collections.changeAPI.errors.OperationNotSupportedException;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.ThreadUtil;
+import com.company.utilities.TypeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.company.collections.changeAPI.changes.operations.Operator.OPERATIONS.ADD;
+import static com.company.collections.changeAPI.changes.operations.Operator.OPERATIONS.MULTIPLY;
 
 public abstract class ParallelChange<E> extends Change<E> {
 
@@ -86,12 +106,78 @@ public abstract class ParallelChange<E> extends Change<E> {
         return Runtime.getRuntime().availableProcessors();
     }
 
+    /**
+     * Sets the {@link Executor} every {@link ParallelChange} runs its partitions on, so that threads are reused across
+     * Changes and resolutions instead of being started for every partition. Defaults to a {@link ForkJoinPool} shared
+     * by all ParallelChanges, with as many threads as there are available processors
+     * @param executor ({@code Executor}): the executor to use, or null to go back to the default shared pool
+     */
+    public static void setExecutor(@Nullable final Executor executor) {
+        ThreadUtil.setExecutor(executor);
+    }
+
+    @NotNull
+    public static Executor getExecutor() {
+        return ThreadUtil.getExecutor();
+    }
+
+    /**
+     * Makes every {@link ParallelChange} run its partitions on virtual threads, which suits applications resolving
+     * many small Changes concurrently. Has no effect if the JVM does not support virtual threads.
+     * @return (boolean): whether ParallelChanges now run their partitions on virtual threads
+     */
+    public static boolean useVirtualThreads() {
+        return ThreadUtil.useVirtualThreads();
+    }
+
+    /**
+     * Resolves {@link ParallelChange ParallelChanges} inside the given action with their partitions run on the given
+     * {@link Executor}, for example {@link ThreadUtil#getVirtualThreadExecutor()}, without affecting ParallelChanges
+     * resolved elsewhere
+     * @param executor ({@code Executor}): the executor to use inside the action
+     * @param action ({@code Supplier<T>}): the action resolving ParallelChanges
+     * @return (T): the result of the action
+     * @param <T> the type of the result
+     */
+    public static <T> T withExecutor(
+            @NotNull final Executor executor,
+            @NotNull final Supplier<T> action
+    ) {
+        return ThreadUtil.callWith(executor, action);
+    }
+
     public abstract ParallelChange<E> setCoreCount(final int coreCount);
 
     public int getCoreCount() {
         return threadCount;
     }
 
+    /**
+     * @param length ({@code int}): the length of the array
+     * @return (Predicate< ? super E >[]): a new array holding predicates on the elements of a ParallelChange, such as
+     * the filters of Changes being sequentialised
+     * @param <E> the type the ParallelChange operates on
+     */
+    @SuppressWarnings("unchecked")
+    protected static <E> Predicate<? super E>[] newPredicateArray(final int length) {
+        return (Predicate<? super E>[]) new Predicate<?>[length];
+    }
+
+    // ====================================
+    //             PIPELINING
+    // ====================================
+
+    /**
+     * Gives the stage used to apply this Change to a single chunk of an array, which lets consecutive element-wise
+     * ParallelChanges be applied chunk by chunk by a {@link ParallelPipeline}
+     * @return (ParallelPipeline.ChunkStage< E >): the stage applying this Change to a chunk, or null if the result of
+     * this Change on a chunk depends on the rest of the array
+     */
+    @Nullable
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        return null;
+    }
+
     // ====================================
     //              REMOVING
     // ====================================
@@ -109,16 +195,21 @@ public abstract class ParallelChange<E> extends Change<E> {
         return new ParallelRemoveAll<>(clazz, elements, threadCount, this);
     }
 
-    public final ParallelAdapter<E> removeAt(int... indexes) {
-        return new ParallelAdapter<>(clazz, threadCount, new RemoveAt<>(clazz, indexes), this);
+    public final ParallelRemoveAt<E> removeAt(int... indexes) {
+        return new ParallelRemoveAt<>(clazz, indexes, threadCount, this);
+    }
+
+    @Override
+    public ParallelRemoveIf<E> removeIf(Predicate<? super E> filter) {
+        return new ParallelRemoveIf<>(clazz, threadCount, filter, this);
     }
 
     // ====================================
     //             REPLACING
     // ====================================
 
-    public final ParallelAdapter<E> replaceAt(Object... objects) {
-        return new ParallelAdapter<>(clazz, threadCount, new ReplaceAt<>(clazz, objects), this);
+    public final ParallelReplaceAt<E> replaceAt(Object... objects) {
+        return new ParallelReplaceAt<>(clazz, threadCount, objects, this);
     }
 
     public final ParallelReplaceAllIf<E> replaceAll(
@@ -133,11 +224,11 @@ public abstract class ParallelChange<E> extends Change<E> {
         return new ParallelReplaceAll<>(clazz, threadCount, values, this);
     }
 
-    public final ParallelAdapter<E> replaceFirst(
+    public final ParallelReplaceFirstIf<E> replaceFirst(
             @NotNull final Predicate<? super E> filter,
             @Nullable final E value
     ) {
-        return new ParallelAdapter<>(clazz, threadCount, new ReplaceFirstIf<>(clazz, filter, value), this);
+        return new ParallelReplaceFirstIf<>(clazz, threadCount, filter, value, this);
     }
 
     @SafeVarargs
@@ -145,11 +236,11 @@ public abstract class ParallelChange<E> extends Change<E> {
         return new ParallelReplaceFirstOrLast<>(clazz, threadCount, values, this);
     }
 
-    public final ParallelAdapter<E> replaceLast(
+    public final ParallelReplaceLastIf<E> replaceLast(
             @NotNull final Predicate<? super E> filter,
             @Nullable final E value
     ) {
-        return new ParallelAdapter<>(clazz, threadCount, new ReplaceLastIf<>(clazz, filter, value), this);
+        return new ParallelReplaceLastIf<>(clazz, threadCount, filter, value, this);
     }
 
     @SafeVarargs
@@ -181,6 +272,10 @@ public abstract class ParallelChange<E> extends Change<E> {
         return new ParallelRetainAll<>(clazz, threadCount, o, this);
     }
 
+    public ParallelRetainIf<E> retainIf(Predicate<? super E> filter) {
+        return new ParallelRetainIf<>(clazz, threadCount, filter, this);
+    }
+
     // ====================================
     //              CLEARING
     // ====================================
@@ -207,37 +302,168 @@ public abstract class ParallelChange<E> extends Change<E> {
     // ====================================
 
     public final ParallelAdapter<E> unique() {
-        final Function<E[], E[]> unique = array -> ArrayUtil.parallelRetainDistinct(array, threadCount);
+        final Function<E[], E[]> unique = array -> ArrayUtil.parallelRetainDistinctHashed(array, threadCount);
         final Change<E> change = new FunctionalChange<>(clazz, unique, this);
         return new ParallelAdapter<>(clazz, threadCount, change, this);
     }
 
     public final ParallelAdapter<E> unique(final Comparator<E> comparator) {
         final Function<E[], E[]> unique = array -> ArrayUtil.parallelRetainDistinct(array, threadCount, comparator);
-        final Change<E> change = new FunctionalChange<>(clazz, array -> ArrayUtil.retainDistinct(array, comparator), this);
+        final Change<E> change = new FunctionalChange<>(clazz, unique, this);
         return new ParallelAdapter<>(clazz, threadCount, change, this);
     }
 
+    // ====================================
+    //              LIMITING
+    // ====================================
+
+    public final ParallelAdapter<E> limit(final int maxSize) {
+        return new ParallelAdapter<>(clazz, threadCount, new FunctionalChange<>(clazz, Functions.limit(maxSize)), this);
+    }
+
+    public final ParallelAdapter<E> head(final int n) {
+        return limit(n);
+    }
+
     // ====================================
     //             FUNCTIONS
     // ====================================
 
-    public final ParallelAdapter<E> forEach(final Function<E, E> function) {
-        return new ParallelAdapter<>(clazz, threadCount, new FunctionalChange<>(clazz, Functions.forEach(function)), this);
+    public final ParallelForEach<E> forEach(final Function<E, E> function) {
+        return new ParallelForEach<>(clazz, threadCount, function, this);
     }
 
+    // ====================================
+    //               ADDING
+    // ====================================
+
     @Override
-    public ImmutableCollection<E> add(E e) {
-        return null;
+    public ParallelAdd<E> add(E e) {
+        final E[] toAdd = (E[]) Array.newInstance(clazz, 1);
+        toAdd[0] = e;
+        return new ParallelAdd<>(clazz, threadCount, toAdd, this);
     }
 
     @Override
-    public ImmutableCollection<E> addAll(Collection<? extends E> c) {
-        return null;
+    public ParallelAdd<E> addAll(Collection<? extends E> c) {
+        return new ParallelAdd<>(clazz, threadCount, c, this);
     }
 
-    @Override
-    public ImmutableCollection<E> removeIf(Predicate<? super E> filter) {
-        return null;
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final ParallelAdd<E> addAll(E... elements) {
+        return new ParallelAdd<>(clazz, threadCount, elements, this);
+    }
+
+    // ====================================
+    //             INFORMATION
+    // ====================================
+
+    /**
+     * Sums up every element. The elements are summed in parallel if addition is declared associative, by the elements
+     * themselves if they are {@link Summable} or by the basic {@link Operator} of their type otherwise, and from left
+     * to right on the calling thread if not (see {@link ArrayUtil#parallelReduce})
+     * @return (E): the sum of every element, null if there are none
+     */
+    public E sumOf() throws OperationNotSupportedException {
+        final E[] array = toArray();
+        if (array.length == 0) return null;
+
+        if (array[0] instanceof Summable<?> first) {
+            return first.isAdditionAssociative()
+                    ? ArrayUtil.parallelReduce(array, (a, b) -> ((Summable<E>) a).add(b), threadCount)
+                    : (E) ChangeInformation.sum().getInformation(array);
+        }
+
+        final Operator<E> operator = TypeUtil.getBasicOperator((Class<E>) array.getClass().getComponentType());
+        return reduce(array, operator, ADD, ChangeInformation.sum(), operator::add);
+    }
+
+    /**
+     * Sums up every element with the given {@link Operator}, in parallel if it declares addition associative
+     * @param operator ({@code Operator<E>}): the operator used to add elements
+     * @return (E): the sum of every element
+     */
+    public E sumOf(
+            @NotNull final Operator<E> operator
+    ) throws OperationNotSupportedException {
+        Objects.requireNonNull(operator);
+        return reduce(toArray(), operator, ADD, ChangeInformation.sum(operator), operator::add);
+    }
+
+    /**
+     * Subtracts every element from the first one, from left to right since subtraction is not associative
+     * @return (E): the difference of every element, null if there are none
+     */
+    public E differenceOf() throws OperationNotSupportedException {
+        return (E) ChangeInformation.difference().getInformation(toArray());
+    }
+
+    public E differenceOf(
+            @NotNull final Operator<E> operator
+    ) throws OperationNotSupportedException {
+        Objects.requireNonNull(operator);
+        return (E) ChangeInformation.difference(operator).getInformation(toArray());
+    }
+
+    /**
+     * Multiplies every element together, in parallel if multiplication is declared associative (see {@code sumOf})
+     * @return (E): the product of every element, null if there are none
+     */
+    public E multiplyAll() throws OperationNotSupportedException {
+        final E[] array = toArray();
+        if (array.length == 0) return null;
+
+        if (array[0] instanceof Multipliable<?> first) {
+            return first.isMultiplicationAssociative()
+                    ? ArrayUtil.parallelReduce(array, (a, b) -> ((Multipliable<E>) a).mult(b), threadCount)
+                    : (E) ChangeInformation.multiply().getInformation(array);
+        }
+
+        final Operator<E> operator = TypeUtil.getBasicOperator((Class<E>) array.getClass().getComponentType());
+        return reduce(array, operator, MULTIPLY, ChangeInformation.multiply(), operator::mult);
+    }
+
+    /**
+     * Multiplies every element together with the given {@link Operator}, in parallel if it declares multiplication
+     * associative
+     * @param operator ({@code Operator<E>}): the operator used to multiply elements
+     * @return (E): the product of every element
+     */
+    public E multiplyAll(
+            @NotNull final Operator<E> operator
+    ) throws OperationNotSupportedException {
+        Objects.requireNonNull(operator);
+        return reduce(toArray(), operator, MULTIPLY, ChangeInformation.multiply(operator), operator::mult);
+    }
+
+    /**
+     * Divides the first element by every other element, from left to right since division is not associative
+     * @return (E): the quotient of every element, null if there are none
+     */
+    public E divideAll() throws OperationNotSupportedException {
+        return (E) ChangeInformation.divide().getInformation(toArray());
+    }
+
+    public E divideAll(
+            @NotNull final Operator<E> operator
+    ) throws OperationNotSupportedException {
+        Objects.requireNonNull(operator);
+        return (E) ChangeInformation.divide(operator).getInformation(toArray());
+    }
+
+    /**
+     * Combines every element of the array in parallel if the operator declares the operation associative, or falls
+     * back to the sequential computation otherwise
+     */
+    private E reduce(
+            final E[] array,
+            final Operator<E> operator,
+            final Operator.OPERATIONS operation,
+            final ChangeInformation<E> sequential,
+            final BinaryOperator<E> combine
+    ) {
+        if (array.length == 0 || !operator.isAssociative(operation)) return (E) sequential.getInformation(array);
+        return ArrayUtil.parallelReduce(array, combine, threadCount);
     }
 }
@@ -4,6 +4,8 @@ import com.company.collections.changeAPI.Change;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class ParallelOrigin<E> extends ParallelChange<E> {
 
@@ -70,6 +72,21 @@ public class ParallelOrigin<E> extends ParallelChange<E> {
         return array;
     }
 
+    @Override
+    protected int resultSize(final int inputSize) {
+        return inputSize;
+    }
+
+    @Override
+    protected Membership membership(final Object o) {
+        return Membership.PRESERVES;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return Function.identity();
+    }
+
     // ====================================
     //          ARRAY CONVERSION
     // ====================================
@@ -0,0 +1,389 @@
+package com.company.collections.changeAPI.changes.parallel;
+
+import com.company.collections.changeAPI.Change;
+import com.company.utilities.Deadline;
+import com.company.utilities.Lazy;
+import com.company.utilities.ThreadUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * {@link ParallelChange} responsible for applying multiple consecutive element-wise ParallelChanges chunk by chunk
+ * rather than one after the other over the whole array. Element-wise ParallelChanges are those providing a
+ * {@link ChunkStage}, whose result on a chunk of the array does not depend on the rest of the array: {@code forEach},
+ * {@code replaceAll}, {@code retainIf}, {@code removeIf}, {@code retainAll} and {@code removeAll}.<br><br>
+ *
+ * <u><i>Algorithm:</i></u><br><br>
+ *
+ * The array is split into small chunks, {@link #CHUNK_SIZE} elements long, which each thread claims one after the
+ * other. A thread pushes the chunk it claimed through every stage before claiming the next one, so that the chunk is
+ * still in cache when the next stage reads it, and different chunks go through different stages at the same time
+ * without any thread waiting for the others between two stages. Filtering stages compact kept elements at the start
+ * of their chunk, and the chunks are concatenated once every one of them went through every stage.
+ * @param <E> the type the ParallelChange operates on
+ * @author Eliot McNab
+ */
+public class ParallelPipeline<E> extends ParallelChange<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    /**
+     * Number of elements in each chunk, small enough for a chunk of references to stay in a core's cache while it
+     * goes through every stage
+     */
+    public static final int CHUNK_SIZE = 1 << 12;
+
+    // changes as given to the constructor, which may themselves be ParallelPipelines
+    private final Change<E>[] parts;
+
+    // pipelined changes and their stages, built once and reused every time the pipeline is applied
+    private final Lazy<Change<E>[]> changes = new Lazy<>(this::flatten);
+    private final Lazy<ChunkStage<E>[]> stages = new Lazy<>(this::toStages);
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ParallelPipeline(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Change<E>[] changes
+    ) {
+        super(
+                clazz,
+                threadCount
+        );
+        this.parts = Arrays.copyOf(changes, changes.length);
+    }
+
+    // ====================================
+    //               STAGES
+    // ====================================
+
+    /**
+     * Applies an element-wise Change to a single chunk of an array, on the calling thread only
+     * @param <E> the type the Change operates on
+     */
+    public interface ChunkStage<E> {
+
+        /**
+         * Applies the Change to the elements of the array between the given indexes, moving the remaining elements
+         * to the start of the chunk
+         * @param array ({@code E[]}): the array to modify
+         * @param from ({@code int}): index of the first element in the chunk (inclusive)
+         * @param to ({@code int}): index of the last element in the chunk (exclusive)
+         * @return (int): index of the last remaining element in the chunk (exclusive)
+         */
+        int apply(
+                E[] array,
+                int from,
+                int to
+        );
+
+        /**
+         * @param stream ({@code Stream<E>}): the elements the Change is applied to
+         * @return (Stream< E >): the elements resulting from the Change, lazily
+         */
+        Stream<E> apply(Stream<E> stream);
+
+        /**
+         * @return (boolean): whether the Change may remove elements
+         */
+        boolean isFilter();
+
+        /**
+         * @param function ({@code Function<? super E, ? extends E>}): the function applied to every element
+         * @return (ChunkStage< E >): stage replacing every element with the result of the function
+         * @param <E> the type the Change operates on
+         */
+        static <E> ChunkStage<E> map(@NotNull final Function<? super E, ? extends E> function) {
+            return new MapStage<>(function);
+        }
+
+        /**
+         * @param filter ({@code Predicate<? super E>}): the predicate matching the elements to keep
+         * @return (ChunkStage< E >): stage keeping only the elements matching the predicate
+         * @param <E> the type the Change operates on
+         */
+        static <E> ChunkStage<E> retain(@NotNull final Predicate<? super E> filter) {
+            return new RetainStage<>(filter);
+        }
+    }
+
+    private record MapStage<E>(Function<? super E, ? extends E> function) implements ChunkStage<E> {
+        @Override
+        public int apply(
+                final E[] array,
+                final int from,
+                final int to
+        ) {
+            final Deadline deadline = Deadline.current();
+            for (int i = from; i < to; i++) {
+                Deadline.poll(deadline);
+                array[i] = function.apply(array[i]);
+            }
+            return to;
+        }
+
+        @Override
+        public Stream<E> apply(final Stream<E> stream) {
+            return stream.map(function);
+        }
+
+        @Override
+        public boolean isFilter() {
+            return false;
+        }
+    }
+
+    private record RetainStage<E>(Predicate<? super E> filter) implements ChunkStage<E> {
+        @Override
+        public int apply(
+                final E[] array,
+                final int from,
+                final int to
+        ) {
+            // elements are always written at or before the index they are read from
+            int k = from;
+            final Deadline deadline = Deadline.current();
+            for (int i = from; i < to; i++) {
+                Deadline.poll(deadline);
+                if (filter.test(array[i])) array[k++] = array[i];
+            }
+            return k;
+        }
+
+        @Override
+        public Stream<E> apply(final Stream<E> stream) {
+            return stream.filter(filter);
+        }
+
+        @Override
+        public boolean isFilter() {
+            return true;
+        }
+    }
+
+    /**
+     * Determines whether a {@link Change} can be applied by a {@link ParallelPipeline}
+     * @param change ({@code Change<?>}): the change to check
+     * @return (boolean): whether the change is an element-wise ParallelChange
+     */
+    public static boolean isPipelinable(@NotNull final Change<?> change) {
+        return change instanceof ParallelChange<?> parallel && parallel.chunkStage() != null;
+    }
+
+    private Change<E>[] flatten() {
+        return flatten(parts, change -> change instanceof ParallelPipeline<E> pipeline ? pipeline.parts : null);
+    }
+
+    private ChunkStage<E>[] toStages() {
+        final Change<E>[] changes = this.changes.get();
+        final ChunkStage<E>[] stages = (ChunkStage<E>[]) new ChunkStage<?>[changes.length];
+
+        for (int i = 0; i < changes.length; i++) {
+            final ChunkStage<E> stage = ((ParallelChange<E>) changes[i]).chunkStage();
+            if (stage == null) throw new IllegalArgumentException("Cannot pipeline " + changes[i]);
+            stages[i] = stage;
+        }
+
+        return stages;
+    }
+
+    @Override
+    protected ChunkStage<E> chunkStage() {
+        final ChunkStage<E>[] stages = this.stages.get();
+
+        return new ChunkStage<>() {
+            @Override
+            public int apply(
+                    final E[] array,
+                    final int from,
+                    final int to
+            ) {
+                int end = to;
+                for (ChunkStage<E> stage : stages) end = stage.apply(array, from, end);
+                return end;
+            }
+
+            @Override
+            public Stream<E> apply(Stream<E> stream) {
+                for (ChunkStage<E> stage : stages) stream = stage.apply(stream);
+                return stream;
+            }
+
+            @Override
+            public boolean isFilter() {
+                return Arrays.stream(stages).anyMatch(ChunkStage::isFilter);
+            }
+        };
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelPipeline<E> setCoreCount(int coreCount) {
+        return new ParallelPipeline<>(clazz, coreCount, parts);
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return false;
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return null;
+    }
+
+    @Override
+    protected void prepare() {
+        stages.get();
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return pipeline(array, (E[]) Array.newInstance(array.getClass().getComponentType(), array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] array) {
+        return pipeline(array, array);
+    }
+
+    /**
+     * Pushes every chunk of the source array through every stage, the chunk being copied into the result array first,
+     * which may be the source array itself
+     */
+    private E[] pipeline(
+            final E[] source,
+            final E[] result
+    ) {
+        final ChunkStage<E>[] stages = this.stages.get();
+
+        final int length = source.length;
+        final int chunkCount = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunkCount == 0) return result;
+
+        // number of elements left in each chunk once it went through every stage
+        final int[] remaining = new int[chunkCount];
+        // index of the next chunk to be claimed by a thread
+        final AtomicInteger next = new AtomicInteger();
+
+        final Runnable[] tasks = new Runnable[Math.min(threadCount, chunkCount)];
+
+        // the task run by each thread claims chunks until there are none left...
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = () -> {
+                int chunk;
+                while ((chunk = next.getAndIncrement()) < chunkCount) {
+                    Deadline.checkCurrent();
+                    final int from = chunk * CHUNK_SIZE;
+                    final int to = Math.min(from + CHUNK_SIZE, length);
+                    if (source != result) System.arraycopy(source, from, result, from, to - from);
+
+                    // ...and pushes each one through every stage while it is still in cache
+                    int end = to;
+                    for (ChunkStage<E> stage : stages) end = stage.apply(result, from, end);
+                    remaining[chunk] = end - from;
+                }
+            };
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return concatenate(result, remaining);
+    }
+
+    /**
+     * Gathers the elements left at the start of every chunk into a single array, in parallel
+     * @return (E[]): the given array if no element was removed, a new array otherwise
+     */
+    private E[] concatenate(
+            final E[] array,
+            final int[] remaining
+    ) {
+        final int chunkCount = remaining.length;
+
+        // computes where the elements of each chunk start in the result
+        final int[] offsets = new int[chunkCount + 1];
+        for (int i = 0; i < chunkCount; i++) offsets[i + 1] = offsets[i] + remaining[i];
+        if (offsets[chunkCount] == array.length) return array;
+
+        final E[] result = (E[]) Array.newInstance(array.getClass().getComponentType(), offsets[chunkCount]);
+        final int taskCount = Math.min(threadCount, chunkCount);
+        final Runnable[] tasks = new Runnable[taskCount];
+
+        // for every group of chunks...
+        for (int i = 0; i < taskCount; i++) {
+            final int first = (int) ((long) chunkCount * i / taskCount);
+            final int last = (int) ((long) chunkCount * (i + 1) / taskCount);
+
+            // ...the task run by each thread copies their remaining elements to their final position
+            tasks[i] = () -> {
+                for (int chunk = first; chunk < last; chunk++) {
+                    System.arraycopy(array, chunk * CHUNK_SIZE, result, offsets[chunk], remaining[chunk]);
+                }
+            };
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        for (ChunkStage<E> stage : stages.get()) {
+            if (stage.isFilter()) return -1;
+        }
+        return inputSize;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        final ChunkStage<E>[] stages = this.stages.get();
+        return stream -> {
+            for (ChunkStage<E> stage : stages) stream = stage.apply(stream);
+            return stream;
+        };
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public Change<E>[] getChanges() {
+        final Change<E>[] changes = this.changes.get();
+        return Arrays.copyOf(changes, changes.length);
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "ParallelPipeline{changes=" +
+                Arrays.toString(changes.get()) +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
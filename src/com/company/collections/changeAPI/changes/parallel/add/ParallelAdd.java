@@ -0,0 +1,170 @@
+package com.company.collections.changeAPI.changes.parallel.add;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.ThreadUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * {@link ParallelChange} responsible for adding elements to an array, each thread copying its own partition of the
+ * resulting array
+ * @param <E> the type the ParallelChange operates on
+ */
+public class ParallelAdd<E> extends ParallelChange<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    protected final E[] toAdd;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ParallelAdd(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            final E @NotNull [] toAdd
+    ) {
+        super(
+                clazz,
+                threadCount
+        );
+        this.toAdd = toAdd;
+    }
+
+    public ParallelAdd(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            final E @NotNull [] toAdd,
+            @Nullable final Change<E> parent
+    ) {
+        super(
+                clazz,
+                threadCount,
+                parent
+        );
+        this.toAdd = toAdd;
+    }
+
+    public ParallelAdd(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Collection<? extends E> c,
+            @Nullable final Change<E> parent
+    ) {
+        this(
+                clazz,
+                threadCount,
+                c.toArray((E[]) Array.newInstance(clazz, 0)),
+                parent
+        );
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelAdd<E> setCoreCount(int coreCount) {
+        return new ParallelAdd<>(clazz, coreCount, toAdd, getPreviousChange());
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return change instanceof ParallelAdd;
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        // consecutive additions are equivalent to adding all of their elements at once
+        final E[][] added = (E[][]) Array.newInstance(clazz.arrayType(), changes.length);
+        for (int i = 0; i < changes.length; i++) {
+            added[i] = ((ParallelAdd<E>) changes[i]).toAdd;
+        }
+
+        return new ParallelAdd<>(clazz, threadCount, ArrayUtil.concatenate(added));
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        final int length = array.length;
+        final E[] result = (E[]) Array.newInstance(clazz, length + toAdd.length);
+
+        // partitions the resulting array for each thread
+        final int[][] partitions = ArrayUtil.partition(result, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        // for every partition of the resulting array...
+        for (int i = 0; i < partitions.length; i++) {
+            // ...gets the partition
+            final int[] partition = partitions[i];
+
+            // the task run by each thread copies the original and added elements falling in its partition
+            final Runnable task = () -> {
+                final int from = partition[0];
+                final int to = partition[1];
+                final int split = Math.min(Math.max(from, length), to); // first added element in the partition
+
+                if (split > from) System.arraycopy(array, from, result, from, split - from);
+                if (to > split)   System.arraycopy(toAdd, split - length, result, split, to - split);
+            };
+
+            tasks[i] = task;
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        return inputSize < 0 ? -1 : inputSize + toAdd.length;
+    }
+
+    @Override
+    protected Membership membership(final Object o) {
+        return Arrays.asList(toAdd).contains(o) ? Membership.ADDS : Membership.PRESERVES;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> Stream.concat(stream, Arrays.stream(toAdd));
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public E[] getToAdd() {
+        return Arrays.copyOf(toAdd, toAdd.length);
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "ParallelAdd{toAdd=" +
+                Arrays.toString(toAdd) +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
@@ -0,0 +1,164 @@
+package com.company.collections.changeAPI.changes.parallel.functions;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.Deadline;
+import com.company.utilities.ThreadUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * {@link ParallelChange} applying a function to every element in an array, each thread mapping its own partition of
+ * the array. The function may be called from several threads at the same time, and in any order.
+ * @param <E> the type the ParallelChange operates on
+ * @author Eliot McNab
+ */
+public class ParallelForEach<E> extends ParallelChange<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private final Function<E, E> function;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ParallelForEach(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Function<E, E> function
+    ) {
+        super(
+                clazz,
+                threadCount
+        );
+        this.function = Objects.requireNonNull(function);
+    }
+
+    public ParallelForEach(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Function<E, E> function,
+            @Nullable final Change<E> parent
+    ) {
+        super(
+                clazz,
+                threadCount,
+                parent
+        );
+        this.function = Objects.requireNonNull(function);
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelForEach<E> setCoreCount(int coreCount) {
+        return new ParallelForEach<>(clazz, coreCount, function, getPreviousChange());
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return false;
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return null;
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        final E[] result = (E[]) Array.newInstance(array.getClass().getComponentType(), array.length);
+        return map(array, result);
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] array) {
+        return map(array, array);
+    }
+
+    @Override
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        return ParallelPipeline.ChunkStage.map(function);
+    }
+
+    /**
+     * Maps every element in the source array into the result array, which may be the source array itself
+     */
+    private E[] map(
+            final E[] source,
+            final E[] result
+    ) {
+        // partitions the array for each thread
+        final int[][] partitions = ArrayUtil.partition(source, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        // for every partition in the array...
+        for (int i = 0; i < partitions.length; i++) {
+            // ...gets the partition
+            final int[] partition = partitions[i];
+
+            // the task run by each thread
+            final Runnable task = () -> {
+                final Deadline deadline = Deadline.current();
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(deadline);
+                    result[j] = function.apply(source[j]);
+                }
+            };
+
+            tasks[i] = task;
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        return inputSize;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.map(function);
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public Function<E, E> getFunction() {
+        return function;
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "ParallelForEach{function=" +
+                function +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
@@ -1,10 +1,12 @@
 package com.company.collections.changeAPI.changes.parallel.remove;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 import com.company.utilities.comparators.ObjectComparator;
 
-import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -14,10 +16,8 @@ public class ParallelRemoveAll<E> extends ParallelRemoveBase<E> {
     //               FIELDS
     // ====================================
 
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            ParallelRemoveAll.class,
-            ParallelRemoveFirst.class
-    };
+    // sorted distinct values to remove, built once and reused every time the change is applied
+    private final Lazy<Object[]> uniqueToRemove = new Lazy<>(() -> ArrayUtil.sortedDistinct(toRemove));
 
     // ====================================
     //             CONSTRUCTOR
@@ -66,7 +66,7 @@ public class ParallelRemoveAll<E> extends ParallelRemoveBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
@@ -74,65 +74,32 @@ public class ParallelRemoveAll<E> extends ParallelRemoveBase<E> {
         return new SequentialParallelRemove<>(clazz, threadCount, changes);
     }
 
+    @Override
+    protected void prepare() {
+        uniqueToRemove.get();
+    }
+
     @Override
     protected E[] applyToImpl(E[] array) {
         // used for sorting and searching gor elements
         final Comparator<Object> comparator = new ObjectComparator();
 
-        // keeps only the unique elements to remove and sorts them
-        final Object[] uniqueToRemove = ArrayUtil.retainDistinctImpl(toRemove, new ObjectComparator());
-        Arrays.parallelSort(uniqueToRemove, comparator);
-
-        // splits the given array equally for each thread to access
-        final int[][] partitions = ArrayUtil.partition(array, threadCount);
-
-        // holds the result generated by each thread
-        final E[][] partialResults = (E[][]) Array.newInstance(clazz.arrayType(), partitions.length);
-        final Thread[] threads = new Thread[partitions.length];
-
-        // for very split section of the array
-        for (int i = 0; i < partitions.length; i++) {
-            // gets the range of values the thread will be working of
-            final int[] partition = partitions[i];
-
-            // effectively final i for use inside the thread
-            final int lambdaI = i;
-            // task to execute inside each thread
-            final Runnable task = () -> {
-                // result found by this thread
-                final E[] blindResult = (E[]) Array.newInstance(clazz, array.length);
-
-                // for every value in the sub-array considered by the thread...
-                int k = 0;
-                for (int j = partition[0]; j < partition[1]; j++) {
-                    final E value = array[j];
-                    // ...checks if the curren value should be removed...
-                    if (Arrays.binarySearch(uniqueToRemove, value, comparator) < 0) {
-                        // ...otherwise saves it
-                        blindResult[k++] = value;
-                    }
-                }
-
-                // saves the result found by the thread
-                partialResults[lambdaI] = Arrays.copyOf(blindResult, k);
-            };
-
-            // initialises and starts the thread
-            threads[i] = new Thread(task);
-            threads[i].start();
-        }
-
-        // waits for all the threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
-
-        // returns the sum of all partial results found by each thread
-        return ArrayUtil.concatenate(partialResults);
+        // the unique elements to remove, sorted
+        final Object[] uniqueToRemove = this.uniqueToRemove.get();
+
+        // keeps every value which should not be removed, copying it directly to its final position
+        return ArrayUtil.parallelCompact(
+                array,
+                i -> Arrays.binarySearch(uniqueToRemove, array[i], comparator) < 0,
+                threadCount
+        );
+    }
+
+    @Override
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        final Comparator<Object> comparator = new ObjectComparator();
+        final Object[] uniqueToRemove = this.uniqueToRemove.get();
+        return ParallelPipeline.ChunkStage.retain(e -> Arrays.binarySearch(uniqueToRemove, e, comparator) < 0);
     }
 
     // ====================================
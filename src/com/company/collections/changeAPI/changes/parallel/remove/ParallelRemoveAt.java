@@ -2,6 +2,7 @@ package com.company.collections.changeAPI.changes.parallel.remove;
 
 import com.company.collections.changeAPI.Change;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.ThreadUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Array;
@@ -47,7 +48,7 @@ public class ParallelRemoveAt<E> extends ParallelRemoveBase<E> {
 
     @Override
     public ParallelRemoveAt<E> setCoreCount(int coreCount) {
-        return new ParallelRemoveAt<>(clazz, removalIndexes, coreCount);
+        return new ParallelRemoveAt<>(clazz, removalIndexes, coreCount, getPreviousChange());
     }
 
     // ====================================
@@ -66,75 +67,62 @@ public class ParallelRemoveAt<E> extends ParallelRemoveBase<E> {
 
     @Override
     protected E[] applyToImpl(@NotNull E[] array) {
-        // retains only distinct values to remove
-        final int[] uniqueToRemove = ArrayUtil.retainDistinct(removalIndexes);
+        // retains only distinct valid indexes to remove, sorted, without modifying the given indexes
+        final int[] uniqueToRemove = ArrayUtil.retainDistinct(
+                Arrays.stream(removalIndexes).filter(i -> i >= 0 && i < array.length).toArray()
+        );
+        if (uniqueToRemove.length == 0) return array;
+
+        // the result has exactly one element less per index removed
+        final E[] result = (E[]) Array.newInstance(clazz, array.length - uniqueToRemove.length);
 
-        // partitions the given array according to the number of threads
+        // partitions the indexes to remove according to the number of threads
         final int[][] indexPartitions = ArrayUtil.partition(uniqueToRemove, threadCount);
-        // holds the result of each thread
-        final E[][] partialResults = (E[][]) Array.newInstance(clazz.arrayType(), indexPartitions.length);
-        final Thread[] threads = new Thread[indexPartitions.length];
+        final Runnable[] tasks = new Runnable[indexPartitions.length];
 
-        // for evey partition in the array...
+        // for evey partition of the indexes to remove...
         for (int i = 0; i < indexPartitions.length; i++) {
             final int[] partition = indexPartitions[i]; // gets the partition
             final int indexI = i;                  // saves the partition index for use in Runnable
 
             // task executed in each thread
             final Runnable task = () -> {
-                // the partial result in this thread
-                final E[] threadResult = (E[]) Array.newInstance(clazz, array.length);
-
                 // determines where to start and where to stop copying
-                final int start, stop;
-                if (indexI > 0) {
-                    final int[] previousPartition = indexPartitions[indexI - 1];
-                    start = uniqueToRemove[previousPartition[previousPartition.length - 1]];
-                } else {
-                    start = 0;
-                }
-                if (indexI < indexPartitions.length - 1) {
-                    final int[] nextPartition = indexPartitions[indexI + 1];
-                    stop = uniqueToRemove[nextPartition[0]];
-                } else {
-                    stop = array.length;
-                }
+                final int start = indexI > 0 ? uniqueToRemove[partition[0]] : 0;
+                final int stop = indexI < indexPartitions.length - 1 ? uniqueToRemove[partition[1]] : array.length;
 
+                // every index removed before the start of the partition shifts its values to the left by one
+                int lastIndex = start - partition[0];
                 int k = start;
-                int lastIndex = 0;
                 // for every index in the sub-array of indexes to remove...
                 for (int j = partition[0]; j < partition[1]; j++) {
                     // ...copies over the value between the previous index and the current index
-                    System.arraycopy(array, k, threadResult, lastIndex, uniqueToRemove[j] - k);
+                    System.arraycopy(array, k, result, lastIndex, uniqueToRemove[j] - k);
                     lastIndex += uniqueToRemove[j] - k;
                     // skips the current index
                     k = uniqueToRemove[j] + 1;
                 }
 
                 // copies over trailing values after the last index and before the smallest index in the next sub-array
-                System.arraycopy(array, k, threadResult, lastIndex, stop - k);
-                lastIndex += stop - k;
-
-                // saves the thread's results
-                partialResults[indexI] = Arrays.copyOf(threadResult, lastIndex);
+                System.arraycopy(array, k, result, lastIndex, stop - k);
             };
 
-            // creates and starts the thread
-            threads[i] = new Thread(task);
-            threads[i].start();
+            tasks[i] = task;
         }
 
-        // waits for all threads to have finished
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        if (inputSize < 0) return -1;
 
-        // returns the sum of all partial results computed by each thread
-        return ArrayUtil.concatenate(partialResults);
+        // invalid and duplicate indexes are ignored during removal
+        final int[] valid = Arrays.stream(removalIndexes).filter(i -> i >= 0 && i < inputSize).distinct().toArray();
+        return inputSize - valid.length;
     }
 
     // ====================================
@@ -46,4 +46,13 @@ public abstract class ParallelRemoveBase<E> extends ParallelChange<E> {
         this.removalIndexes = removalIndexes;
     }
 
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected Membership membership(final Object o) {
+        // removing elements never introduces new ones
+        return Membership.MAY_REMOVE;
+    }
 }
@@ -1,6 +1,7 @@
 package com.company.collections.changeAPI.changes.parallel.remove;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.utilities.ArrayUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -8,15 +9,6 @@ import java.util.Arrays;
 
 public class ParallelRemoveFirst<E> extends ParallelRemoveBase<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            ParallelRemoveAll.class,
-            ParallelRemoveFirst.class
-    };
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -64,7 +56,7 @@ public class ParallelRemoveFirst<E> extends ParallelRemoveBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
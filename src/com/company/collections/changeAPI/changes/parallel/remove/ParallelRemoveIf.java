@@ -0,0 +1,104 @@
+package com.company.collections.changeAPI.changes.parallel.remove;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
+import com.company.collections.changeAPI.changes.parallel.ConditionalParallelChange;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
+import com.company.collections.changeAPI.changes.parallel.retain.SequentialParallelRetain;
+import com.company.utilities.ArrayUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public class ParallelRemoveIf<E> extends ConditionalParallelChange<E> {
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ParallelRemoveIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Predicate<? super E> filter
+    ) {
+        super(
+                clazz,
+                threadCount,
+                filter
+        );
+    }
+
+    public ParallelRemoveIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Predicate<? super E> filter,
+            @Nullable final Change<E> parent
+    ) {
+        super(
+                clazz,
+                threadCount,
+                filter,
+                parent
+        );
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelRemoveIf<E> setCoreCount(int coreCount) {
+        return new ParallelRemoveIf<>(clazz, coreCount, filter, getPreviousChange());
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return SequentialiserRegistry.isSameFamily(this, change);
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return new SequentialParallelRetain<>(clazz, threadCount, changes);
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return ArrayUtil.parallelRetainIf(array, e -> !filter.test(e), threadCount);
+    }
+
+    @Override
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        return ParallelPipeline.ChunkStage.retain(filter.negate());
+    }
+
+    @Override
+    protected Membership membership(final Object o) {
+        // removing elements never introduces new ones
+        return Membership.MAY_REMOVE;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.filter(e -> !filter.test(e));
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "ParallelRemoveIf{predicate=" +
+                filter +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
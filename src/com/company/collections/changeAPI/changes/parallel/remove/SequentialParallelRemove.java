@@ -3,12 +3,12 @@ package com.company.collections.changeAPI.changes.parallel.remove;
 import com.company.collections.changeAPI.Change;
 import com.company.collections.changeAPI.changes.parallel.ParallelChange;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 import com.company.utilities.comparators.ObjectComparator;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class SequentialParallelRemove<E> extends ParallelRemoveBase<E> {
 
@@ -17,6 +17,8 @@ public class SequentialParallelRemove<E> extends ParallelRemoveBase<E> {
     // =====================================
 
     private final Change<E>[] changes;
+    // sorted distinct values to remove all instances of, then only the first instance of, built once
+    private final Lazy<Object[][]> valuesToRemove = new Lazy<>(this::sortValuesToRemove);
 
     // ====================================
     //             CONSTRUCTOR
@@ -99,62 +101,47 @@ public class SequentialParallelRemove<E> extends ParallelRemoveBase<E> {
         return allToRemove;
     }
 
-    @Override
-    protected E[] applyToImpl(@NotNull E[] array) {
-        final Change<E>[][] seperated = separateChanges(changes);
-        final Change<E>[] removeAll = seperated[0];
-        final Change<E>[] removeFirst = seperated[1];
-
-        final Object[] removeAllValues = ArrayUtil.retainDistinct(concatenateToRemove(removeAll));
-        final Object[] removeFirstValues = ArrayUtil.retainDistinct(concatenateToRemove(removeFirst));
-
-        final Comparator<Object> comparator = new ObjectComparator();
-
-        Arrays.parallelSort(removeAllValues, comparator);
-        Arrays.parallelSort(removeFirstValues, comparator);
+    private Object[][] sortValuesToRemove() {
+        final Change<E>[][] separate = separateChanges(changes);
 
-        final int[] removeAllIndexes = new int[array.length];
-        final int[] removeFirstIndexes = new int[removeFirstValues.length];
-        Arrays.fill(removeFirstIndexes, -1);
-
-        final int[][] partitions = ArrayUtil.partition(array, threadCount);
-        final Thread[] threads = new Thread[partitions.length];
-
-        final AtomicInteger k = new AtomicInteger(0);
-        for (int i = 0; i < partitions.length; i++) {
-            final int[] partition = partitions[i];
-
-            final Runnable task = () -> {
-                for (int j = partition[0]; j < partition[1]; j++) {
-                    final int indexAll = Arrays.binarySearch(removeAllValues, array[j], comparator);
-                    if (indexAll >= 0)  {
-                        removeAllIndexes[k.getAndIncrement()] = j;
-                        continue;
-                    }
-
-                    if (removeFirstValues.length == 0) continue;
+        return new Object[][]{
+                ArrayUtil.sortedDistinct(concatenateToRemove(separate[0])),
+                ArrayUtil.sortedDistinct(concatenateToRemove(separate[1]))
+        };
+    }
 
-                    final int indexFirst = Arrays.binarySearch(removeFirstValues, array[j], comparator);
-                    if (indexFirst >= 0 && (removeFirstIndexes[indexFirst] == -1 || j < removeFirstIndexes[indexFirst])) {
-                        removeFirstIndexes[indexFirst] = j;
-                    }
-                }
-            };
+    @Override
+    protected void prepare() {
+        valuesToRemove.get();
+    }
 
-            threads[i] = new Thread(task);
-            threads[i].start();
-        }
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        final Object[][] valuesToRemove = this.valuesToRemove.get();
+        final Object[] removeAllValues = valuesToRemove[0];
+        final Object[] removeFirstValues = valuesToRemove[1];
 
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+        final Comparator<Object> comparator = new ObjectComparator();
 
-        final int[] removeIndexes = ArrayUtil.concatenate(Arrays.copyOf(removeAllIndexes, k.get()), removeFirstIndexes);
-        return ArrayUtil.removeAt(array, removeIndexes);
+        // finds the first occurrence of the values to remove once, ignoring elements removed in all cases
+        final int[] removeFirstIndexes = ArrayUtil.parallelFindOccurrences(
+                array,
+                element -> Arrays.binarySearch(removeAllValues, element, comparator) >= 0
+                        ? -1
+                        : Arrays.binarySearch(removeFirstValues, element, comparator),
+                removeFirstValues.length,
+                false,
+                threadCount
+        );
+        Arrays.sort(removeFirstIndexes);
+
+        // keeps every element which is neither removed in all cases nor a first occurrence to remove
+        return ArrayUtil.parallelCompact(
+                array,
+                i -> Arrays.binarySearch(removeAllValues, array[i], comparator) < 0
+                        && Arrays.binarySearch(removeFirstIndexes, i) < 0,
+                threadCount
+        );
     }
 
     // ====================================
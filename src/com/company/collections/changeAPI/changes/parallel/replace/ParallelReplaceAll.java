@@ -1,17 +1,30 @@
 package com.company.collections.changeAPI.changes.parallel.replace;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Deadline;
+import com.company.utilities.Lazy;
+import com.company.utilities.ThreadUtil;
 import com.company.utilities.comparators.ArrayElementComparator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Comparator;
 
 public class ParallelReplaceAll<E> extends ParallelReplaceValues<E> {
 
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    // values to replace mapped to their replacing values & sorted, built once and reused every time the change is applied
+    private final Lazy<Object[][]> replacements = new Lazy<>(this::sortReplacements);
+
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -57,30 +70,67 @@ public class ParallelReplaceAll<E> extends ParallelReplaceValues<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return false;
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
     protected Change<E> toSequential(Change<E>[] changes) {
-        return null;
+        int length = 0;
+        for (Change<E> change : changes) length += ((ParallelReplaceAll<E>) change).values.length;
+
+        // maps every value replaced by one of the changes to the value it ends up as once they have all been applied
+        final E[] composed = (E[]) Array.newInstance(clazz, length);
+        int k = 0;
+        for (Change<E> change : changes) {
+            for (Object toReplace : ((ParallelReplaceAll<E>) change).getEvenIndexes()) {
+                Object replacing = toReplace;
+                for (Change<E> next : changes) replacing = ((ParallelReplaceAll<E>) next).replace(replacing);
+                composed[k++] = (E) toReplace;
+                composed[k++] = (E) replacing;
+            }
+        }
+
+        return new ParallelReplaceAll<>(clazz, threadCount, composed);
+    }
+
+    /**
+     * @param element ({@code Object}): an element of the array
+     * @return (Object): the value replacing the element, the element itself if it is not replaced
+     */
+    private Object replace(final Object element) {
+        final Object[][] wrapped = replacements.get();
+        final int index = Arrays.binarySearch(wrapped, new Object[]{element}, new ArrayElementComparator<>(0));
+        return index >= 0 ? wrapped[index][1] : element;
+    }
+
+    private Object[][] sortReplacements() {
+        final Object[][] wrapped = ArrayUtil.wrapArrays(getEvenIndexes(), getOddIndexes());
+        Arrays.parallelSort(wrapped, new ArrayElementComparator<>(0));
+        return wrapped;
+    }
+
+    @Override
+    protected void prepare() {
+        replacements.get();
     }
 
     @Override
     protected E[] applyToImpl(@NotNull E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] result) {
         // used to sort and search for objects
         final Comparator<Object[]> comparator = new ArrayElementComparator<>(0);
 
-        // maps each value to replace to its replacing value
-        // and sorts the mapping array according to the replacing value
-        final Object[][] wrapped = ArrayUtil.wrapArrays(getEvenIndexes(), getOddIndexes());
-        Arrays.parallelSort(wrapped, comparator);
-
-        // initialises the result array
-        final E[] result = Arrays.copyOf(array, array.length);
+        // each value to replace mapped to its replacing value,
+        // sorted according to the value to replace
+        final Object[][] wrapped = replacements.get();
 
         // partitions the array for each thread
-        final int[][] partitions = ArrayUtil.partition(array, threadCount);
-        final Thread[] threads = new Thread[partitions.length];
+        final int[][] partitions = ArrayUtil.partition(result, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
 
         // for every array partition...
         for (int i = 0; i < partitions.length; i++) {
@@ -91,6 +141,7 @@ public class ParallelReplaceAll<E> extends ParallelReplaceValues<E> {
             final Runnable task = () -> {
                 // iterates over the thread's partition of the array
                 for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(j);
                     // searches for the current element in the array in the values to replace
                     final int index = Arrays.binarySearch(wrapped, new Object[]{result[j]}, comparator);
                     // if the element is found, replaces it with the correct value
@@ -98,24 +149,26 @@ public class ParallelReplaceAll<E> extends ParallelReplaceValues<E> {
                 }
             };
 
-            // creates and starts the thread
-            threads[i] = new Thread(task);
-            threads[i].start();
+            tasks[i] = task;
         }
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
 
         // returns the final result computed by every thread
         return result;
     }
 
+    @Override
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        final Comparator<Object[]> comparator = new ArrayElementComparator<>(0);
+        final Object[][] wrapped = replacements.get();
+        return ParallelPipeline.ChunkStage.map(e -> {
+            final int index = Arrays.binarySearch(wrapped, new Object[]{e}, comparator);
+            return index >= 0 ? (E) wrapped[index][1] : e;
+        });
+    }
+
     // ====================================
     //          ARRAY CONVERSION
     // ====================================
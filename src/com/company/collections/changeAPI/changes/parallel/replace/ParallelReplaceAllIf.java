@@ -1,7 +1,11 @@
 package com.company.collections.changeAPI.changes.parallel.replace;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Deadline;
+import com.company.utilities.ThreadUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -59,22 +63,24 @@ public class ParallelReplaceAllIf<E> extends ParallelReplaceBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return false;
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
     protected Change<E> toSequential(Change<E>[] changes) {
-        return null;
+        return new SequentialParallelReplaceAllIf<>(clazz, threadCount, changes);
     }
 
     @Override
     protected E[] applyToImpl(@NotNull E[] array) {
-        // initialises the result array as a copy of the given array
-        final E[] result = Arrays.copyOf(array, array.length);
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
 
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] result) {
         // partitions the array for the specified number of threads
-        final int[][] partitions = ArrayUtil.partition(array, threadCount);
-        final Thread[] threads = new Thread[partitions.length];
+        final int[][] partitions = ArrayUtil.partition(result, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
 
         // for each array partition...
         for (int i = 0; i < partitions.length; i++) {
@@ -83,31 +89,31 @@ public class ParallelReplaceAllIf<E> extends ParallelReplaceBase<E> {
 
             // the task to be run by each thread
             final Runnable task = () -> {
+                final Deadline deadline = Deadline.current();
                 // for each element in this thread's partition of the array...
                 for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(deadline);
                     // ...checks the current element against the filter, and if it matches replaces it
                     if (filter.test(result[j])) result[j] = (E) values[0];
                 }
             };
 
-            // initialises and starts the next thread
-            threads[i] = new Thread(task);
-            threads[i].start();
+            tasks[i] = task;
         }
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
 
         // returns the final result as computed by each thread
         return result;
     }
 
+    @Override
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        final E replacingValue = (E) values[0];
+        return ParallelPipeline.ChunkStage.map(e -> filter.test(e) ? replacingValue : e);
+    }
+
     // ====================================
     //          ARRAY CONVERSION
     // ====================================
@@ -0,0 +1,177 @@
+package com.company.collections.changeAPI.changes.parallel.replace;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
+import com.company.collections.changeAPI.changes.singlethread.replace.ReplaceAt;
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.ThreadUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class ParallelReplaceAt<E> extends ParallelReplaceValues<E> {
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ParallelReplaceAt(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Object[] toReplace
+    ) {
+        super(
+                clazz,
+                threadCount,
+                toReplace
+        );
+    }
+
+    public ParallelReplaceAt(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Object[] toReplace,
+            @Nullable final Change<E> parent
+    ) {
+        super(
+                clazz,
+                threadCount,
+                toReplace,
+                parent
+        );
+    }
+
+    public ParallelReplaceAt(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            final int @NotNull [] indexes,
+            final E @NotNull [] replacing,
+            @Nullable final Change<E> parent
+    ) {
+        super(
+                clazz,
+                threadCount,
+                ReplaceAt.blend(indexes, replacing),
+                parent
+        );
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelReplaceAt<E> setCoreCount(int coreCount) {
+        return new ParallelReplaceAt<>(clazz, coreCount, values, getPreviousChange());
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return SequentialiserRegistry.isSameFamily(this, change);
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        // consecutive replacements are equivalent to a single one making all of them, oldest first so that later
+        // replacements of the same index still win
+        final Object[][] toReplace = new Object[changes.length][];
+        for (int i = 0; i < changes.length; i++) {
+            toReplace[i] = ((ParallelReplaceAt<E>) changes[i]).values;
+        }
+
+        return new ParallelReplaceAt<>(clazz, threadCount, ArrayUtil.concatenate(toReplace));
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] result) {
+        final Object[] indexes = getEvenIndexes();
+        final Object[] replacing = getOddIndexes();
+
+        // partitions the array for each thread
+        final int[][] partitions = ArrayUtil.partition(result, threadCount);
+        if (partitions.length == 0) {
+            // only possible if the array is empty, in which case any index is out of bounds
+            if (indexes.length > 0) Objects.checkIndex((int) indexes[0], result.length);
+            return result;
+        }
+
+        // counts the replacements falling in each partition...
+        final int[] partitionOf = new int[indexes.length];
+        final int[] starts = new int[partitions.length + 1];
+        for (int i = 0; i < indexes.length; i++) {
+            final int index = Objects.checkIndex((int) indexes[i], result.length);
+            partitionOf[i] = findPartition(partitions, index);
+            starts[partitionOf[i] + 1]++;
+        }
+        for (int i = 0; i < partitions.length; i++) starts[i + 1] += starts[i];
+
+        // ...and groups them by partition, keeping their original order so that later replacements still win
+        final int[] order = new int[indexes.length];
+        final int[] next = Arrays.copyOf(starts, partitions.length);
+        for (int i = 0; i < indexes.length; i++) order[next[partitionOf[i]]++] = i;
+
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        // for every partition of the array...
+        for (int i = 0; i < partitions.length; i++) {
+            final int from = starts[i];
+            final int to = starts[i + 1];
+
+            // ...the task run by each thread replaces the elements in its own partition only
+            final Runnable task = () -> {
+                for (int j = from; j < to; j++) {
+                    final int k = order[j];
+                    result[(int) indexes[k]] = (E) replacing[k];
+                }
+            };
+
+            tasks[i] = task;
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    /**
+     * @return (int): index of the partition containing the given index of the array
+     */
+    private static int findPartition(
+            final int[][] partitions,
+            final int index
+    ) {
+        int low = 0;
+        int high = partitions.length - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (partitions[middle][1] > index) high = middle;
+            else                               low = middle + 1;
+        }
+        return low;
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "ParallelReplaceAt{toReplace=" +
+                Arrays.toString(values) +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
@@ -49,6 +49,16 @@ public abstract class ParallelReplaceBase<E> extends ConditionalParallelChange<E
         this.values = values;
     }
 
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        // replacing values never affects the length of an array
+        return inputSize;
+    }
+
     // ====================================
     //             ACCESSORS
     // ====================================
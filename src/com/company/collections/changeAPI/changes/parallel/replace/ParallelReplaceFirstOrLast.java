@@ -2,6 +2,7 @@ package com.company.collections.changeAPI.changes.parallel.replace;
 
 import com.company.collections.changeAPI.Change;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.ThreadUtil;
 import com.company.utilities.comparators.ArrayElementComparator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -85,13 +86,15 @@ public class ParallelReplaceFirstOrLast<E> extends ParallelReplaceValues<E> {
 
     @Override
     public ParallelReplaceFirstOrLast<E> setCoreCount(int coreCount) {
-        return new ParallelReplaceFirstOrLast<>(clazz, coreCount, (E[]) values, getPreviousChange());
+        return new ParallelReplaceFirstOrLast<>(clazz, coreCount, (E[]) values, replaceLast, getPreviousChange());
     }
 
     // ====================================
     //          APPLYING CHANGES
     // ====================================
 
+    // every value of a change is replaced at once in the array it is given, while consecutive changes see each other's
+    // replacements: merging them would change which occurrences are replaced, so the family is not sequentialised
     @Override
     protected boolean canSequentialise(Change<E> change) {
         return false;
@@ -116,68 +119,39 @@ public class ParallelReplaceFirstOrLast<E> extends ParallelReplaceValues<E> {
         final Object[][] wrapped = ArrayUtil.wrapArrays(getEvenIndexes(), getOddIndexes());
         Arrays.parallelSort(wrapped, comparator);
 
-        // maps the indexes of found elements and the replacing values at those indexes
-        // by default all indexes are not in the array and map to no value
-        final Object[][] indexes = new Object[wrapped.length][2];
-        Arrays.fill(indexes, new Object[]{-1, null});
-
-        // partitions the array for each thread
-        final int[][] arrayPartitions = ArrayUtil.partition(array, threadCount);
-        final Thread[] threads = new Thread[arrayPartitions.length];
-
-        // for every partition in the array...
-        for (int i = 0; i < arrayPartitions.length; i++) {
-            // ...gets the partition
-            final int[] partition = arrayPartitions[i];
-
-            // the task to be run by each thread
-            final Runnable task = () -> {
-                // for every element in this thread's partition of the array...
-                for (int j = partition[0]; j < partition[1]; j++) {
-                    // ...checks if that element should be replaced...
-                    final int index = Arrays.binarySearch(wrapped, new Object[]{array[j]}, comparator);
-                    // ...and is the first occurrence found so far...
-                    if (index >= 0 && ((int) indexes[index][0] == -1 || j < (int) indexes[index][0]) != replaceLast) {
-                        // ...if so saves the element's array and maps it to the replacing value at that index
-                        indexes[index] = new Object[]{j, wrapped[index][1]};
-                    }
-                }
-            };
-
-            // creates and starts the next thread
-            threads[i] = new Thread(task);
-            threads[i].start();
-        }
+        // looks for the first (or last) occurrence of every value to replace, every partition keeping its own results
+        final int[] found = ArrayUtil.parallelFindOccurrences(
+                array,
+                element -> Arrays.binarySearch(wrapped, new Object[]{element}, comparator),
+                wrapped.length,
+                replaceLast,
+                threadCount
+        );
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+        // maps the indexes of found elements and the replacing values at those indexes
+        final Object[][] indexes = new Object[wrapped.length][];
+        for (int i = 0; i < wrapped.length; i++) {
+            indexes[i] = new Object[]{found[i], wrapped[i][1]};
         }
 
         return indexes;
     }
 
     /**
-     * Replaces the values at the indexes specified given index map by their mapped replacing values
-     * @param array ({@code E[]}): array to replace the values of
+     * Replaces the values at the indexes specified given index map by their mapped replacing values, directly in the
+     * given array
+     * @param result ({@code E[]}): array to replace the values of
      * @param indexMap ({@code Object[][]}): map of the first occurrence of every value to find to the replacing value
      *                 at that index
      * @return (E[]): array with all the indexes specified by the index map replaced by the mapped replacing values
      */
     private E[] replaceMapped(
-            @NotNull final E[] array,
+            @NotNull final E[] result,
             @NotNull final Object[][] indexMap
     ) {
-        // initialises the result array as a copy of the initial array
-        final E[] result = Arrays.copyOf(array, array.length);
-
         // partitions the found indexes for each thread
         final int[][] indexPartitions = ArrayUtil.partition(indexMap, threadCount);
-        final Thread[] threads = new Thread[indexPartitions.length];
+        final Runnable[] tasks = new Runnable[indexPartitions.length];
 
         // for partition in the indexes...
         for (int i = 0; i < indexPartitions.length; i++) {
@@ -195,25 +169,22 @@ public class ParallelReplaceFirstOrLast<E> extends ParallelReplaceValues<E> {
                 }
             };
 
-            // creates and starts the next thread
-            threads[i] = new Thread(task);
-            threads[i].start();
+            tasks[i] = task;
         }
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
 
         return result;
     }
 
     @Override
     protected E[] applyToImpl(@NotNull E[] array) {
+        return replaceMapped(Arrays.copyOf(array, array.length), getIndexMap(array));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] array) {
         return replaceMapped(array, getIndexMap(array));
     }
 
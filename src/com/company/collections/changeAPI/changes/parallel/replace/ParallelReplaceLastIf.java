@@ -0,0 +1,96 @@
+package com.company.collections.changeAPI.changes.parallel.replace;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+public class ParallelReplaceLastIf<E> extends ParallelReplaceBase<E> {
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ParallelReplaceLastIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Predicate<? super E> filter,
+            @Nullable final E replacingValue
+    ) {
+        super(
+                clazz,
+                threadCount,
+                new Object[]{replacingValue},
+                filter
+        );
+    }
+
+    public ParallelReplaceLastIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Predicate<? super E> filter,
+            @Nullable final E replacingValue,
+            @Nullable final Change<E> parent
+    ) {
+        super(
+                clazz,
+                threadCount,
+                new Object[]{replacingValue},
+                filter,
+                parent
+        );
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelReplaceLastIf<E> setCoreCount(int coreCount) {
+        return new ParallelReplaceLastIf<>(clazz, coreCount, filter, (E) values[0], getPreviousChange());
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return SequentialiserRegistry.isSameFamily(this, change);
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return new SequentialParallelReplaceFirstOrLastIf<>(clazz, threadCount, changes, true);
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] result) {
+        final Predicate<? super E>[] filters = newPredicateArray(1);
+        filters[0] = filter;
+        return SequentialParallelReplaceFirstOrLastIf.replace(result, filters, values, true, threadCount);
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "ParallelReplaceLastIf{filter=" +
+                filter +
+                ", replacingValue=" +
+                values[0] +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
@@ -0,0 +1,129 @@
+package com.company.collections.changeAPI.changes.parallel.replace;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.Deadline;
+import com.company.utilities.ThreadUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Applies consecutive {@link ParallelReplaceAllIf} Changes in a single parallel pass over the array. Each element goes
+ * through every Change in the order they were made, so an element replaced by a Change can still be replaced by the
+ * Changes after it.
+ * @param <E> the type the ParallelChange operates on
+ * @author Eliot McNab
+ */
+public class SequentialParallelReplaceAllIf<E> extends ParallelReplaceBase<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private final Change<E>[] changes;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public SequentialParallelReplaceAllIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Change<E>[] changes
+    ) {
+        super(
+                clazz,
+                threadCount,
+                null,
+                null
+        );
+        this.changes = changes;
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelChange<E> setCoreCount(int coreCount) {
+        return new SequentialParallelReplaceAllIf<>(clazz, coreCount, changes);
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return false;
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return null;
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] result) {
+        // gets the filter and replacing value of every change
+        final Predicate<? super E>[] filters = newPredicateArray(changes.length);
+        final Object[] replacing = new Object[changes.length];
+
+        for (int i = 0; i < changes.length; i++) {
+            final ParallelReplaceBase<E> replace = (ParallelReplaceBase<E>) changes[i];
+            filters[i] = replace.getFilter();
+            replacing[i] = replace.getValues()[0];
+        }
+
+        // partitions the array for the specified number of threads
+        final int[][] partitions = ArrayUtil.partition(result, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        // for each array partition...
+        for (int i = 0; i < partitions.length; i++) {
+            // ...gets the partition
+            final int[] partition = partitions[i];
+
+            // the task to be run by each thread
+            final Runnable task = () -> {
+                final Deadline deadline = Deadline.current();
+                // for each element in this thread's partition of the array...
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(deadline);
+                    // ...applies every change in order, the element's current value being checked each time
+                    E current = result[j];
+                    for (int f = 0; f < filters.length; f++) {
+                        if (filters[f].test(current)) current = (E) replacing[f];
+                    }
+                    result[j] = current;
+                }
+            };
+
+            tasks[i] = task;
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "SequentialParallelReplaceAllIf{changes=" +
+                Arrays.toString(changes) +
+                "}";
+    }
+}
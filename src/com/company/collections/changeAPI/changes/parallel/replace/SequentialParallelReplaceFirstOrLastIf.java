@@ -0,0 +1,233 @@
+package com.company.collections.changeAPI.changes.parallel.replace;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.Deadline;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Applies consecutive {@link ParallelReplaceFirstIf} (or {@link ParallelReplaceLastIf}) Changes in a single parallel
+ * pass over the array.<br><br>
+ *
+ * <u><i>Algorithm:</i></u><br><br>
+ *
+ * The first (or last) element matching each filter is found with {@link ArrayUtil#parallelFindOccurrences}, every
+ * thread stopping as soon as each filter has been matched in its partition or in one closer to the start (or end) of
+ * the array. Changes are then resolved one after the other, the same way they would
+ * have been applied: an element replaced by a previous Change is tested against its new value, and a match which was
+ * replaced by a previous Change and no longer matches is skipped in favour of the next one.
+ * @param <E> the type the ParallelChange operates on
+ * @author Eliot McNab
+ */
+public class SequentialParallelReplaceFirstOrLastIf<E> extends ParallelReplaceBase<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private final Change<E>[] changes;
+    private final boolean last;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public SequentialParallelReplaceFirstOrLastIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Change<E>[] changes,
+            final boolean last
+    ) {
+        super(
+                clazz,
+                threadCount,
+                null,
+                null
+        );
+        this.changes = changes;
+        this.last = last;
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelChange<E> setCoreCount(int coreCount) {
+        return new SequentialParallelReplaceFirstOrLastIf<>(clazz, coreCount, changes, last);
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return false;
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return null;
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] result) {
+        final Predicate<? super E>[] filters = newPredicateArray(changes.length);
+        final Object[] replacing = new Object[changes.length];
+
+        for (int i = 0; i < changes.length; i++) {
+            final ParallelReplaceBase<E> replace = (ParallelReplaceBase<E>) changes[i];
+            filters[i] = replace.getFilter();
+            replacing[i] = replace.getValues()[0];
+        }
+
+        return replace(result, filters, replacing, last, threadCount);
+    }
+
+    /**
+     * Replaces the first (or last) element matching each filter with its replacing value, applying filters one after
+     * the other
+     * @param result ({@code E[]}): the array to modify
+     * @param filters ({@code Predicate<? super E>[]}): the filters, from oldest to newest
+     * @param replacing ({@code Object[]}): the value replacing the element matching each filter
+     * @param last ({@code boolean}): whether to replace the last matching element instead of the first one
+     * @param threadCount ({@code int}): maximum number of threads used to look for matching elements
+     * @return (E[]): the given array, modified
+     */
+    static <E> E[] replace(
+            final E[] result,
+            final Predicate<? super E>[] filters,
+            final Object[] replacing,
+            final boolean last,
+            final int threadCount
+    ) {
+        final int[] matches = findMatches(result, filters, last, threadCount);
+
+        // elements replaced so far, and their current value
+        final int[] positions = new int[filters.length];
+        final Object[] values = new Object[filters.length];
+        int replaced = 0;
+
+        // for every filter, in the order the changes are applied...
+        for (int f = 0; f < filters.length; f++) {
+            int best = -1;
+
+            // ...checks the elements replaced by previous changes against their new value...
+            for (int m = 0; m < replaced; m++) {
+                if (filters[f].test((E) values[m]) && isBefore(positions[m], best, last)) best = positions[m];
+            }
+
+            // ...and the closest original match which has not been replaced
+            int candidate = matches[f];
+            while (candidate >= 0 && indexOf(positions, replaced, candidate) >= 0) {
+                candidate = scan(result, filters[f], last ? candidate - 1 : candidate + 1, last);
+            }
+            if (candidate >= 0 && isBefore(candidate, best, last)) best = candidate;
+
+            // records the replacement
+            if (best < 0) continue;
+            final int m = indexOf(positions, replaced, best);
+            if (m >= 0) values[m] = replacing[f];
+            else {
+                positions[replaced] = best;
+                values[replaced++] = replacing[f];
+            }
+        }
+
+        for (int m = 0; m < replaced; m++) {
+            result[positions[m]] = (E) values[m];
+        }
+
+        return result;
+    }
+
+    /**
+     * Looks in parallel for the first (or last) element matching each filter, an element being allowed to match
+     * several filters
+     * @return (int[]): index of the element matching each filter, -1 if there is none
+     */
+    private static <E> int[] findMatches(
+            final E[] array,
+            final Predicate<? super E>[] filters,
+            final boolean last,
+            final int threadCount
+    ) {
+        final Deadline deadline = Deadline.current();
+        return ArrayUtil.parallelFindOccurrences(
+                array,
+                (ArrayUtil.OccurrenceMatcher<E>) (element, targets) -> {
+                    Deadline.poll(deadline);
+                    for (int f = 0; f < filters.length; f++) {
+                        if (filters[f].test(element)) targets.accept(f);
+                    }
+                },
+                filters.length,
+                last,
+                threadCount
+        );
+    }
+
+    /**
+     * @return (int): index of the next element matching the filter, starting from the given index, -1 if there is none
+     */
+    private static <E> int scan(
+            final E[] array,
+            final Predicate<? super E> filter,
+            final int from,
+            final boolean last
+    ) {
+        final Deadline deadline = Deadline.current();
+        if (last) {
+            for (int i = from; i >= 0; i--) {
+                Deadline.poll(deadline);
+                if (filter.test(array[i])) return i;
+            }
+        } else {
+            for (int i = from; i < array.length; i++) {
+                Deadline.poll(deadline);
+                if (filter.test(array[i])) return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBefore(
+            final int index,
+            final int best,
+            final boolean last
+    ) {
+        return best < 0 || (last ? index > best : index < best);
+    }
+
+    private static int indexOf(
+            final int[] positions,
+            final int count,
+            final int position
+    ) {
+        for (int i = 0; i < count; i++) if (positions[i] == position) return i;
+        return -1;
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "SequentialParallelReplaceFirstOrLastIf{changes=" +
+                Arrays.toString(changes) +
+                ", last=" +
+                last +
+                "}";
+    }
+}
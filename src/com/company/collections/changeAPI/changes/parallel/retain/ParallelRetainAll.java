@@ -1,17 +1,27 @@
 package com.company.collections.changeAPI.changes.parallel.retain;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 import com.company.utilities.comparators.ObjectComparator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.Predicate;
 
 public class ParallelRetainAll<E> extends ParallelRetainBase<E> {
 
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    // sorted distinct values to retain, built once and reused every time the change is applied
+    private final Lazy<Object[]> uniqueToRetain = new Lazy<>(() -> ArrayUtil.sortedDistinct(values));
+
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -59,59 +69,37 @@ public class ParallelRetainAll<E> extends ParallelRetainBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return false;
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
     protected Change<E> toSequential(Change<E>[] changes) {
-        return null;
+        return new SequentialParallelRetain<>(clazz, threadCount, changes);
     }
 
-    private E[][] getPartialResult(@NotNull E[] array) {
+    /**
+     * @return (Predicate< E >): predicate matching the elements retained by this Change
+     */
+    Predicate<E> retained() {
         final Comparator<Object> comparator = new ObjectComparator();
+        final Object[] uniqueToRetain = this.uniqueToRetain.get();
+        return e -> Arrays.binarySearch(uniqueToRetain, e, comparator) >= 0;
+    }
 
-        final Object[] uniqueToRetain = ArrayUtil.retainDistinctImpl(values, comparator);
-        Arrays.parallelSort(uniqueToRetain, comparator);
-
-        final int[][] partitions = ArrayUtil.partition(array, threadCount);
-        final Thread[] threads = new Thread[partitions.length];
-        final E[][] partialResults = (E[][]) Array.newInstance(clazz.arrayType(), partitions.length);
-
-        for (int i = 0; i < partitions.length; i++) {
-            final int[] partition = partitions[i];
-            final int lambdaI = i;
-
-            final Runnable task = () -> {
-                final E[] threadResult = (E[]) Array.newInstance(clazz, array.length);
-
-                int k = 0;
-                for (int j = partition[0]; j < partition[1]; j++) {
-                    // TODO: try out exponential search, see if any performance is gained there
-                    final int index = Arrays.binarySearch(uniqueToRetain, array[j], comparator);
-                    if (index >= 0) threadResult[k++] = array[j];
-                }
-
-                partialResults[lambdaI] = Arrays.copyOf(threadResult, k);
-            };
-
-            threads[i] = new Thread(task);
-            threads[i].start();
-        }
-
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
-
-        return partialResults;
+    @Override
+    protected void prepare() {
+        uniqueToRetain.get();
     }
 
     @Override
     protected E[] applyToImpl(@NotNull E[] array) {
-        return ArrayUtil.concatenate(getPartialResult(array));
+        // keeps every value to retain, copying it directly to its final position
+        return ArrayUtil.parallelRetainIf(array, retained(), threadCount);
+    }
+
+    @Override
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        return ParallelPipeline.ChunkStage.retain(retained());
     }
 
     // ====================================
@@ -49,6 +49,16 @@ public abstract class ParallelRetainBase<E> extends ConditionalParallelChange<E>
         this.values = values;
     }
 
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected Membership membership(final Object o) {
+        // retaining elements never introduces new ones
+        return Membership.MAY_REMOVE;
+    }
+
     // ====================================
     //             ACCESSORS
     // ====================================
@@ -1,11 +1,14 @@
 package com.company.collections.changeAPI.changes.parallel.retain;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.comparators.ObjectComparator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 public class ParallelRetainFirst<E> extends ParallelRetainBase<E> {
 
@@ -56,12 +59,23 @@ public class ParallelRetainFirst<E> extends ParallelRetainBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return false;
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
     protected Change<E> toSequential(Change<E>[] changes) {
-        return null;
+        // once the first occurrences of some values have been retained, every value is left at most once, so the
+        // following changes retain the first occurrences of the values common to all the changes
+        final Comparator<Object> comparator = new ObjectComparator();
+        Object[] common = ((ParallelRetainFirst<E>) changes[changes.length - 1]).values;
+        for (int i = changes.length - 2; i >= 0; i--) {
+            final Object[] retained = ArrayUtil.sortedDistinct(((ParallelRetainFirst<E>) changes[i]).values);
+            common = Arrays.stream(common)
+                    .filter(value -> Arrays.binarySearch(retained, value, comparator) >= 0)
+                    .toArray();
+        }
+
+        return new ParallelRetainFirst<>(clazz, threadCount, common);
     }
 
     @Override
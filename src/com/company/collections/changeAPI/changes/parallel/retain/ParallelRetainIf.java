@@ -0,0 +1,98 @@
+package com.company.collections.changeAPI.changes.parallel.retain;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipeline;
+import com.company.utilities.ArrayUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public class ParallelRetainIf<E> extends ParallelRetainBase<E> {
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public ParallelRetainIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Predicate<? super E> filter
+    ) {
+        super(
+                clazz,
+                threadCount,
+                null,
+                filter
+        );
+    }
+
+    public ParallelRetainIf(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Predicate<? super E> filter,
+            @Nullable final Change<E> parent
+    ) {
+        super(
+                clazz,
+                threadCount,
+                null,
+                filter,
+                parent
+        );
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelRetainIf<E> setCoreCount(int coreCount) {
+        return new ParallelRetainIf<>(clazz, coreCount, filter, getPreviousChange());
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return SequentialiserRegistry.isSameFamily(this, change);
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return new SequentialParallelRetain<>(clazz, threadCount, changes);
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return ArrayUtil.parallelRetainIf(array, filter, threadCount);
+    }
+
+    @Override
+    protected ParallelPipeline.ChunkStage<E> chunkStage() {
+        return ParallelPipeline.ChunkStage.retain(filter);
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.filter(filter::test);
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "ParallelRetainIf{predicate=" +
+                filter +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
@@ -0,0 +1,124 @@
+package com.company.collections.changeAPI.changes.parallel.retain;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.parallel.remove.ParallelRemoveIf;
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Applies consecutive {@link ParallelRetainAll}, {@link ParallelRetainIf} and {@link ParallelRemoveIf} Changes in a
+ * single parallel pass over the array, retaining only the elements kept by every Change
+ * @param <E> the type the ParallelChange operates on
+ * @author Eliot McNab
+ */
+public class SequentialParallelRetain<E> extends ParallelRetainBase<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private final Change<E>[] changes;
+
+    // predicate matching the elements kept by every change, built once and reused every time the change is applied
+    private final Lazy<Predicate<E>> retained = new Lazy<>(this::combine);
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public SequentialParallelRetain(
+            @NotNull final Class<E> clazz,
+            final int threadCount,
+            @NotNull final Change<E>[] changes
+    ) {
+        super(
+                clazz,
+                threadCount,
+                null,
+                null
+        );
+        this.changes = changes;
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelChange<E> setCoreCount(int coreCount) {
+        return new SequentialParallelRetain<>(clazz, coreCount, changes);
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return false;
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return null;
+    }
+
+    /**
+     * @return (Predicate< E >): predicate matching the elements kept by every Change, tested in the order the Changes
+     * were made
+     */
+    private Predicate<E> combine() {
+        final Predicate<? super E>[] predicates = newPredicateArray(changes.length);
+
+        for (int i = 0; i < changes.length; i++) {
+            predicates[i] = switch (changes[i]) {
+                case ParallelRetainAll<E> c -> c.retained();
+                case ParallelRetainIf<E> c  -> c.getFilter()::test;
+                case ParallelRemoveIf<E> c  -> e -> !c.getFilter().test(e);
+                default -> throw new IllegalStateException("Cannot sequentialise " + changes[i]);
+            };
+        }
+
+        return e -> {
+            for (Predicate<? super E> predicate : predicates) {
+                if (!predicate.test(e)) return false;
+            }
+            return true;
+        };
+    }
+
+    @Override
+    protected void prepare() {
+        retained.get();
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return ArrayUtil.parallelRetainIf(array, retained.get(), threadCount);
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.filter(retained.get());
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "SequentialParallelRetain{changes=" +
+                Arrays.toString(changes) +
+                ", threads=" +
+                threadCount +
+                "}";
+    }
+}
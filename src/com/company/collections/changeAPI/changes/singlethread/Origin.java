@@ -6,6 +6,8 @@ import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} used as a base for further modifications. Only stores an initial array and does not result in any
@@ -66,6 +68,21 @@ public class Origin<E> extends SingleThreadChange<E> {
         return array;
     }
 
+    @Override
+    protected int resultSize(final int inputSize) {
+        return inputSize;
+    }
+
+    @Override
+    protected Membership membership(final Object o) {
+        return Membership.PRESERVES;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return Function.identity();
+    }
+
     // ====================================
     //             ACCESSORS
     // ====================================
@@ -23,7 +23,9 @@ import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -398,6 +400,7 @@ public abstract class SingleThreadChange<T> extends Change<T> {
 
     /**
      * Sorts an array according to the default {@link com.company.utilities.comparators.ObjectComparator ObjectComparator}
+     * (large arrays of boxed numbers are radix sorted instead, see {@link com.company.utilities.RadixSort RadixSort})
      * @return (Ordered\u003C T \u003E): new SingleThreadChange containing instructions on how to sort an array
      */
     public final FunctionalChange<T> sorted() {
@@ -418,12 +421,12 @@ public abstract class SingleThreadChange<T> extends Change<T> {
     // ====================================
 
     /**
-     * Retains only unique values in an array, according to the default
-     * {@link com.company.utilities.comparators.ObjectComparator ObjectComparator}
+     * Retains only the first occurrence of every unique value in an array, according to {@code equals} and
+     * {@code hashCode}
      * @return (Unique\u003C T \u003E): new SingleThreadChange containing instructions on how to retain unique elements in the array
      */
     public final FunctionalChange<T> unique() {
-        return new FunctionalChange<>(clazz, ArrayUtil::retainDistinct, this);
+        return new FunctionalChange<>(clazz, Functions.unique(), this);
     }
 
     /**
@@ -433,7 +436,31 @@ public abstract class SingleThreadChange<T> extends Change<T> {
      * elements in the array
      */
     public final FunctionalChange<T> unique(final Comparator<T> comparator) {
-        return new FunctionalChange<>(clazz, array -> ArrayUtil.retainDistinct(array, comparator), this);
+        return new FunctionalChange<>(clazz, Functions.unique(comparator), this);
+    }
+
+    // ====================================
+    //              LIMITING
+    // ====================================
+
+    /**
+     * Retains only the first elements of an array, up to the given number of elements. Previous changes are only
+     * applied to the elements which are retained whenever they can be streamed (see {@code Change.stream})
+     * @param maxSize ({@code int}): maximum number of elements to retain
+     * @return (FunctionalChange\u003C T \u003E): new SingleThreadChange containing instructions on how to limit the array
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public final FunctionalChange<T> limit(final int maxSize) {
+        return new FunctionalChange<>(clazz, Functions.limit(maxSize), this);
+    }
+
+    /**
+     * Alias of {@code limit}
+     * @param n ({@code int}): maximum number of elements to retain
+     * @return (FunctionalChange\u003C T \u003E): new SingleThreadChange containing instructions on how to limit the array
+     */
+    public final FunctionalChange<T> head(final int n) {
+        return limit(n);
     }
 
     // ====================================
@@ -454,12 +481,13 @@ public abstract class SingleThreadChange<T> extends Change<T> {
     // ====================================
 
     /**
-     * Returns the indexes of the first occurrence of each element to find
+     * Returns the indexes of the first occurrence of each element to find. Elements are pulled lazily through the
+     * changes (see {@code Change.stream}), stopping as soon as every element has been found
      * @param toFind ({@code Object...}): the elements to find
      * @return (int[]): the indexes of first occurrence of each element
      */
     public final int[] findFirst(Object... toFind) {
-        return (int[]) ChangeInformation.findFirst(toFind).getInformation(toArray());
+        return ArrayUtil.quickFindFirst(stream().iterator(), toFind);
     }
 
     /**
@@ -481,12 +509,21 @@ public abstract class SingleThreadChange<T> extends Change<T> {
     }
 
     /**
-     * Returns the first values to match the given {@link Predicate}
+     * Returns the first values to match the given {@link Predicate}. Elements are pulled lazily through the changes
+     * (see {@code Change.stream}), stopping at the first match
      * @param filter ({@code Predicate<T>}): predicate used to check values
-     * @return (T): the first value to match the given predicate
+     * @return (T): the first value to match the given predicate, null if there is none
      */
     public final T getFirst(final Predicate<? super T> filter) {
-        return (T) ChangeInformation.getFirst(filter).getInformation(toArray());
+        Objects.requireNonNull(filter);
+
+        final Iterator<T> iterator = stream().iterator();
+        while (iterator.hasNext()) {
+            final T value = iterator.next();
+            if (filter.test(value)) return value;
+        }
+
+        return null;
     }
 
     /**
@@ -574,4 +611,90 @@ public abstract class SingleThreadChange<T> extends Change<T> {
         Objects.requireNonNull(information);
         return (T) information.getInformation(toArray());
     }
+
+    // ====================================
+    //        ASYNCHRONOUS INFORMATION
+    // ====================================
+
+    /**
+     * Asynchronous version of {@code findFirst}, run on the current asynchronous executor
+     * (see {@code Change.getAsyncExecutor})
+     * @param toFind ({@code Object...}): the elements to find
+     * @return (CompletableFuture\u003C int[] \u003E): completed with the indexes of first occurrence of each element
+     */
+    public final CompletableFuture<int[]> findFirstAsync(Object... toFind) {
+        return supplyAsync(() -> findFirst(toFind), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@code findAll}, run on the current asynchronous executor
+     * @param toFind ({@code Object...}): the elements to find
+     * @return (CompletableFuture\u003C int[] \u003E): completed with the indexes of each occurrence of every element
+     */
+    public final CompletableFuture<int[]> findAllAsync(Object... toFind) {
+        return supplyAsync(() -> findAll(toFind), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@code getAt}, run on the current asynchronous executor
+     * @param indexes ({@code int...}): indexes at which to get the values
+     * @return (CompletableFuture\u003C T[] \u003E): completed with the values at the specified indexes
+     */
+    public final CompletableFuture<T[]> getAtAsync(int... indexes) {
+        return supplyAsync(() -> getAt(indexes), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@code getFirst}, run on the current asynchronous executor
+     * @param filter ({@code Predicate<T>}): predicate used to check values
+     * @return (CompletableFuture\u003C T \u003E): completed with the first value to match the predicate, or null
+     */
+    public final CompletableFuture<T> getFirstAsync(final Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        return supplyAsync(() -> getFirst(filter), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@code getAll}, run on the current asynchronous executor
+     * @param filter ({@code Predicate<T>}): predicate used to check values
+     * @return (CompletableFuture\u003C T[] \u003E): completed with all the values matching the predicate
+     */
+    public final CompletableFuture<T[]> getAllAsync(final Predicate<T> filter) {
+        Objects.requireNonNull(filter);
+        return supplyAsync(() -> getAll(filter), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@code countMatches}, run on the current asynchronous executor
+     * @param toFind ({@code Object...}): the values to find
+     * @return (CompletableFuture\u003C int[] \u003E): completed with the number of occurrence of each value
+     */
+    public final CompletableFuture<int[]> countMatchesAsync(final Object... toFind) {
+        return supplyAsync(() -> countMatches(toFind), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@code countMatches}, run on the current asynchronous executor
+     * @param filter ({@code Predicate<T>}): predicate used to check values
+     * @return (CompletableFuture\u003C Integer \u003E): completed with the number of values matching the predicate
+     */
+    public final CompletableFuture<Integer> countMatchesAsync(final Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        return supplyAsync(() -> countMatches(filter), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@code getInformation}, run on the current asynchronous executor. Also covers
+     * {@code sumOf}, {@code multiplyAll}... through {@code ChangeInformation.sum()},
+     * {@code ChangeInformation.multiply()}...
+     * @param information ({@code ChangeInformation<T>}): the information to compute
+     * @return (CompletableFuture\u003C T \u003E): completed with the information, or exceptionally if it could not be
+     * computed
+     */
+    public final CompletableFuture<T> getInformationAsync(
+            @NotNull final ChangeInformation<T> information
+    ) {
+        Objects.requireNonNull(information);
+        return supplyAsync(() -> getInformation(information), getAsyncExecutor());
+    }
 }
@@ -0,0 +1,152 @@
+package com.company.collections.changeAPI.changes.singlethread;
+
+import com.company.collections.PersistentVector;
+import com.company.collections.changeAPI.changes.parallel.ParallelOrigin;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Array;
+import java.util.Objects;
+
+/**
+ * {@link Origin} storing its initial elements in a {@link PersistentVector} instead of an array. New versions of the
+ * elements differing by a few replaced, inserted or removed elements are created in O(log n) and share most of their
+ * structure with the previous version, instead of copying the whole array.<br><br>
+ *
+ * <u><i>Array conversion:</i></u><br><br>
+ *
+ * The array changes are resolved from is only built when it is first needed, for example by {@code toArray} or by a
+ * Change appended to this VectorOrigin. It is then softly referenced, the same way checkpoints are, and rebuilt in
+ * O(n) if it has been reclaimed. Versions which are only accessed through {@code get} and {@code getVector} never
+ * build it.
+ * @param <E> the type the SingleThreadChange operates on
+ * @author Eliot McNab
+ */
+public class VectorOrigin<E> extends Origin<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private final PersistentVector<E> vector;
+    private volatile SoftReference<E[]> materialised = null;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public VectorOrigin(
+            @NotNull final Class<E> clazz,
+            @NotNull final PersistentVector<E> vector
+    ) {
+        super(
+                clazz,
+                (E[]) Array.newInstance(clazz, 0)
+        );
+        this.vector = Objects.requireNonNull(vector);
+    }
+
+    // ====================================
+    //              VERSIONS
+    // ====================================
+
+    /**
+     * Replaces the element at the given index, in O(log n)
+     * @param index ({@code int}): index of the element to replace
+     * @param value ({@code E}): the replacing value
+     * @return (VectorOrigin< E >): new version of the elements, sharing structure with this one
+     */
+    public VectorOrigin<E> with(
+            final int index,
+            final E value
+    ) {
+        return new VectorOrigin<>(clazz, vector.set(index, value));
+    }
+
+    /**
+     * Inserts an element at the given index, in O(log n)
+     * @param index ({@code int}): index at which to insert the element
+     * @param value ({@code E}): the inserted value
+     * @return (VectorOrigin< E >): new version of the elements, sharing structure with this one
+     */
+    public VectorOrigin<E> withInserted(
+            final int index,
+            final E value
+    ) {
+        return new VectorOrigin<>(clazz, vector.insert(index, value));
+    }
+
+    /**
+     * Appends elements at the end, in O(k log n)
+     * @param values ({@code E...}): the appended values
+     * @return (VectorOrigin< E >): new version of the elements, sharing structure with this one
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final VectorOrigin<E> withAppended(final E... values) {
+        return new VectorOrigin<>(clazz, vector.appendAll(values));
+    }
+
+    /**
+     * Removes the element at the given index, in O(log n)
+     * @param index ({@code int}): index of the element to remove
+     * @return (VectorOrigin< E >): new version of the elements, sharing structure with this one
+     */
+    public VectorOrigin<E> withoutAt(final int index) {
+        return new VectorOrigin<>(clazz, vector.remove(index));
+    }
+
+    // ====================================
+    //           MULTITHREADING
+    // ====================================
+
+    @Override
+    public ParallelOrigin<E> parallel() {
+        return new ParallelOrigin<>(clazz, initialArray());
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected E[] initialArray() {
+        final SoftReference<E[]> reference = materialised;
+        E[] result = reference == null ? null : reference.get();
+
+        if (result == null) {
+            result = vector.toArray(clazz);
+            materialised = new SoftReference<>(result);
+        }
+
+        return result;
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public E get(final int index) {
+        return vector.get(index);
+    }
+
+    public PersistentVector<E> getVector() {
+        return vector;
+    }
+
+    @Override
+    public E[] getArray() {
+        return vector.toArray(clazz);
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "VectorOrigin{vector=" +
+                vector +
+                "}";
+    }
+}
@@ -1,11 +1,14 @@
 package com.company.collections.changeAPI.changes.singlethread.add;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} responsible for adding elements to an array
@@ -13,12 +16,6 @@ import java.util.Collection;
  */
 public class Add<E> extends AddBase<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISATBLE = new Class<?>[]{Add.class};
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -74,7 +71,7 @@ public class Add<E> extends AddBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISATBLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
@@ -85,6 +82,21 @@ public class Add<E> extends AddBase<E> {
         return result;
     }
 
+    @Override
+    protected Membership membership(final Object o) {
+        return Arrays.asList(toAdd).contains(o) ? Membership.ADDS : Membership.PRESERVES;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> Stream.concat(stream, Arrays.stream(toAdd));
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        return inputSize < 0 ? -1 : inputSize + toAdd.length;
+    }
+
     // ====================================
     //          ARRAY CONVERSION
     // ====================================
@@ -73,6 +73,11 @@ SequentialAdd<E> extends AddBase<E> {
         return Arrays.copyOf(result, k);
     }
 
+    @Override
+    protected int resultSize(final int inputSize) {
+        return inputSize < 0 ? -1 : inputSize + totalLength;
+    }
+
     // ====================================
     //          ARRAY CONVERSION
     // ====================================
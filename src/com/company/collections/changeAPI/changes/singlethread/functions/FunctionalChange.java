@@ -5,6 +5,7 @@ import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class FunctionalChange<E> extends SingleThreadChange<E> {
 
@@ -57,6 +58,49 @@ public class FunctionalChange<E> extends SingleThreadChange<E> {
         return function.apply(array);
     }
 
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] array) {
+        if (function instanceof Functions.InPlace<?> inPlace) return ((Functions.InPlace<E>) inPlace).applyInPlace(array);
+        return function.apply(array);
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        if (function instanceof Functions.Clear)                                         return 0;
+        if (function instanceof Functions.Sort || function instanceof Functions.ForEach) return inputSize;
+        if (function instanceof Functions.Limit<E> limit) {
+            return inputSize < 0 ? -1 : Math.min(inputSize, limit.getMaxSize());
+        }
+        return -1;
+    }
+
+    @Override
+    protected Membership membership(final Object o) {
+        if (function instanceof Functions.Clear)  return Membership.REMOVES;
+        // sorting never affects which values are in the array
+        if (function instanceof Functions.Sort)   return Membership.PRESERVES;
+        // only duplicates are discarded when values are compared with equals, but a comparator may consider values
+        // which are not equal to be the same
+        if (function instanceof Functions.Unique<?> unique) {
+            return unique.getComparator() == null ? Membership.PRESERVES : Membership.MAY_REMOVE;
+        }
+        if (function instanceof Functions.Limit)  return Membership.MAY_REMOVE;
+        return Membership.UNKNOWN;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return switch (function) {
+            case Functions.ForEach<E> forEach -> stream -> stream.map(forEach.getFunction());
+            case Functions.Sort<E> sort       -> stream -> stream.sorted(sort.getComparator());
+            case Functions.Limit<E> limit     -> stream -> stream.limit(limit.getMaxSize());
+            // only equality is supported by streams
+            case Functions.Unique<E> unique   -> unique.getComparator() == null ? stream -> stream.distinct() : null;
+            case Functions.Clear<E> clear     -> stream -> Stream.empty();
+            default                           -> null;
+        };
+    }
+
     // ====================================
     //             ACCESSORS
     // ====================================
@@ -1,44 +1,245 @@
 package com.company.collections.changeAPI.changes.singlethread.functions;
 
+import com.company.utilities.ArrayUtil;
+import com.company.utilities.Deadline;
+import com.company.utilities.RadixSort;
 import com.company.utilities.comparators.ObjectComparator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.function.Function;
 
+/**
+ * Functions applied to whole arrays by {@link FunctionalChange FunctionalChanges}. Each function is implemented as its
+ * own class so that the functions applied by a chain of Changes can be identified and optimised before resolution.
+ */
 public abstract class Functions {
 
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private static final Comparator<Object> DEFAULT_COMPARATOR = new ObjectComparator();
+
+    // ====================================
+    //             FUNCTIONS
+    // ====================================
+
     public static <T> Function<T[], T[]> forEach(
             @NotNull final Function<T, T> function
     ) {
-        return array -> {
+        return new ForEach<>(function);
+    }
+
+    public static <T> Function<T[], T[]> sort() {
+        return sort((Comparator<T>) DEFAULT_COMPARATOR);
+    }
+
+    public static <T> Function<T[], T[]> sort(
+            @NotNull final Comparator<T> comparator
+    ) {
+        return new Sort<>(comparator);
+    }
+
+    public static <T> Function<T[], T[]> unique() {
+        return new Unique<>(null);
+    }
+
+    public static <T> Function<T[], T[]> unique(
+            @NotNull final Comparator<T> comparator
+    ) {
+        return new Unique<>(Objects.requireNonNull(comparator));
+    }
+
+    public static <T> Function<T[], T[]> clear() {
+        return new Clear<>();
+    }
+
+    public static <T> Function<T[], T[]> limit(final int maxSize) {
+        return new Limit<>(maxSize);
+    }
+
+    // ====================================
+    //          IMPLEMENTATIONS
+    // ====================================
+
+    /**
+     * Function which can also be applied directly to an array, modifying it instead of copying it
+     * @param <T> the type of the array
+     */
+    public interface InPlace<T> {
+
+        /**
+         * @param array ({@code T[]}): the array to apply the function to, which may be modified
+         * @return (T[]): the resulting array, either the given array or a new one
+         */
+        T[] applyInPlace(T[] array);
+    }
+
+    /**
+     * Applies a {@link Function} to every element in an array
+     * @param <T> the type of the array
+     */
+    public static final class ForEach<T> implements Function<T[], T[]>, InPlace<T> {
+
+        private final Function<T, T> function;
+
+        private ForEach(@NotNull final Function<T, T> function) {
+            this.function = Objects.requireNonNull(function);
+        }
+
+        public Function<T, T> getFunction() {
+            return function;
+        }
+
+        @Override
+        public T[] apply(final T[] array) {
             final T[] result = (T[]) Array.newInstance(array.getClass().getComponentType(), array.length);
 
+            final Deadline deadline = Deadline.current();
             for (int i = 0; i < result.length; i++) {
+                Deadline.poll(deadline);
                 result[i] = function.apply(array[i]);
             }
 
             return result;
-        };
+        }
+
+        @Override
+        public T[] applyInPlace(final T[] array) {
+            final Deadline deadline = Deadline.current();
+            for (int i = 0; i < array.length; i++) {
+                Deadline.poll(deadline);
+                array[i] = function.apply(array[i]);
+            }
+
+            return array;
+        }
+
+        @Override
+        public String toString() {
+            return "ForEach{function=" + function + "}";
+        }
     }
 
-    public static <T> Function<T[], T[]> sort() {
-        return sort((Comparator<T>) new ObjectComparator());
+    /**
+     * Sorts an array according to a {@link Comparator}
+     * @param <T> the type of the array
+     */
+    public static final class Sort<T> implements Function<T[], T[]>, InPlace<T> {
+
+        private final Comparator<T> comparator;
+
+        private Sort(@NotNull final Comparator<T> comparator) {
+            this.comparator = Objects.requireNonNull(comparator);
+        }
+
+        public Comparator<T> getComparator() {
+            return comparator;
+        }
+
+        @Override
+        public T[] apply(final T[] array) {
+            return applyInPlace(Arrays.copyOf(array, array.length));
+        }
+
+        @Override
+        public T[] applyInPlace(final T[] array) {
+            // boxed numbers sorted according to their natural order are radix sorted instead of compared
+            if (RadixSort.isNaturalOrder(comparator) && RadixSort.sort(array)) return array;
+
+            Arrays.parallelSort(array, comparator);
+            return array;
+        }
+
+        @Override
+        public String toString() {
+            return "Sort{comparator=" + comparator + "}";
+        }
     }
 
-    public static <T> Function<T[], T[]> sort(
-            @NotNull final Comparator<T> comparator
-    ) {
-        return array -> {
-            final T[] result = Arrays.copyOf(array, array.length);
-            Arrays.parallelSort(result, comparator);
-            return result;
-        };
+    /**
+     * Retains only the first occurrence of every distinct element in an array, preserving their order. Elements are
+     * distinct according to {@code equals} and {@code hashCode}, or according to a {@link Comparator} if one is given.
+     * @param <T> the type of the array
+     */
+    public static final class Unique<T> implements Function<T[], T[]> {
+
+        private final Comparator<T> comparator;
+
+        private Unique(@Nullable final Comparator<T> comparator) {
+            this.comparator = comparator;
+        }
+
+        /**
+         * @return (Comparator< T >): comparator used to determine which elements are distinct, null if elements are
+         * compared with {@code equals}
+         */
+        @Nullable
+        public Comparator<T> getComparator() {
+            return comparator;
+        }
+
+        @Override
+        public T[] apply(final T[] array) {
+            if (comparator == null) return ArrayUtil.retainDistinctHashed(array);
+            return ArrayUtil.retainDistinct(array, comparator);
+        }
+
+        @Override
+        public String toString() {
+            return "Unique{comparator=" + comparator + "}";
+        }
     }
 
-    public static <T> Function<T[], T[]> clear() {
-        return array -> (T[]) Array.newInstance(array.getClass().getComponentType(), 0);
+    /**
+     * Clears an array, resulting in a zero-element array of the same type
+     * @param <T> the type of the array
+     */
+    public static final class Clear<T> implements Function<T[], T[]> {
+
+        private Clear() {}
+
+        @Override
+        public T[] apply(final T[] array) {
+            return (T[]) Array.newInstance(array.getClass().getComponentType(), 0);
+        }
+
+        @Override
+        public String toString() {
+            return "Clear{}";
+        }
+    }
+
+    /**
+     * Retains only the first elements of an array, up to a maximum number of elements
+     * @param <T> the type of the array
+     */
+    public static final class Limit<T> implements Function<T[], T[]> {
+
+        private final int maxSize;
+
+        private Limit(final int maxSize) {
+            if (maxSize < 0) throw new IllegalArgumentException("Limit cannot be negative");
+            this.maxSize = maxSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        @Override
+        public T[] apply(final T[] array) {
+            return Arrays.copyOf(array, Math.min(maxSize, array.length));
+        }
+
+        @Override
+        public String toString() {
+            return "Limit{maxSize=" + maxSize + "}";
+        }
     }
 }
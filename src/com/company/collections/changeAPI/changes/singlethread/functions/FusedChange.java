@@ -0,0 +1,223 @@
+package com.company.collections.changeAPI.changes.singlethread.functions;
+
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+import com.company.collections.changeAPI.changes.singlethread.remove.RemoveAll;
+import com.company.collections.changeAPI.changes.singlethread.remove.RemoveIf;
+import com.company.collections.changeAPI.changes.singlethread.replace.ReplaceAll;
+import com.company.collections.changeAPI.changes.singlethread.replace.ReplaceAllIf;
+import com.company.collections.changeAPI.changes.singlethread.retain.RetainAll;
+import com.company.collections.changeAPI.changes.singlethread.retain.RetainIf;
+import com.company.utilities.Deadline;
+import com.company.utilities.Lazy;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * {@link SingleThreadChange} responsible for applying multiple consecutive element-wise changes in a single pass over
+ * an array. Element-wise changes are changes which decide what to do with each element independently of the rest of
+ * the array:
+ * <ul>
+ *     <li><i>map</i>: {@code forEach}, {@link ReplaceAll} and {@link ReplaceAllIf}</li>
+ *     <li><i>filter</i>: {@link RetainIf}, {@link RemoveIf}, {@link RetainAll} and {@link RemoveAll}</li>
+ * </ul>
+ * Each element goes through every stage in order before the next element is processed, so that the whole run of
+ * changes only loops over the array and allocates a result array once.
+ * @param <E> the type the SingleThreadChange operates on
+ */
+public class FusedChange<E> extends SingleThreadChange<E> {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    // changes as given to the constructor, which may themselves be FusedChanges
+    private final Change<E>[] parts;
+
+    // fused changes and their stages, only built for the FusedChange which ends up being applied rather than every
+    // time a run of changes grows by one during rewriting
+    private final Lazy<Change<E>[]> changes = new Lazy<>(this::flatten);
+    private final Lazy<Stage<E>[]> stages = new Lazy<>(this::toStages);
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    public FusedChange(
+            final Class<E> clazz,
+            final Change<E>[] changes
+    ) {
+        super(clazz);
+        this.parts = Arrays.copyOf(changes, changes.length);
+    }
+
+    private enum Kind { MAP, RETAIN }
+
+    private record Stage<E>(Kind kind, Function<E, E> function, Predicate<? super E> filter) {}
+
+    // ====================================
+    //               FUSION
+    // ====================================
+
+    /**
+     * Determines whether a {@link Change} can be applied by a {@link FusedChange}
+     * @param change ({@code Change<?>}): the change to check
+     * @return (boolean): whether the change is element-wise
+     */
+    public static boolean isFusable(@NotNull final Change<?> change) {
+        final Class<?> type = change.getClass();
+
+        if (change instanceof FunctionalChange<?> functional) return functional.getFunction() instanceof Functions.ForEach;
+
+        return type == FusedChange.class    ||
+               type == RetainIf.class       ||
+               type == RemoveIf.class       ||
+               type == RetainAll.class      ||
+               type == RemoveAll.class      ||
+               type == ReplaceAll.class     ||
+               type == ReplaceAllIf.class;
+    }
+
+    private Change<E>[] flatten() {
+        return flatten(parts, change -> change instanceof FusedChange<E> fused ? fused.parts : null);
+    }
+
+    private Stage<E>[] toStages() {
+        final Change<E>[] changes = this.changes.get();
+        final Stage<E>[] stages = (Stage<E>[]) new Stage<?>[changes.length];
+
+        for (int i = 0; i < changes.length; i++) {
+            stages[i] = toStage(changes[i]);
+        }
+
+        return stages;
+    }
+
+    private static <E> Stage<E> toStage(final Change<E> change) {
+        return switch (change) {
+            case FunctionalChange<E> c                   -> map(((Functions.ForEach<E>) c.getFunction()).getFunction());
+            case RetainIf<E> c                           -> retain(c.getFilter());
+            case RemoveIf<E> c                           -> retain(c.getFilter().negate());
+            case RetainAll<E> c                          -> retain(c.retained());
+            case RemoveAll<E> c                          -> retain(c.removed().negate());
+            case ReplaceAll<E> c                         -> map(c.replacement());
+            case ReplaceAllIf<E> c                       -> {
+                final Predicate<? super E> filter = c.getFilter();
+                final E replacingValue = (E) c.getValues()[0];
+                yield map(e -> filter.test(e) ? replacingValue : e);
+            }
+            default -> throw new IllegalArgumentException("Cannot fuse " + change);
+        };
+    }
+
+    private static <E> Stage<E> map(final Function<E, E> function) {
+        return new Stage<>(Kind.MAP, function, null);
+    }
+
+    private static <E> Stage<E> retain(final Predicate<? super E> filter) {
+        return new Stage<>(Kind.RETAIN, null, filter);
+    }
+
+    // ====================================
+    //          APPLYING CHANGES
+    // ====================================
+
+    @Override
+    protected boolean canSequentialise(Change<E> change) {
+        return false;
+    }
+
+    @Override
+    protected Change<E> toSequential(Change<E>[] changes) {
+        return null;
+    }
+
+    @Override
+    protected void prepare() {
+        stages.get();
+    }
+
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        return fuse(array, (E[]) Array.newInstance(array.getClass().getComponentType(), array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(@NotNull final E[] array) {
+        // elements are always written at or before the index they are read from
+        return fuse(array, array);
+    }
+
+    private E[] fuse(
+            final E[] array,
+            final E[] result
+    ) {
+        final Stage<E>[] stages = this.stages.get();
+
+        int k = 0;
+        final Deadline deadline = Deadline.current();
+        // for every element in the array...
+        mainLoop: for (int i = 0; i < array.length; i++) {
+            Deadline.poll(deadline);
+            E e = array[i];
+            // ...goes through every stage in order...
+            for (Stage<E> stage : stages) {
+                if (stage.kind == Kind.MAP) {
+                    e = stage.function.apply(e);
+                }
+                // ...moving on to the next element as soon as it is filtered out
+                else if (!stage.filter.test(e)) {
+                    continue mainLoop;
+                }
+            }
+            result[k++] = e;
+        }
+
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        final Stage<E>[] stages = this.stages.get();
+        return stream -> {
+            for (Stage<E> stage : stages) {
+                if (stage.kind == Kind.MAP) stream = stream.map(stage.function);
+                else                        stream = stream.filter(stage.filter);
+            }
+            return stream;
+        };
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        for (Stage<E> stage : stages.get()) {
+            if (stage.kind == Kind.RETAIN) return -1;
+        }
+        return inputSize;
+    }
+
+    // ====================================
+    //             ACCESSORS
+    // ====================================
+
+    public Change<E>[] getChanges() {
+        final Change<E>[] changes = this.changes.get();
+        return Arrays.copyOf(changes, changes.length);
+    }
+
+    // ====================================
+    //          ARRAY CONVERSION
+    // ====================================
+
+    @Override
+    public String toString() {
+        return "FusedChange{" +
+                Arrays.toString(changes.get()) +
+                "}";
+    }
+}
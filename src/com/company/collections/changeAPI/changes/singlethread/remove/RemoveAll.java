@@ -1,8 +1,10 @@
 package com.company.collections.changeAPI.changes.singlethread.remove;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 import com.company.utilities.comparators.ObjectComparator;
 import org.jetbrains.annotations.NotNull;
 
@@ -11,6 +13,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} responsible for removing all instance of every given element from an array. Allows the removal of
@@ -23,10 +28,8 @@ public class RemoveAll<E> extends RemoveBase<E> {
     //               FIELDS
     // ====================================
 
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            RemoveAll.class,
-            RemoveFirst.class
-    };
+    // sorted distinct values to remove, built once and reused every time the change is applied
+    private final Lazy<Object[]> uniqueToRemove = new Lazy<>(() -> ArrayUtil.sortedDistinct(toRemove));
 
     // ====================================
     //             CONSTRUCTOR
@@ -90,7 +93,32 @@ public class RemoveAll<E> extends RemoveBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
+    }
+
+    @Override
+    protected Membership membership(final Object o) {
+        // every instance of an element to remove is removed, elements being matched the same way as when applied
+        return removed().test(o) ? Membership.REMOVES : Membership.MAY_REMOVE;
+    }
+
+    /**
+     * @return (Predicate< Object >): predicate matching the elements removed by this Change
+     */
+    public Predicate<Object> removed() {
+        final Comparator<Object> comparator = new ObjectComparator();
+        final Object[] uniqueToRemove = this.uniqueToRemove.get();
+        return e -> Arrays.binarySearch(uniqueToRemove, e, comparator) >= 0;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.filter(removed().negate());
+    }
+
+    @Override
+    protected void prepare() {
+        uniqueToRemove.get();
     }
 
     @Override
@@ -100,9 +128,8 @@ public class RemoveAll<E> extends RemoveBase<E> {
         // used for sorting and searching gor elements
         final Comparator<Object> comparator = new ObjectComparator();
 
-        // keeps only the unique elements to remove and sorts them
-        final Object[] uniqueToRemove = ArrayUtil.retainDistinctImpl(toRemove, new ObjectComparator());
-        Arrays.parallelSort(uniqueToRemove, comparator);
+        // the unique elements to remove, sorted
+        final Object[] uniqueToRemove = this.uniqueToRemove.get();
 
         // initialises the result array
         final E[] result = (E[]) Array.newInstance(clazz, array.length);
@@ -1,8 +1,10 @@
 package com.company.collections.changeAPI.changes.singlethread.remove;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 
 import java.util.Arrays;
 
@@ -17,9 +19,10 @@ public class RemoveAt<E> extends RemoveBase<E> {
     //               FIELDS
     // ====================================
 
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            RemoveAt.class
-    };
+    // sorted distinct copy of the indexes to remove, so that neither the given indexes nor this change are modified
+    private final Lazy<int[]> uniqueIndexes = new Lazy<>(
+            () -> ArrayUtil.retainDistinct(Arrays.copyOf(removalIndexes, removalIndexes.length))
+    );
 
     // ====================================
     //             CONSTRUCTOR
@@ -49,7 +52,6 @@ public class RemoveAt<E> extends RemoveBase<E> {
                 indexes,
                 parent
         );
-        Arrays.parallelSort(indexes);
     }
 
     // ====================================
@@ -58,7 +60,7 @@ public class RemoveAt<E> extends RemoveBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
@@ -66,9 +68,22 @@ public class RemoveAt<E> extends RemoveBase<E> {
         return new SequentialRemoveAt<>(clazz, changes);
     }
 
+    @Override
+    protected void prepare() {
+        uniqueIndexes.get();
+    }
+
     @Override
     protected E[] applyToImpl(E[] array) {
-        return ArrayUtil.removeAt(array, removalIndexes);
+        return ArrayUtil.removeSortedAt(array, uniqueIndexes.get());
+    }
+
+    @Override
+    protected int resultSize(final int inputSize) {
+        if (inputSize < 0) return -1;
+
+        // invalid indexes are ignored during removal
+        return inputSize - (int) Arrays.stream(uniqueIndexes.get()).filter(i -> i >= 0 && i < inputSize).count();
     }
 
     // ====================================
@@ -60,6 +60,10 @@ public abstract class RemoveBase<E> extends ConditionalChange<E> {
         return Arrays.copyOf(toRemove, toRemove.length);
     }
 
+    public int[] getRemovalIndexes() {
+        return Arrays.copyOf(removalIndexes, removalIndexes.length);
+    }
+
     public Predicate<? super E> getFilter() {
         return filter;
     }
@@ -73,6 +77,12 @@ public abstract class RemoveBase<E> extends ConditionalChange<E> {
         return new SequentialRemove<>(clazz, changes);
     }
 
+    @Override
+    protected Membership membership(final Object o) {
+        // removing elements never introduces new ones
+        return Membership.MAY_REMOVE;
+    }
+
     public boolean isBigChange(final E[] array) {
         return toRemove.length > BIG_THRESHOLD;
     }
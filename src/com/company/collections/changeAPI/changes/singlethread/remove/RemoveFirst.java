@@ -1,15 +1,15 @@
 package com.company.collections.changeAPI.changes.singlethread.remove;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
-import com.company.utilities.comparators.ObjectComparator;
+import com.company.utilities.Lazy;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 
 /**
  * {@link SingleThreadChange} responsible for removing the first element of every given element from an array. Can remove multiple
@@ -22,10 +22,8 @@ public class RemoveFirst<E> extends RemoveBase<E> {
     //               FIELDS
     // ====================================
 
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            RemoveAll.class,
-            RemoveFirst.class
-    };
+    // sorted distinct values to remove, built once and reused every time the change is applied
+    private final Lazy<Object[]> uniqueToRemove = new Lazy<>(() -> ArrayUtil.sortedDistinct(toRemove));
 
     // ====================================
     //             CONSTRUCTOR
@@ -89,17 +87,18 @@ public class RemoveFirst<E> extends RemoveBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
-    protected E[] applyToImpl(@NotNull E[] array) {
-        // used to compare and sort objects
-        final Comparator<Object> comparator = new ObjectComparator();
+    protected void prepare() {
+        uniqueToRemove.get();
+    }
 
-        // keeps only the unique value to removes and sorts them
-        final Object[] uniqueToRemove = ArrayUtil.retainDistinct(toRemove);
-        Arrays.parallelSort(uniqueToRemove, comparator);
+    @Override
+    protected E[] applyToImpl(@NotNull E[] array) {
+        // the unique values to remove, sorted
+        final Object[] uniqueToRemove = this.uniqueToRemove.get();
 
         // initialises the result array
         final E[] result = (E[]) Array.newInstance(clazz, array.length);
@@ -1,11 +1,13 @@
 package com.company.collections.changeAPI.changes.singlethread.remove;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
 
-import java.util.Arrays;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} responsible for removing elements in an array if they match a given {@link Predicate}. Removes all
@@ -14,14 +16,6 @@ import java.util.function.Predicate;
  */
 public class RemoveIf<E> extends RemoveBase<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            RemoveIf.class,
-    };
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -58,7 +52,7 @@ public class RemoveIf<E> extends RemoveBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
@@ -66,6 +60,11 @@ public class RemoveIf<E> extends RemoveBase<E> {
         return new SequentialRemoveIf<>(clazz, changes);
     }
 
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.filter(e -> !filter.test(e));
+    }
+
     @Override
     protected E[] applyToImpl(E[] array) {
         return ArrayUtil.removeAt(array, ArrayUtil.findAllMatches(array, filter));
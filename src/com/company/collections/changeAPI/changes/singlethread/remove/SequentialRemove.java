@@ -3,6 +3,7 @@ package com.company.collections.changeAPI.changes.singlethread.remove;
 import com.company.collections.changeAPI.Change;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 import com.company.utilities.comparators.ObjectComparator;
 
 import java.util.Arrays;
@@ -22,6 +23,8 @@ public class SequentialRemove<E> extends RemoveBase<E>{
     // =====================================
 
     private final Change<E>[] changes;
+    // sorted distinct values to remove all instances of, then only the first instance of, built once
+    private final Lazy<Object[][]> valuesToRemove = new Lazy<>(this::sortValuesToRemove);
 
     // ==================================
     //            CONSTRUCTOR
@@ -91,22 +94,30 @@ public class SequentialRemove<E> extends RemoveBase<E>{
         return result;
     }
 
+    private Object[][] sortValuesToRemove() {
+        final Change<E>[][] separate = separateChanges(changes);
+
+        return new Object[][]{
+                ArrayUtil.sortedDistinct(concatenateToRemove(separate[0])),
+                ArrayUtil.sortedDistinct(concatenateToRemove(separate[1]))
+        };
+    }
+
+    @Override
+    protected void prepare() {
+        valuesToRemove.get();
+    }
+
     @Override
     protected E[] applyToImpl(E[] array) {
 
         if (array.length == 0) return array;
 
-        final Change<E>[][] separate = separateChanges(changes);
-        final Change<E>[] removeAll = separate[0];
-        final Change<E>[] removeFirst = separate[1];
-
         final Comparator<Object> comparator = new ObjectComparator();
 
-        final Object[] removeAllValues = ArrayUtil.retainDistinct(concatenateToRemove(removeAll));
-        final Object[] removeFirstValues = ArrayUtil.retainDistinct(concatenateToRemove(removeFirst));
-
-        Arrays.parallelSort(removeAllValues, comparator);
-        Arrays.parallelSort(removeFirstValues, comparator);
+        final Object[][] valuesToRemove = this.valuesToRemove.get();
+        final Object[] removeAllValues = valuesToRemove[0];
+        final Object[] removeFirstValues = valuesToRemove[1];
 
         final int[] removeAllIndexes = new int[array.length];
         final int[] removeFirstIndexes = new int[removeFirstValues.length];
@@ -7,8 +7,8 @@ import com.company.utilities.ArrayUtil;
 import java.util.Arrays;
 
 /**
- * Sequential implementation of {@link RemoveAt} which groups all indexes to remove, ignores duplicates and removes them
- * all at once
+ * Sequential implementation of {@link RemoveAt} which translates the indexes removed by every Change into indexes of
+ * the input array, ignoring duplicates, and removes them all at once
  * @param <E> the type the {@link SingleThreadChange} operates on
  */
 public class SequentialRemoveAt<E> extends RemoveBase<E> {
@@ -45,29 +45,50 @@ public class SequentialRemoveAt<E> extends RemoveBase<E> {
         return false;
     }
 
-    private int[] concatenateRemovalIndexes(final Change<E>[] changes) {
-        int totalLength = 0;
-        for (Change<E> change : changes) {
-            totalLength += ((RemoveBase<E>) change).removalIndexes.length;
-        }
-
-        final int[] result = new int[totalLength];
+    /**
+     * Translates the indexes removed by every Change into indexes of the array the first Change is applied to. Each
+     * Change removes indexes of the array left by the previous ones, so every index is shifted past the indexes
+     * already removed before it. Indexes outside of the array a Change is applied to are ignored, as they would be by
+     * the Change itself.
+     * @param changes ({@code Change<E>[]}): the Changes to merge the indexes of, from oldest to newest
+     * @param length ({@code int}): the length of the array the first Change is applied to
+     * @return (int[]): the sorted distinct indexes of the input array to remove
+     */
+    private int[] mergeRemovalIndexes(
+            final Change<E>[] changes,
+            final int length
+    ) {
+        int[] removed = new int[0];
 
-        int k = 0;
         for (Change<E> change : changes) {
-            final RemoveBase<E> remove = (RemoveBase<E>) change;
-            System.arraycopy(remove.removalIndexes, 0, result, k, remove.removalIndexes.length);
-            k += remove.removalIndexes.length;
+            final int[] removalIndexes = ((RemoveBase<E>) change).removalIndexes;
+            final int remaining = length - removed.length;
+            final int[] indexes = ArrayUtil.retainDistinct(
+                    Arrays.stream(removalIndexes).filter(i -> i >= 0 && i < remaining).toArray()
+            );
+
+            // merges the indexes already removed with the translated indexes of this change, both in ascending order
+            final int[] merged = new int[removed.length + indexes.length];
+            int k = 0, p = 0;
+            for (int index : indexes) {
+                int original = index + p;
+                while (p < removed.length && removed[p] <= original) {
+                    merged[k++] = removed[p++];
+                    original++;
+                }
+                merged[k++] = original;
+            }
+            while (p < removed.length) merged[k++] = removed[p++];
+
+            removed = merged;
         }
 
-        return result;
+        return removed;
     }
 
     @Override
     protected E[] applyToImpl(E[] array) {
-        final int[] allIndexes = concatenateRemovalIndexes(changes);
-        final int[] indexes = ArrayUtil.retainDistinct(allIndexes);
-        return ArrayUtil.removeAt(array, indexes);
+        return ArrayUtil.removeSortedAt(array, mergeRemovalIndexes(changes, array.length));
     }
 
     // ====================================
@@ -2,6 +2,7 @@ package com.company.collections.changeAPI.changes.singlethread.remove;
 
 import com.company.collections.changeAPI.Change;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+import com.company.utilities.Deadline;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
@@ -63,11 +64,13 @@ public class SequentialRemoveIf<E> extends RemoveBase<E> {
         final Predicate<? super E>[] filters = concatenateFilters(changes);
 
         int k = 0;
-        mainLoop: for (E e : array) {
+        final Deadline deadline = Deadline.current();
+        mainLoop: for (int i = 0; i < array.length; i++) {
+            Deadline.poll(deadline);
             for (Predicate<? super E> predicate : filters) {
-                if (predicate.test(e)) continue mainLoop;
+                if (predicate.test(array[i])) continue mainLoop;
             }
-            result[k++] = e;
+            result[k++] = array[i];
         }
 
         return Arrays.copyOf(result, k);
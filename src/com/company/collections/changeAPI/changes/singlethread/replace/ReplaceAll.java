@@ -3,10 +3,13 @@ package com.company.collections.changeAPI.changes.singlethread.replace;
 import com.company.collections.changeAPI.Change;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 import com.company.utilities.comparators.ArrayElementComparator;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} responsible for replacing all given elements in an array with new values. Can replace multiple elements
@@ -18,6 +21,13 @@ import java.util.Comparator;
  */
 public class ReplaceAll<E> extends ReplaceValues<E> {
 
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    // values to replace mapped to their replacing values & sorted, built once and reused every time the change is applied
+    private final Lazy<Object[][]> replacements = new Lazy<>(this::sortReplacements);
+
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -59,17 +69,48 @@ public class ReplaceAll<E> extends ReplaceValues<E> {
         return null;
     }
 
+    private Object[][] sortReplacements() {
+        final Object[][] wrapped = ArrayUtil.wrapArrays(getEvenIndexes(), getOddIndexes());
+        Arrays.parallelSort(wrapped, new ArrayElementComparator<>(0));
+        return wrapped;
+    }
+
+    @Override
+    protected void prepare() {
+        replacements.get();
+    }
+
+    /**
+     * @return (Function< E, E >): function mapping every element to the value replacing it, or to itself if it is
+     * not replaced
+     */
+    public Function<E, E> replacement() {
+        final Comparator<Object[]> comparator = new ArrayElementComparator<>(0);
+        final Object[][] wrapped = replacements.get();
+
+        return e -> {
+            final int index = Arrays.binarySearch(wrapped, new Object[]{e}, comparator);
+            return index >= 0 ? (E) wrapped[index][1] : e;
+        };
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.map(replacement());
+    }
+
     @Override
     protected E[] applyToImpl(E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(final E[] result) {
         // comparator used for sorting wrapped arrays
         final Comparator<Object[]> comparator = new ArrayElementComparator<>(0);
 
-        // maps the values to replace to their replacing values & sorts them
-        final Object[][] wrapped = ArrayUtil.wrapArrays(getEvenIndexes(), getOddIndexes());
-        Arrays.parallelSort(wrapped, comparator);
-
-        // creates the result array
-        final E[] result = Arrays.copyOf(array, array.length);
+        // the values to replace mapped to their replacing values, sorted
+        final Object[][] wrapped = replacements.get();
 
         // for every value in the result array...
         for (int i = 0; i < result.length; i++) {
@@ -1,10 +1,14 @@
 package com.company.collections.changeAPI.changes.singlethread.replace;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+import com.company.utilities.Deadline;
 
 import java.util.Arrays;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} responsible for replacing all elements in an array which match the given {@link Predicate} with a new
@@ -13,14 +17,6 @@ import java.util.function.Predicate;
  */
 public class ReplaceAllIf<E> extends ReplaceBase<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            ReplaceAllIf.class
-    };
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -57,7 +53,7 @@ public class ReplaceAllIf<E> extends ReplaceBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
@@ -65,12 +61,23 @@ public class ReplaceAllIf<E> extends ReplaceBase<E> {
         return new SequentialReplaceAllIf<>(clazz, changes);
     }
 
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        final E replacingValue = (E) values[0];
+        return stream -> stream.map(e -> filter.test(e) ? replacingValue : e);
+    }
+
     @Override
     protected E[] applyToImpl(E[] array) {
-        final E[] result = Arrays.copyOf(array, array.length);
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
 
-        for (int i = 0; i < array.length; i++) {
-            if (filter.test(array[i])) result[i] = (E) values[0];
+    @Override
+    protected E[] applyInPlace(final E[] result) {
+        final Deadline deadline = Deadline.current();
+        for (int i = 0; i < result.length; i++) {
+            Deadline.poll(deadline);
+            if (filter.test(result[i])) result[i] = (E) values[0];
         }
 
         return result;
@@ -1,6 +1,7 @@
 package com.company.collections.changeAPI.changes.singlethread.replace;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -15,14 +16,6 @@ import java.util.Objects;
  */
 public class ReplaceAt<E> extends ReplaceValues<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-        ReplaceAt.class
-    };
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -102,7 +95,7 @@ public class ReplaceAt<E> extends ReplaceValues<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
@@ -112,11 +105,14 @@ public class ReplaceAt<E> extends ReplaceValues<E> {
 
     @Override
     protected E[] applyToImpl(E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(final E[] result) {
         final Object[] indexes = getEvenIndexes();
         final Object[] values = getOddIndexes();
 
-        final E[] result = Arrays.copyOf(array, array.length);
-
         for (int i = 0; i < indexes.length; i++) {
             result[(int) indexes[i]] = (E) values[i];
         }
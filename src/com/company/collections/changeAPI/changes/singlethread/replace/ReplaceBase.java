@@ -54,6 +54,12 @@ public abstract class ReplaceBase<E> extends ConditionalChange<E> {
         return null;
     }
 
+    @Override
+    protected int resultSize(final int inputSize) {
+        // replacing values never affects the length of an array
+        return inputSize;
+    }
+
     // ====================================
     //             ACCESSORS
     // ====================================
@@ -1,7 +1,9 @@
 package com.company.collections.changeAPI.changes.singlethread.replace;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+import com.company.utilities.Deadline;
 
 import java.util.Arrays;
 import java.util.function.Predicate;
@@ -13,14 +15,6 @@ import java.util.function.Predicate;
  */
 public class ReplaceFirstIf<E> extends ReplaceBase<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            ReplaceFirstIf.class
-    };
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -57,7 +51,7 @@ public class ReplaceFirstIf<E> extends ReplaceBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
@@ -67,10 +61,15 @@ public class ReplaceFirstIf<E> extends ReplaceBase<E> {
 
     @Override
     protected E[] applyToImpl(E[] array) {
-        final E[] result = Arrays.copyOf(array, array.length);
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
 
-        for (int i = 0; i < array.length; i++) {
-            if (filter.test(array[i])) {
+    @Override
+    protected E[] applyInPlace(final E[] result) {
+        final Deadline deadline = Deadline.current();
+        for (int i = 0; i < result.length; i++) {
+            Deadline.poll(deadline);
+            if (filter.test(result[i])) {
                 result[i] = (E) values[0];
                 break;
             }
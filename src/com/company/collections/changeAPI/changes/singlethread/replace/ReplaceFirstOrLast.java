@@ -91,6 +91,11 @@ public class ReplaceFirstOrLast<E> extends ReplaceValues<E> {
 
     @Override
     protected E[] applyToImpl(E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(final E[] result) {
         // comparator used for sorting wrapped arrays
         final Comparator<Object[]> comparator = new ArrayElementComparator<>(0);
 
@@ -101,12 +106,10 @@ public class ReplaceFirstOrLast<E> extends ReplaceValues<E> {
         final Object[][] indexMap = new Object[wrapped.length][2];
         Arrays.fill(indexMap, new Object[]{-1, null});
 
-        // creates the result array
-        final E[] result = Arrays.copyOf(array, array.length);
-
         for (int i = 0; i < result.length; i++) {
             final int index = Arrays.binarySearch(wrapped, new Object[]{result[i]}, comparator);
-            if (index >= 0 && ((int) indexMap[index][0] == -1 || i < (int) indexMap[index][0]) != replaceLast) {
+            // elements are visited in order, so the first occurrence is the first one found and the last one the last
+            if (index >= 0 && (replaceLast || (int) indexMap[index][0] == -1)) {
                 indexMap[index] = new Object[]{i, wrapped[index][1]};
             }
         }
@@ -2,13 +2,15 @@ package com.company.collections.changeAPI.changes.singlethread.replace;
 
 import com.company.collections.changeAPI.Change;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+import com.company.utilities.Deadline;
 
 import java.util.Arrays;
 import java.util.function.Predicate;
 
 /**
  * Sequential implementation of {@link ReplaceAllIf} which applies each {@link Predicate} successively to avoid having
- * to iterate through an array multiple times
+ * to iterate through an array multiple times. Every element goes through each change in order, exactly as if the
+ * changes were applied one after the other.
  * @param <E> the type the {@link SingleThreadChange} operates on
  */
 public class SequentialReplaceAllIf<E> extends ReplaceBase<E> {
@@ -46,22 +48,25 @@ public class SequentialReplaceAllIf<E> extends ReplaceBase<E> {
 
     @Override
     protected E[] applyToImpl(E[] array) {
-        final E[] result = Arrays.copyOf(array, array.length);
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
 
+    @Override
+    protected E[] applyInPlace(final E[] result) {
+        final Deadline deadline = Deadline.current();
         // iterates through every element in the array
-        mainLoop: for (int i = 0; i < array.length; i++) {
-            // iterates through every sequential change
+        for (int i = 0; i < result.length; i++) {
+            Deadline.poll(deadline);
+            // iterates through every sequential change, in the order they were made, so that an element replaced by
+            // one change is still matched against the filters of the following ones
             for (Change<E> change : changes) {
                 // gets the SingleThreadChange's filer and replacing value
                 final Predicate<? super E> filter = ((ReplaceBase<E>) change).getFilter();
                 final E replacingValue = (E) ((ReplaceBase<E>) change).values[0];
 
-                // if the current array element matches the SingleThreadChange's filter...
-                if (filter.test(array[i])) {
-                    // ...replaces its values...
+                // if the current array element matches the SingleThreadChange's filter, replaces its value
+                if (filter.test(result[i])) {
                     result[i] = replacingValue;
-                    // ...and moves on to the next value in the array
-                    continue mainLoop;
                 }
             }
         }
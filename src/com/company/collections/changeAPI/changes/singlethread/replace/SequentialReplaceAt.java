@@ -132,6 +132,11 @@ public class SequentialReplaceAt<E> extends ReplaceBase<E> {
 
     @Override
     protected E[] applyToImpl(E[] array) {
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    protected E[] applyInPlace(final E[] result) {
         // determines the total count of replacements
         final int totalLength = determineReplaceCount(changes);
 
@@ -147,8 +152,6 @@ public class SequentialReplaceAt<E> extends ReplaceBase<E> {
         // this guarantees that the latest changes are always prioritised)
         final Object[][] unique = ArrayUtil.retainDistinctImpl(combined, new ArrayElementComparator<>(0));
 
-        final E[] result = Arrays.copyOf(array, array.length);
-
         // replaces the values at the specified indexes
         for (Object[] o : unique) {
             // gets the index
@@ -2,6 +2,7 @@ package com.company.collections.changeAPI.changes.singlethread.replace;
 
 import com.company.collections.changeAPI.Change;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+import com.company.utilities.Deadline;
 
 import java.util.Arrays;
 
@@ -45,14 +46,19 @@ public class SequentialReplaceLastIf<E> extends ReplaceBase<E> {
 
     @Override
     protected E[] applyToImpl(E[] array) {
-        final E[] result = Arrays.copyOf(array, array.length);
+        return applyInPlace(Arrays.copyOf(array, array.length));
+    }
 
+    @Override
+    protected E[] applyInPlace(final E[] result) {
         final boolean[] matches = new boolean[changes.length]; // keeps track of which changes have been applied
         int matchCount = 0;                           // keeps track of how many changes have been applied
 
-        int i = array.length;
+        int i = result.length;
+        final Deadline deadline = Deadline.current();
         // iterates through the array while there are still changes to apply
         while (--i >= 0 && matchCount != changes.length) {
+            Deadline.poll(deadline);
             // iterates through every change
             for (int j = 0; j < changes.length; j++) {
                 // if the change has already been applied, moves on to the next change
@@ -1,8 +1,10 @@
 package com.company.collections.changeAPI.changes.singlethread.retain;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
+import com.company.utilities.Lazy;
 import com.company.utilities.comparators.ObjectComparator;
 
 import java.lang.reflect.Array;
@@ -10,6 +12,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} responsible for retaining all instances of given elements in an array
@@ -21,10 +26,8 @@ public class RetainAll<E> extends RetainBase<E> {
     //               FIELDS
     // ====================================
 
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            RetainAll.class,
-            RetainFirst.class
-    };
+    // sorted distinct values to retain, built once and reused every time the change is applied
+    private final Lazy<Object[]> uniqueToRetain = new Lazy<>(() -> ArrayUtil.sortedDistinct(toRetain));
 
     // ====================================
     //             CONSTRUCTOR
@@ -84,7 +87,26 @@ public class RetainAll<E> extends RetainBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
+    }
+
+    /**
+     * @return (Predicate< Object >): predicate matching the elements retained by this Change
+     */
+    public Predicate<Object> retained() {
+        final Comparator<Object> comparator = new ObjectComparator();
+        final Object[] uniqueToRetain = this.uniqueToRetain.get();
+        return e -> Arrays.binarySearch(uniqueToRetain, e, comparator) >= 0;
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.filter(retained());
+    }
+
+    @Override
+    protected void prepare() {
+        uniqueToRetain.get();
     }
 
     @Override
@@ -94,8 +116,7 @@ public class RetainAll<E> extends RetainBase<E> {
 
         final Comparator<Object> comparator = new ObjectComparator();
 
-        final Object[] uniqueToRetain = ArrayUtil.retainDistinctImpl(toRetain, comparator);
-        Arrays.parallelSort(uniqueToRetain, comparator);
+        final Object[] uniqueToRetain = this.uniqueToRetain.get();
         final E[] result = (E[]) Array.newInstance(clazz, array.length);
 
         int k = 0;
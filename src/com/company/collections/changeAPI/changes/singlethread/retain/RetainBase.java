@@ -60,4 +60,10 @@ public abstract class RetainBase<E> extends ConditionalChange<E> {
         return null;
     }
 
+    @Override
+    protected Membership membership(final Object o) {
+        // retaining elements never introduces new ones
+        return Membership.MAY_REMOVE;
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.company.collections.changeAPI.changes.singlethread.retain;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
 
@@ -14,15 +15,6 @@ import java.util.Objects;
  */
 public class RetainFirst<E> extends RetainBase<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            RetainAll.class,
-            RetainFirst.class
-    };
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -57,7 +49,7 @@ public class RetainFirst<E> extends RetainBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
     }
 
     @Override
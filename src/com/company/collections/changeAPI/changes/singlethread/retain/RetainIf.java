@@ -1,11 +1,13 @@
 package com.company.collections.changeAPI.changes.singlethread.retain;
 
 import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.SequentialiserRegistry;
 import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
 import com.company.utilities.ArrayUtil;
 
-import java.util.Arrays;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * {@link SingleThreadChange} responsible for retaining all elements in an array which match the given {@link Predicate}
@@ -13,14 +15,6 @@ import java.util.function.Predicate;
  */
 public class RetainIf<E> extends RetainBase<E> {
 
-    // ====================================
-    //               FIELDS
-    // ====================================
-
-    private static final Class<?>[] SEQUENTIALISEABLE = new Class<?>[]{
-            RetainIf.class
-    };
-
     // ====================================
     //             CONSTRUCTOR
     // ====================================
@@ -55,7 +49,12 @@ public class RetainIf<E> extends RetainBase<E> {
 
     @Override
     protected boolean canSequentialise(Change<E> change) {
-        return Arrays.asList(SEQUENTIALISEABLE).contains(change.getClass());
+        return SequentialiserRegistry.isSameFamily(this, change);
+    }
+
+    @Override
+    protected Function<Stream<E>, Stream<E>> streamStage() {
+        return stream -> stream.filter(filter::test);
     }
 
     @Override
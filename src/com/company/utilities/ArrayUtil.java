@@ -11,12 +11,26 @@ import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 public class ArrayUtil {
 
+    // number of elements a thread scans between two checks of whether other threads found what it is looking for
+    private static final int FIND_CHECK_INTERVAL = 1024;
+
+    /**
+     * Number of elements reduced from left to right by {@link #parallelReduce(Object[], BinaryOperator, int)} before
+     * being combined with the other blocks
+     */
+    public static final int REDUCTION_BLOCK_SIZE = 1 << 12;
+
     @SafeVarargs
     public static Object[] blend(
             @NotNull final Object[]... arrays
@@ -189,8 +203,10 @@ public class ArrayUtil {
         final int[] result = new int[array.length];
 
         int k = 0;
+        final Deadline deadline = Deadline.current();
         // for every value in the array...
         for (int i = 0; i < array.length; i++) {
+            Deadline.poll(deadline);
             // ...checks to see if it matches the given predicate
             if (filter.test(array[i])) result[k++] = i;
         }
@@ -383,6 +399,12 @@ public class ArrayUtil {
 
         if (array.length == 0) return array;
 
+        // boxed numbers compared according to their natural order are radix sorted instead
+        if (RadixSort.isNaturalOrder(comparator)) {
+            final T[] distinct = RadixSort.retainDistinct(array);
+            if (distinct != null) return distinct;
+        }
+
         // wraps array values to their indexes to be able to retrieve them after sorting
         final Object[][] wrapped = ArrayUtil.wrapArrayIndexes(array);
         // keeps only the distinct elements in the wrapped array but sorts it
@@ -395,6 +417,18 @@ public class ArrayUtil {
         return retrieveDistinct((Class<T>) array.getClass().getComponentType(), distinct, comparator);
     }
 
+    /**
+     * Keeps only the distinct elements in an array and sorts them according to the default {@link ObjectComparator},
+     * without modifying the given array. The result can be searched with {@code Arrays.binarySearch} using the same
+     * comparator.
+     * @param array ({@code Object[]}): array to check the values of
+     * @return (Object[]): sorted distinct elements in the array
+     */
+    public static Object[] sortedDistinct(@NotNull final Object[] array) {
+        Objects.requireNonNull(array);
+        return retainDistinctImpl(Arrays.copyOf(array, array.length, Object[].class), new ObjectComparator());
+    }
+
     /**
      * Keeps only the distinct elements in an array <strong>and sorts it</strong>
      * @param array ({@code T[]}): array to check the values of
@@ -411,8 +445,8 @@ public class ArrayUtil {
 
         if (array.length == 0) return array;
 
-        // sorts the given array
-        Arrays.parallelSort(array, comparator);
+        // sorts the given array, radix sorting boxed numbers compared according to their natural order
+        if (!RadixSort.isNaturalOrder(comparator) || !RadixSort.sort(array)) Arrays.parallelSort(array, comparator);
         // initialises the blind result array
         final T[] blindResult = (T[]) Array.newInstance(array.getClass().getComponentType(), array.length);
 
@@ -515,6 +549,12 @@ public class ArrayUtil {
 
         if (array.length == 0) return array;
 
+        // boxed numbers compared according to their natural order are radix sorted instead
+        if (RadixSort.isNaturalOrder(comparator)) {
+            final T[] distinct = RadixSort.retainDistinct(array, threadCount);
+            if (distinct != null) return distinct;
+        }
+
         // wraps array values to their indexes to be able to retrieve them after sorting
         final Object[][] wrapped = ArrayUtil.wrapArrayIndexes(array);
         // keeps only the distinct elements in the wrapped array but sorts it
@@ -549,105 +589,218 @@ public class ArrayUtil {
         // sorts the given array
         Arrays.parallelSort(array, comparator);
 
-        // initialises the result array
-        final T[] blindResult = (T[]) Array.newInstance(array.getClass().getComponentType(), array.length);
+        // keeps every element different from the element before it, the first element always being unique
+        return parallelCompact(
+                array,
+                i -> i == 0 || comparator.compare(array[i - 1], array[i]) != 0,
+                threadCount
+        );
+    }
 
-        // partition the array into the given threads
-        final int[][] partitions = partition(array, threadCount);
-        final Thread[] threads = new Thread[partitions.length];
+    public static int[] parallelRetainDistinctImpl(
+            final int @NotNull [] array,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(array);
 
-        // keeps track of where to add elements in the blind result array
-        final AtomicInteger k = new AtomicInteger(0);
+        if (array.length == 0) return array;
 
-        // for every partition in the array...
-        for (int i = 0; i < partitions.length; i++) {
-            // ...gets the partition
-            final int[] partition = partitions[i];
+        // sorts the given array
+        Arrays.parallelSort(array);
 
-            // the task run by each thread
-            final Runnable task = () -> {
-                // makes sure we can compare the current value to the value before it
-                final int start = Math.max(partition[0], 1);
+        // keeps every element different from the element before it, the first element always being unique
+        return parallelCompact(array, i -> i == 0 || array[i - 1] != array[i], threadCount);
+    }
 
-                // for every element in the current thread's partition of the array...
-                for (int j = start; j < partition[1]; j++) {
-                    // ...if the element is different from the previous element, adds it
-                    if (comparator.compare(array[j - 1], array[j]) != 0) blindResult[k.getAndIncrement()] = array[j];
-                }
-            };
+    /**
+     * Keeps only the first occurrence of every distinct element in an array, according to {@code equals}, preserving
+     * their order and without modifying the given array.<br><br>
+     *
+     * <u><i>Algorithm:</i></u><br><br>
+     *
+     * Elements are added one after the other to an open-addressing hash table holding their index in the array, so
+     * no wrapper object is allocated per element. An element is kept only if no equal element has been added before.
+     * @param array ({@code T[]}): array to check the values of
+     * @return (T[]): first occurrence of every distinct element in the array, in their original order
+     * @param <T> class of the array
+     */
+    public static <T> T[] retainDistinctHashed(@NotNull final T[] array) {
+        Objects.requireNonNull(array);
 
-            // initialises and starts the next thread
-            threads[i] = new Thread(task);
-            threads[i].start();
-        }
+        if (array.length == 0) return array;
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+        // index + 1 of the elements added to each slot of the table, 0 if the slot is empty
+        final int[] table = new int[hashTableSize(array.length)];
+        final T[] blindResult = (T[]) Array.newInstance(array.getClass().getComponentType(), array.length);
+
+        int k = 0;
+        // for every element in the array...
+        for (int i = 0; i < array.length; i++) {
+            // ...keeps it only if no equal element has been found before
+            Deadline.poll(i);
+            if (addFirst(array, null, i, Objects.hashCode(array[i]), table)) blindResult[k++] = array[i];
         }
 
-        // returns the resulting array
-        return Arrays.copyOf(blindResult, k.get());
+        // returns the final array of unique values
+        return Arrays.copyOf(blindResult, k);
     }
 
-    public static int[] parallelRetainDistinctImpl(
-            final int @NotNull [] array,
+    /**
+     * Keeps only the first occurrence of every distinct element in an array, according to {@code equals}, preserving
+     * their order and without modifying the given array. {@code equals} and {@code hashCode} may be called from
+     * several threads at the same time.<br><br>
+     *
+     * <u><i>Algorithm:</i></u><br><br>
+     *
+     * Elements are split into as many shards as there are threads according to their hash, so that equal elements
+     * always fall in the same shard:
+     * <ol>
+     *     <li>each thread hashes the elements of its partition and counts how many fall in each shard</li>
+     *     <li>a prefix sum over the counts gives where each partition writes the indexes of each shard</li>
+     *     <li>each thread scatters the indexes of its partition, so every shard lists its indexes in order</li>
+     *     <li>each thread keeps the first occurrences in one shard, using its own hash table of indexes</li>
+     *     <li>the kept elements are compacted into the result, preserving their order</li>
+     * </ol>
+     * No lock nor wrapper object is needed, and threads never write to the same location.
+     * @param array ({@code T[]}): array to check the values of
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (T[]): first occurrence of every distinct element in the array, in their original order
+     * @param <T> class of the array
+     */
+    public static <T> T[] parallelRetainDistinctHashed(
+            @NotNull final T[] array,
             final int threadCount
     ) {
         Objects.requireNonNull(array);
 
-        if (array.length == 0) return array;
+        final int[][] partitions = partition(array, threadCount);
+        if (partitions.length <= 1) return retainDistinctHashed(array);
 
-        // sorts the given array
-        Arrays.parallelSort(array);
+        final int shardCount = partitions.length;
+        final int[] hashes = new int[array.length];
+        // number of indexes of each partition falling in each shard, then where the partition writes them
+        final int[][] offsets = new int[partitions.length][shardCount];
 
-        // initialises the result array
-        final int[] blindResult = new int[array.length];
+        // hashes the elements of every partition and counts how many fall in each shard
+        final Runnable[] countTasks = new Runnable[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            final int[] partition = partitions[i];
+            final int[] counts = offsets[i];
 
-        // partition the array into the given threads
-        final int[][] partitions = partition(array, threadCount);
-        final Thread[] threads = new Thread[partitions.length];
+            countTasks[i] = () -> {
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(j);
+                    hashes[j] = Objects.hashCode(array[j]);
+                    counts[shardOf(hashes[j], shardCount)]++;
+                }
+            };
+        }
+        ThreadUtil.runAll(countTasks);
 
-        // keeps track of where to add elements in the blind result array
-        final AtomicInteger k = new AtomicInteger(0);
+        // turns the counts into offsets, shards being laid out one after the other and partitions in order
+        final int[] shardStarts = new int[shardCount + 1];
+        int total = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardStarts[shard] = total;
+            for (int i = 0; i < partitions.length; i++) {
+                final int count = offsets[i][shard];
+                offsets[i][shard] = total;
+                total += count;
+            }
+        }
+        shardStarts[shardCount] = total;
 
-        // for every partition in the array...
+        // scatters the indexes of every partition into their shard, keeping them in order
+        final int[] shardIndexes = new int[array.length];
+        final Runnable[] scatterTasks = new Runnable[partitions.length];
         for (int i = 0; i < partitions.length; i++) {
-            // ...gets the partition
             final int[] partition = partitions[i];
+            final int[] next = offsets[i];
 
-            // the task run by each thread
-            final Runnable task = () -> {
-                // makes sure we can compare the current value to the value before it
-                final int start = Math.max(partition[0], 1);
-
-                // for every element in the current thread's partition of the array...
-                for (int j = start; j < partition[1]; j++) {
-                    // ...if the element is different from the previous element, adds it
-                    if (array[j - 1] != array[j]) blindResult[k.getAndIncrement()] = array[j];
+            scatterTasks[i] = () -> {
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    shardIndexes[next[shardOf(hashes[j], shardCount)]++] = j;
                 }
             };
-
-            // initialises and starts the next thread
-            threads[i] = new Thread(task);
-            threads[i].start();
         }
+        ThreadUtil.runAll(scatterTasks);
+
+        // keeps the first occurrence of every distinct element in each shard
+        final boolean[] kept = new boolean[array.length];
+        final Runnable[] distinctTasks = new Runnable[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            final int from = shardStarts[shard];
+            final int to = shardStarts[shard + 1];
+
+            distinctTasks[shard] = () -> {
+                final int[] table = new int[hashTableSize(to - from)];
+                for (int j = from; j < to; j++) {
+                    final int index = shardIndexes[j];
+                    kept[index] = addFirst(array, hashes, index, hashes[index], table);
+                }
+            };
+        }
+        ThreadUtil.runAll(distinctTasks);
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+        // copies the kept elements to the result, in order
+        return parallelCompact(array, i -> kept[i], threadCount);
+    }
+
+    /**
+     * Adds the element at the given index of an array to an open-addressing hash table of indexes, unless an equal
+     * element has already been added
+     * @param array ({@code Object[]}): array holding the elements
+     * @param hashes ({@code int[]}): hash of every element in the array, null if they have not been computed
+     * @param index ({@code int}): index of the element to add
+     * @param hash ({@code int}): hash of the element to add
+     * @param table ({@code int[]}): index + 1 of the element added to each slot, 0 if the slot is empty
+     * @return (boolean): whether the element was added, meaning no equal element had been added before
+     */
+    private static boolean addFirst(
+            final Object[] array,
+            @Nullable final int[] hashes,
+            final int index,
+            final int hash,
+            final int[] table
+    ) {
+        final int mask = table.length - 1;
+
+        // linear probing, starting from the slot of the element's hash, until an empty slot is found
+        int slot = spreadHash(hash) & mask;
+        while (table[slot] != 0) {
+            final int other = table[slot] - 1;
+            if ((hashes == null || hashes[other] == hash) && Objects.equals(array[other], array[index])) return false;
+            slot = (slot + 1) & mask;
         }
 
-        // returns the resulting array
-        return Arrays.copyOf(blindResult, k.get());
+        table[slot] = index + 1;
+        return true;
+    }
+
+    /**
+     * @return (int): shard an element falls in according to its hash, using the high bits of the spread hash so that
+     * they do not correlate with the slots used inside each shard's hash table
+     */
+    private static int shardOf(
+            final int hash,
+            final int shardCount
+    ) {
+        return (int) (((spreadHash(hash) & 0xFFFFFFFFL) * shardCount) >>> 32);
+    }
+
+    /**
+     * @return (int): hash with its bits mixed, so that similar hashes do not end up in neighbouring slots
+     */
+    private static int spreadHash(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return (int): size of a hash table able to hold the given number of elements at half load, a power of two
+     */
+    private static int hashTableSize(final int elementCount) {
+        return Integer.highestOneBit(Math.max(2, Math.min(elementCount, 1 << 29) * 2 - 1)) << 1;
     }
 
     /**
@@ -672,7 +825,7 @@ public class ArrayUtil {
 
         // partitions the array of distinct values according to the number of available threads
         final int[][] partitions = partition(distinct, threadCount);
-        final Thread[] threads = new Thread[partitions.length];
+        final Runnable[] tasks = new Runnable[partitions.length];
 
         // for every partition of the array of distinct values...
         for (int i = 0; i < partitions.length; i++) {
@@ -688,24 +841,254 @@ public class ArrayUtil {
                 }
             };
 
-            // initialises and starts the next thread
-            threads[i] = new Thread(task);
-            threads[i].start();
+            tasks[i] = task;
         }
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
 
         // returns the final array of unique values
         return result;
     }
 
+    /**
+     * Creates a new array with only the elements at the indexes accepted by the given predicate, in parallel.<br><br>
+     *
+     * <u><i>Algorithm:</i></u><br><br>
+     *
+     * Each thread tests the indexes of its own partition, flagging the elements to keep and counting them. A prefix
+     * sum over the counts then gives the offset at which each partition's elements start in the result, which is
+     * allocated with its exact size, and each thread copies its flagged elements directly to their final position.
+     * The predicate is called exactly once per index, possibly from several threads at the same time.
+     * @param array ({@code T[]}): array to compact
+     * @param keep ({@code IntPredicate}): whether to keep the element at an index of the array
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (T[]): array containing only the kept elements, in their original order
+     * @param <T> type of the array
+     */
+    public static <T> T[] parallelCompact(
+            @NotNull final T[] array,
+            @NotNull final IntPredicate keep,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keep);
+
+        if (array.length == 0) return array;
+
+        // flags the elements to keep and computes the offset of each partition in the result
+        final int[][] partitions = partition(array, threadCount);
+        final boolean[] kept = new boolean[array.length];
+        final int[] offsets = countKept(partitions, keep, kept);
+
+        final T[] result = (T[]) Array.newInstance(array.getClass().getComponentType(), offsets[partitions.length]);
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        // for every partition in the array...
+        for (int i = 0; i < partitions.length; i++) {
+            // ...gets the partition and where its kept elements start in the result
+            final int[] partition = partitions[i];
+            final int offset = offsets[i];
+
+            // the task run by each thread copies its kept elements to their final position
+            final Runnable task = () -> {
+                int k = offset;
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    if (kept[j]) result[k++] = array[j];
+                }
+            };
+
+            tasks[i] = task;
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    /**
+     * Creates a new array with only the elements at the indexes accepted by the given predicate, in parallel
+     * @param array ({@code int[]}): array to compact
+     * @param keep ({@code IntPredicate}): whether to keep the element at an index of the array
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (int[]): array containing only the kept elements, in their original order
+     * @see #parallelCompact(Object[], IntPredicate, int)
+     */
+    public static int[] parallelCompact(
+            final int @NotNull [] array,
+            @NotNull final IntPredicate keep,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keep);
+
+        if (array.length == 0) return array;
+
+        // flags the elements to keep and computes the offset of each partition in the result
+        final int[][] partitions = partition(array, threadCount);
+        final boolean[] kept = new boolean[array.length];
+        final int[] offsets = countKept(partitions, keep, kept);
+
+        final int[] result = new int[offsets[partitions.length]];
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        // for every partition in the array...
+        for (int i = 0; i < partitions.length; i++) {
+            // ...gets the partition and where its kept elements start in the result
+            final int[] partition = partitions[i];
+            final int offset = offsets[i];
+
+            // the task run by each thread copies its kept elements to their final position
+            final Runnable task = () -> {
+                int k = offset;
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    if (kept[j]) result[k++] = array[j];
+                }
+            };
+
+            tasks[i] = task;
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        return result;
+    }
+
+    /**
+     * Flags the indexes to keep in every partition, in parallel
+     * @param partitions ({@code int[][]}): partitions of the array being compacted
+     * @param keep ({@code IntPredicate}): whether to keep the element at an index of the array
+     * @param kept ({@code boolean[]}): set to whether to keep the element at each index
+     * @return (int[]): offset of each partition's kept elements in the result, followed by the total number of kept
+     * elements
+     */
+    private static int[] countKept(
+            final int[][] partitions,
+            final IntPredicate keep,
+            final boolean[] kept
+    ) {
+        final int[] offsets = new int[partitions.length + 1];
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        // for every partition in the array...
+        for (int i = 0; i < partitions.length; i++) {
+            // ...gets the partition
+            final int[] partition = partitions[i];
+            final int lambdaI = i;
+
+            // the task run by each thread flags and counts the elements to keep in its partition
+            final Runnable task = () -> {
+                int count = 0;
+                final Deadline deadline = Deadline.current();
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(deadline);
+                    if (keep.test(j)) {
+                        kept[j] = true;
+                        count++;
+                    }
+                }
+                offsets[lambdaI + 1] = count;
+            };
+
+            tasks[i] = task;
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        // turns the counts into offsets
+        for (int i = 0; i < partitions.length; i++) offsets[i + 1] += offsets[i];
+
+        return offsets;
+    }
+
+    /**
+     * Creates a new array with only the elements matching the given predicate, testing elements in parallel. The
+     * predicate may be called from several threads at the same time, and in any order.
+     * @param array ({@code T[]}): array containing the values to filter
+     * @param filter ({@code Predicate<? super T>}): predicate values to retain must match
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (T[]): array containing only the matching values, in their original order
+     * @param <T> type of the array
+     */
+    public static <T> T[] parallelRetainIf(
+            @NotNull final T[] array,
+            @NotNull final Predicate<? super T> filter,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(filter);
+
+        if (array.length == 0) return array;
+
+        // keeps the values matching the predicate, copying them directly to their final position
+        return parallelCompact(array, i -> filter.test(array[i]), threadCount);
+    }
+
+    /**
+     * Combines every element of an array into a single value with an associative operator, in parallel. The array is
+     * split into blocks of {@link #REDUCTION_BLOCK_SIZE} elements which are each reduced from left to right, before
+     * the results of neighbouring blocks are combined two by two until only one is left. Blocks only depend on the
+     * length of the array, so elements are always grouped the same way and the result does not depend on the number of
+     * threads, even for operators which are only approximately associative.
+     * @param array ({@code T[]}): the array to reduce
+     * @param operator ({@code BinaryOperator<T>}): the associative operator used to combine two values, which may be
+     * called from several threads at the same time
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (T): the result of combining every element of the array, null if the array is empty
+     * @param <T> type of the array
+     */
+    @Nullable
+    public static <T> T parallelReduce(
+            @NotNull final T[] array,
+            @NotNull final BinaryOperator<T> operator,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+
+        if (array.length == 0) return null;
+
+        // reduces every block on its own...
+        final int blockCount = (array.length + REDUCTION_BLOCK_SIZE - 1) / REDUCTION_BLOCK_SIZE;
+        final Object[] results = new Object[blockCount];
+        final int taskCount = Math.max(1, Math.min(threadCount, blockCount));
+        final Runnable[] tasks = new Runnable[taskCount];
+
+        for (int i = 0; i < taskCount; i++) {
+            final int first = (int) ((long) blockCount * i / taskCount);
+            final int last = (int) ((long) blockCount * (i + 1) / taskCount);
+
+            // ...the task run by each thread folding the blocks in its own group of blocks
+            tasks[i] = () -> {
+                for (int block = first; block < last; block++) {
+                    final int from = block * REDUCTION_BLOCK_SIZE;
+                    final int to = Math.min(from + REDUCTION_BLOCK_SIZE, array.length);
+
+                    Deadline.checkCurrent();
+                    T value = array[from];
+                    for (int j = from + 1; j < to; j++) value = operator.apply(value, array[j]);
+                    results[block] = value;
+                }
+            };
+        }
+
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        // combines the results of neighbouring blocks, always in the same order
+        for (int count = blockCount; count > 1; count = (count + 1) / 2) {
+            for (int i = 0; i < count / 2; i++) {
+                results[i] = operator.apply((T) results[2 * i], (T) results[2 * i + 1]);
+            }
+            if ((count & 1) == 1) results[count / 2] = results[count - 1];
+        }
+
+        return (T) results[0];
+    }
+
     /**
      * Creates a new array with only the elements at the specified indexes
      * @param array ({@code T[]}): array containing the values to retain
@@ -766,13 +1149,32 @@ public class ArrayUtil {
         Objects.requireNonNull(indexes);
         if (array.length == 0) return array;
 
+        Arrays.parallelSort(indexes);
+        return removeSortedAt(array, retainDistinct(indexes, to));
+    }
+
+    /**
+     * Creates a new array without the elements at the specified indexes, which must already be sorted and distinct.
+     * Unlike {@code removeAt}, the given indexes are left untouched, so that they can be shared between threads.
+     * @param array ({@code T[]}): array containing the values to remove
+     * @param indexes ({@code int[]}): sorted distinct indexes of the values to remove, invalid indexes are ignored
+     * @return (T[]): array without the elements to remove
+     * @param <T> type of the array
+     */
+    public static <T> T[] removeSortedAt(
+            final T @NotNull [] array,
+            final int @NotNull [] indexes
+    ) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(indexes);
+        if (array.length == 0) return array;
+
         // creates the blind result array
         final T[] result = (T[]) Array.newInstance(array.getClass().getComponentType(), array.length);
-        Arrays.parallelSort(indexes);
 
         // iterates over the indexes to remove
         int lastIndex = 0, k = 0;
-        for (int i : retainDistinct(indexes, to)) {
+        for (int i : indexes) {
             // if the index is negative (ie: corresponds to an element which wasn't found)
             // or greater than the size of the array, moves on
             if (i < 0 || i >= array.length) continue;
@@ -909,6 +1311,45 @@ public class ArrayUtil {
         return indexes;
     }
 
+    /**
+     * Finds the first occurrence of the given values in the elements returned by an {@link Iterator}, stopping as soon
+     * as every value has been found
+     * @param iterator ({@code Iterator<?>}): elements to search, in order
+     * @param toFind ({@code Object[]}): values to find
+     * @return (int[]): indexes of the first occurrence of each value
+     */
+    @Contract(mutates = "param2")
+    public static int[] quickFindFirst(
+            @NotNull final Iterator<?> iterator,
+            @NotNull final Object[] toFind
+    ) {
+        Objects.requireNonNull(iterator);
+        Objects.requireNonNull(toFind);
+
+        final Comparator<Object> comparator = new ObjectComparator();
+        final Object[] uniqueToFind = retainDistinctImpl(toFind, comparator);   // keeps only the unique value to find
+        final int[] indexes = new int[uniqueToFind.length];         // initialises the array of indexes
+        Arrays.fill(indexes, -1);                                       // by default no value has been found
+
+        // sorts the values to find to perform binary search on them
+        Arrays.parallelSort(uniqueToFind, comparator);
+
+        // for every element, until all values have been found...
+        int remaining = uniqueToFind.length;
+        for (int i = 0; remaining > 0 && iterator.hasNext(); i++) {
+            // ...checks to see if it matches a values to find...
+            final int index = Arrays.binarySearch(uniqueToFind, iterator.next(), comparator);
+            // ...and if that value has not been found yet, saves its index
+            if (index >= 0 && indexes[index] < 0) {
+                indexes[index] = i;
+                remaining--;
+            }
+        }
+
+        // returns the final array of indexes
+        return indexes;
+    }
+
     /**
      * Searches in parallel for the first occurrence of the given values in an array, using all available cores
      * @param array ({@code Object[]}): array to search
@@ -959,50 +1400,204 @@ public class ArrayUtil {
         Objects.requireNonNull(comparator);
 
         final T[] uniqueToFind = retainDistinctImpl(toFind, comparator);    // keeps only unique values to find
-        final int[] indexes = new int[uniqueToFind.length];          // initialises the array of indexes
-        final int[][] partitions = partition(array, coreCount);           // partitions the array according to the number of cores
 
+        // looks for the first occurrence of each unique value, every partition keeping its own results
+        return parallelFindOccurrences(
+                array,
+                element -> Arrays.binarySearch(uniqueToFind, element, comparator),
+                uniqueToFind.length,
+                false,
+                coreCount
+        );
+    }
+
+    /**
+     * Searches in parallel for the first (or last) occurrence of a set of targets in an array.<br><br>
+     *
+     * <u><i>Algorithm:</i></u><br><br>
+     *
+     * Each thread records the occurrences found in its own partition, so threads never write to the same location.
+     * Since partitions are ordered, the first partition holding an occurrence of a target holds its first occurrence
+     * in the whole array, and partial results are merged once every thread is done. A thread stops scanning its
+     * partition as soon as every target has been found, either in its own partition or in an earlier one (a later one
+     * when looking for the last occurrences), which threads publish as they find each target.
+     * @param array ({@code T[]}): array to search
+     * @param matcher ({@code ToIntFunction<? super T>}): index of the target matching an element, negative if the
+     *                element matches no target. It may be called from several threads at the same time
+     * @param targetCount ({@code int}): number of targets
+     * @param last ({@code boolean}): whether to look for the last occurrence of each target instead of the first one
+     * @param threadCount ({@code int}): maximum number of threads used to search the array
+     * @return (int[]): index of the first (or last) occurrence of each target, -1 if it is not in the array
+     * @param <T> type of the array
+     */
+    public static <T> int[] parallelFindOccurrences(
+            @NotNull final T[] array,
+            @NotNull final ToIntFunction<? super T> matcher,
+            final int targetCount,
+            final boolean last,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(matcher);
+        return parallelFindOccurrences(
+                array,
+                (OccurrenceMatcher<T>) (element, targets) -> {
+                    final int target = matcher.applyAsInt(element);
+                    if (target >= 0) targets.accept(target);
+                },
+                targetCount,
+                last,
+                threadCount
+        );
+    }
+
+    /**
+     * Matches the elements of an array against the targets searched by {@code parallelFindOccurrences}
+     * @param <T> type of the array
+     */
+    @FunctionalInterface
+    public interface OccurrenceMatcher<T> {
+
+        /**
+         * Reports every target an element is an occurrence of. It may be called from several threads at the same
+         * time, each with its own consumer.
+         * @param element ({@code T}): the element to match
+         * @param targets ({@code IntConsumer}): accepts the index of every target the element matches
+         */
+        void match(
+                T element,
+                @NotNull IntConsumer targets
+        );
+    }
+
+    /**
+     * Searches in parallel for the first (or last) occurrence of a set of targets in an array, an element being
+     * allowed to be an occurrence of several targets at once. See {@code parallelFindOccurrences(T[], ToIntFunction,
+     * int, boolean, int)}.
+     * @param array ({@code T[]}): array to search
+     * @param matcher ({@code OccurrenceMatcher<T>}): reports the targets matching each element
+     * @param targetCount ({@code int}): number of targets
+     * @param last ({@code boolean}): whether to look for the last occurrence of each target instead of the first one
+     * @param threadCount ({@code int}): maximum number of threads used to search the array
+     * @return (int[]): index of the first (or last) occurrence of each target, -1 if it is not in the array
+     * @param <T> type of the array
+     */
+    public static <T> int[] parallelFindOccurrences(
+            @NotNull final T[] array,
+            @NotNull final OccurrenceMatcher<T> matcher,
+            final int targetCount,
+            final boolean last,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(matcher);
+
+        final int[] indexes = new int[targetCount];
         Arrays.fill(indexes, -1);                                       // by default no value has been found
+        if (targetCount == 0 || array.length == 0) return indexes;
+
+        final int[][] partitions = partition(array, threadCount);
+        final int[][] found = new int[partitions.length][];            // occurrences found by each thread
+
+        // partition closest to the start (or end) of the array having found each target so far
+        final AtomicIntegerArray owners = new AtomicIntegerArray(targetCount);
+        for (int t = 0; t < targetCount; t++) owners.set(t, last ? -1 : partitions.length);
+
+        // number of elements scanned between two checks of the other threads' progress
+        final int checkInterval = Math.max(FIND_CHECK_INTERVAL, targetCount);
 
-        final Thread[] threads = new Thread[partitions.length];             // all threads to be used
+        final Runnable[] tasks = new Runnable[partitions.length];
 
         // for every partition in the array...
         for (int i = 0; i < partitions.length; i++) {
             // ...gets the partition
             final int[] partition = partitions[i];
+            final int lambdaI = i;
 
-            // task to execute inside each thread
+            // the task run by each thread looks for occurrences in its partition, closest to its start (or end)
             final Runnable task = () -> {
-                // for every element in this thread's partition of the given array...
-                for (int j = partition[0]; j < partition[1]; j++) {
-                    // ...looks for the element...
-                    final int index = Arrays.binarySearch(uniqueToFind, array[j], comparator);
-                    // ...and if the current index is the smallest found so far...
-                    if (index >= 0 && (indexes[index] < 0 || j < indexes[index])) {
-                        // ...saves it
-                        indexes[index] = j;
+                final int[] local = new int[targetCount];
+                Arrays.fill(local, -1);
+
+                final int[] left = {targetCount};                       // targets not found in the partition yet
+                final int step = last ? -1 : 1;
+                final int[] j = {last ? partition[1] - 1 : partition[0]};
+                int untilCheck = checkInterval;
+
+                // first occurrence of a target in the partition: publishes it for the other threads
+                final IntConsumer record = target -> {
+                    if (local[target] >= 0) return;
+                    local[target] = j[0];
+                    left[0]--;
+                    claim(owners, target, lambdaI, last);
+                };
+
+                while (left[0] > 0 && j[0] >= partition[0] && j[0] < partition[1]) {
+                    matcher.match(array[j[0]], record);
+
+                    // stops once every target left has been found closer to the start (or end) of the array
+                    if (--untilCheck == 0) {
+                        Deadline.checkCurrent();
+                        if (allFoundElsewhere(owners, local, lambdaI, last)) break;
+                        untilCheck = checkInterval;
                     }
+
+                    j[0] += step;
                 }
+
+                found[lambdaI] = local;
             };
 
-            // starts the thread
-            threads[i] = new Thread(task);
-            threads[i].start();
+            tasks[i] = task;
         }
 
-        // waits for all threads to finish
-        for (Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+        // runs the tasks on the shared executor and waits for all of them to finish
+        ThreadUtil.runAll(tasks);
+
+        // keeps the occurrence found by the first partition holding one (last partition for last occurrences)
+        for (int t = 0; t < targetCount; t++) {
+            for (int i = 0; i < found.length && indexes[t] < 0; i++) {
+                indexes[t] = found[last ? found.length - 1 - i : i][t];
             }
         }
 
-        // returns the indexes of all first occurrences
+        // returns the indexes of all occurrences
         return indexes;
     }
 
+    /**
+     * Records that a partition holds an occurrence of a target, unless a partition closer to the start (or end) of
+     * the array already does
+     */
+    private static void claim(
+            final AtomicIntegerArray owners,
+            final int target,
+            final int partition,
+            final boolean last
+    ) {
+        int owner = owners.get(target);
+        while ((last ? partition > owner : partition < owner) && !owners.compareAndSet(target, owner, partition)) {
+            owner = owners.get(target);
+        }
+    }
+
+    /**
+     * @return (boolean): whether every target not found in a partition has been found by a partition closer to the
+     * start (or end) of the array
+     */
+    private static boolean allFoundElsewhere(
+            final AtomicIntegerArray owners,
+            final int[] local,
+            final int partition,
+            final boolean last
+    ) {
+        for (int t = 0; t < local.length; t++) {
+            if (local[t] >= 0) continue;
+            final int owner = owners.get(t);
+            if (last ? owner <= partition : owner >= partition) return false;
+        }
+        return true;
+    }
+
     public static <T> int[] quickFindAll(
             @NotNull final T[] array,
             final Object[] toFind
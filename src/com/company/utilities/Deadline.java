@@ -0,0 +1,234 @@
+package com.company.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Handle used to stop long-running work, either once a given amount of time has elapsed or as soon as it is
+ * cancelled.<br><br>
+ *
+ * <u><i>Propagation:</i></u><br><br>
+ *
+ * Work is run with a Deadline through {@link #callWith(Deadline, Supplier)}. The Deadline is then passed on to the
+ * tasks started by {@link ThreadUtil#runAll(Runnable[])}, so parallel algorithms nested inside the work are bound by
+ * it too. Long loops call {@link #poll(int)}, which checks the current Deadline once every {@link #CHECK_INTERVAL}
+ * iterations and throws a {@link CancellationException} once it has expired, so that expired work stops using the
+ * processor almost immediately instead of running to completion. Loops calling user code, such as the function of a
+ * {@code forEach}, cannot tell how long an iteration takes and call {@link #poll(Deadline)} on every iteration
+ * instead.
+ * @author Eliot McNab
+ */
+public final class Deadline {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    /**
+     * Number of iterations between two checks of the current Deadline in long loops
+     */
+    public static final int CHECK_INTERVAL = 1 << 12;
+    private static final int CHECK_MASK = CHECK_INTERVAL - 1;
+
+    // deadline the work currently run by each thread is bound by
+    private static final ThreadLocal<Deadline> current = new ThreadLocal<>();
+
+    // System.nanoTime at which the deadline expires, only relevant if timed
+    private final long expiry;
+    private final boolean timed;
+    private volatile boolean cancelled = false;
+
+    // other deadlines this deadline expires with, such as the deadline of the enclosing work
+    private final Deadline[] linked;
+
+    // ====================================
+    //             CONSTRUCTOR
+    // ====================================
+
+    private Deadline(
+            final long expiry,
+            final boolean timed,
+            final Deadline... linked
+    ) {
+        this.expiry = expiry;
+        this.timed = timed;
+        this.linked = linked;
+    }
+
+    /**
+     * @param timeout ({@code Duration}): the time after which work bound by the Deadline stops
+     * @return (Deadline): a new Deadline expiring once the given time has elapsed, or once it is cancelled
+     */
+    public static Deadline after(@NotNull final Duration timeout) {
+        Objects.requireNonNull(timeout);
+        return after(saturatedNanos(timeout), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param timeout ({@code long}): the time after which work bound by the Deadline stops
+     * @param unit ({@code TimeUnit}): the unit of the timeout
+     * @return (Deadline): a new Deadline expiring once the given time has elapsed, or once it is cancelled
+     */
+    public static Deadline after(
+            final long timeout,
+            @NotNull final TimeUnit unit
+    ) {
+        Objects.requireNonNull(unit);
+        // a timeout which has already elapsed expires the deadline right away
+        return new Deadline(System.nanoTime() + Math.max(0, unit.toNanos(timeout)), true);
+    }
+
+    /**
+     * @return (Deadline): a new Deadline only expiring once it is cancelled
+     */
+    public static Deadline cancellable() {
+        return new Deadline(0, false);
+    }
+
+    /**
+     * @param enclosing ({@code Deadline}): the Deadline of the work starting the new one, null if there is none
+     * @return (Deadline): a new Deadline expiring once it is cancelled, or once the enclosing Deadline expires
+     */
+    public static Deadline cancellable(@Nullable final Deadline enclosing) {
+        return enclosing == null ? cancellable() : new Deadline(0, false, enclosing);
+    }
+
+    private static long saturatedNanos(final Duration timeout) {
+        try {
+            return timeout.toNanos();
+        } catch (ArithmeticException e) {
+            return timeout.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    // ====================================
+    //            CANCELLATION
+    // ====================================
+
+    /**
+     * Cancels the Deadline, making any work bound by it stop the next time it checks the Deadline
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        if (cancelled) return true;
+        for (Deadline deadline : linked) {
+            if (deadline.isCancelled()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return (boolean): whether work bound by the Deadline should stop, because it was cancelled or because its time
+     * has elapsed
+     */
+    public boolean isExpired() {
+        if (cancelled) return true;
+        if (timed && System.nanoTime() - expiry >= 0) return true;
+        for (Deadline deadline : linked) {
+            if (deadline.isExpired()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param unit ({@code TimeUnit}): the unit of the result
+     * @return (long): time left before the Deadline expires, {@code Long.MAX_VALUE} if it is not timed
+     */
+    public long getRemaining(@NotNull final TimeUnit unit) {
+        long remaining = timed ? Math.max(0, expiry - System.nanoTime()) : Long.MAX_VALUE;
+        for (Deadline deadline : linked) {
+            remaining = Math.min(remaining, deadline.getRemaining(TimeUnit.NANOSECONDS));
+        }
+        return remaining == Long.MAX_VALUE ? remaining : unit.convert(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Checks the Deadline
+     * @throws CancellationException if the Deadline has expired
+     */
+    public void check() {
+        if (cancelled)                                throw new CancellationException("Cancelled");
+        if (timed && System.nanoTime() - expiry >= 0) throw new CancellationException("Deadline exceeded");
+        for (Deadline deadline : linked) deadline.check();
+    }
+
+    // ====================================
+    //             PROPAGATION
+    // ====================================
+
+    /**
+     * Runs some work bound by the given Deadline, as well as by the Deadline of any enclosing work
+     * @param deadline ({@code Deadline}): the Deadline the work is bound by
+     * @param action ({@code Supplier<T>}): the work to run
+     * @return (T): the result of the work
+     * @param <T> the type of the result
+     * @throws CancellationException if the Deadline expires before or while the work is run
+     */
+    public static <T> T callWith(
+            @NotNull final Deadline deadline,
+            @NotNull final Supplier<T> action
+    ) {
+        Objects.requireNonNull(deadline);
+        Objects.requireNonNull(action);
+
+        final Deadline previous = current.get();
+        // work nested inside other work is bound by both deadlines
+        final Deadline bound = previous == null || previous == deadline
+                ? deadline
+                : new Deadline(0, false, deadline, previous);
+
+        bound.check();
+        current.set(bound);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) current.remove();
+            else                  current.set(previous);
+        }
+    }
+
+    /**
+     * @return (Deadline): the Deadline the work currently run by the calling thread is bound by, null if there is none
+     */
+    @Nullable
+    public static Deadline current() {
+        return current.get();
+    }
+
+    /**
+     * Checks the Deadline the work currently run by the calling thread is bound by, if any
+     * @throws CancellationException if the Deadline has expired
+     */
+    public static void checkCurrent() {
+        final Deadline deadline = current.get();
+        if (deadline != null) deadline.check();
+    }
+
+    /**
+     * Checks the current Deadline once every {@link #CHECK_INTERVAL} iterations of a loop
+     * @param index ({@code int}): the current iteration of the loop
+     * @throws CancellationException if the Deadline has expired
+     */
+    public static void poll(final int index) {
+        if ((index & CHECK_MASK) == 0) checkCurrent();
+    }
+
+    /**
+     * Checks the Deadline of a loop calling user code on every iteration. The Deadline is looked up once through
+     * {@link #current()} before the loop, so that loops run without any Deadline only pay for a null check
+     * @param deadline ({@code Deadline}): the Deadline the loop is bound by, null if there is none
+     * @throws CancellationException if the Deadline has expired
+     */
+    public static void poll(@Nullable final Deadline deadline) {
+        if (deadline != null) deadline.check();
+    }
+}
@@ -0,0 +1,30 @@
+package com.company.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Value computed by a {@link Supplier} the first time it is requested, then reused. Safe to share between threads: the
+ * value may be computed more than once if several threads request it at the same time, but each thread always sees a
+ * fully computed value, so the supplier must have no side effects and always compute an equivalent value.
+ * @param <T> the type of the value
+ * @author Eliot McNab
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+    private volatile T value = null;
+
+    public Lazy(@NotNull final Supplier<T> supplier) {
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) value = result = supplier.get();
+        return result;
+    }
+}
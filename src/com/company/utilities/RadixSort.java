@@ -0,0 +1,394 @@
+package com.company.utilities;
+
+import com.company.utilities.comparators.ObjectComparator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Collection of helper methods used to sort and deduplicate arrays of boxed numbers ({@link Integer}, {@link Long},
+ * {@link Float}, {@link Double}, {@link Short}, {@link Byte} and {@link Character}) in their natural order without
+ * comparing elements one pair at a time.<br><br>
+ *
+ * <u><i>Algorithm:</i></u><br><br>
+ *
+ * Every element is unboxed once into a primitive key whose unsigned order is the natural order of the element, as
+ * defined by {@code compareTo}, so that {@code -0.0} comes before {@code 0.0} and {@code NaN} after every other value.
+ * Indexes are then sorted according to their key with a parallel least significant digit radix sort, one byte at a
+ * time:
+ * <ol>
+ *     <li>each thread counts how many keys of its partition hold each value of the current byte</li>
+ *     <li>a prefix sum over the counts gives where each partition writes the keys holding each value</li>
+ *     <li>each thread scatters the keys of its partition, which keeps equal keys in their original order</li>
+ * </ol>
+ * Bytes holding the same value in every key, such as the high bytes of small integers, are skipped entirely. Elements
+ * are never reboxed: the original objects are moved to their sorted position.<br><br>
+ *
+ * <u><i>Fallback:</i></u><br><br>
+ *
+ * Arrays of any other type, arrays holding null and arrays shorter than {@link #MIN_LENGTH} are left to comparison
+ * based algorithms, which callers are expected to use whenever these methods report they could not handle the array.
+ * @author Eliot McNab
+ */
+public class RadixSort {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    /**
+     * Length below which comparison sorting is about as fast as counting every byte of every key
+     */
+    public static final int MIN_LENGTH = 1 << 12;
+
+    private static final int DIGIT_BITS = 8;
+    private static final int DIGIT_COUNT = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = DIGIT_COUNT - 1;
+
+    private RadixSort() {}
+
+    // ====================================
+    //                KEYS
+    // ====================================
+
+    /**
+     * Unboxes elements of a given type into keys whose unsigned order is the natural order of the elements
+     */
+    private enum KeyType {
+        BYTE(Byte.class, Byte.SIZE) {
+            @Override
+            long key(final Object o) {
+                return ((Byte) o ^ 0x80) & 0xFFL;
+            }
+        },
+        SHORT(Short.class, Short.SIZE) {
+            @Override
+            long key(final Object o) {
+                return ((Short) o ^ 0x8000) & 0xFFFFL;
+            }
+        },
+        CHARACTER(Character.class, Character.SIZE) {
+            @Override
+            long key(final Object o) {
+                return (Character) o;
+            }
+        },
+        INTEGER(Integer.class, Integer.SIZE) {
+            @Override
+            long key(final Object o) {
+                return ((Integer) o ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            }
+        },
+        FLOAT(Float.class, Float.SIZE) {
+            @Override
+            long key(final Object o) {
+                // canonical NaN, negative values have all their bits flipped so that they sort in reverse
+                final int bits = Float.floatToIntBits((Float) o);
+                return (bits ^ ((bits >> 31) | Integer.MIN_VALUE)) & 0xFFFFFFFFL;
+            }
+        },
+        LONG(Long.class, Long.SIZE) {
+            @Override
+            long key(final Object o) {
+                return (Long) o ^ Long.MIN_VALUE;
+            }
+        },
+        DOUBLE(Double.class, Double.SIZE) {
+            @Override
+            long key(final Object o) {
+                final long bits = Double.doubleToLongBits((Double) o);
+                return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+            }
+        };
+
+        private final Class<?> type;
+        private final int bits;
+
+        KeyType(
+                final Class<?> type,
+                final int bits
+        ) {
+            this.type = type;
+            this.bits = bits;
+        }
+
+        abstract long key(Object o);
+
+        @Nullable
+        static KeyType of(final Class<?> type) {
+            for (KeyType keyType : values()) {
+                if (keyType.type == type) return keyType;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * @param type ({@code Class<?>}): the type of the elements to sort
+     * @return (boolean): whether arrays of the given type can be radix sorted
+     */
+    public static boolean isSortable(@NotNull final Class<?> type) {
+        return KeyType.of(type) != null;
+    }
+
+    /**
+     * @param comparator ({@code Comparator<?>}): the comparator to check
+     * @return (boolean): whether the comparator orders {@link Comparable} elements according to their natural order
+     */
+    public static boolean isNaturalOrder(@Nullable final Comparator<?> comparator) {
+        return comparator != null &&
+               (comparator.getClass() == ObjectComparator.class || comparator.equals(Comparator.naturalOrder()));
+    }
+
+    // ====================================
+    //              SORTING
+    // ====================================
+
+    /**
+     * Sorts an array of boxed numbers according to their natural order, using as many threads as there are available
+     * processors
+     * @see #sort(Object[], int)
+     */
+    public static <T> boolean sort(@NotNull final T[] array) {
+        return sort(array, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Sorts an array of boxed numbers according to their natural order, keeping equal elements in their original order
+     * @param array ({@code T[]}): array to sort, which is modified
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (boolean): whether the array was sorted, false if it should be sorted with a comparator instead
+     * @param <T> class of the array
+     */
+    public static <T> boolean sort(
+            @NotNull final T[] array,
+            final int threadCount
+    ) {
+        final int[] order = sortedIndexes(array, threadCount);
+        if (order == null) return false;
+
+        // moves every element to its sorted position
+        final Object[] original = array.clone();
+        final int[][] partitions = ArrayUtil.partition(array, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        for (int i = 0; i < partitions.length; i++) {
+            final int[] partition = partitions[i];
+
+            tasks[i] = () -> {
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    array[j] = (T) original[order[j]];
+                }
+            };
+        }
+        ThreadUtil.runAll(tasks);
+
+        return true;
+    }
+
+    /**
+     * Keeps only the first occurrence of every distinct element in an array of boxed numbers, using as many threads as
+     * there are available processors
+     * @see #retainDistinct(Object[], int)
+     */
+    @Nullable
+    public static <T> T[] retainDistinct(@NotNull final T[] array) {
+        return retainDistinct(array, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Keeps only the first occurrence of every distinct element in an array of boxed numbers, according to
+     * {@code equals}, preserving their order and without modifying the given array. Equal elements are found next to
+     * each other once sorted, the first of them in the sorted array being their first occurrence.
+     * @param array ({@code T[]}): array to check the values of
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (T[]): first occurrence of every distinct element in the array, in their original order, or null if
+     * distinct elements should be found with another algorithm
+     * @param <T> class of the array
+     */
+    @Nullable
+    public static <T> T[] retainDistinct(
+            @NotNull final T[] array,
+            final int threadCount
+    ) {
+        final KeyType keyType = KeyType.of(array.getClass().getComponentType());
+        if (keyType == null || array.length < MIN_LENGTH) return null;
+
+        final long[] keys = keys(array, keyType, threadCount);
+        if (keys == null) return null;
+        final int[] order = sortIndexes(keys, keyType.bits, threadCount);
+
+        // keeps the first index of every run of equal keys, keys being sorted in the same order as the indexes
+        final boolean[] kept = new boolean[array.length];
+        final int[][] partitions = ArrayUtil.partition(array, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        for (int i = 0; i < partitions.length; i++) {
+            final int[] partition = partitions[i];
+
+            tasks[i] = () -> {
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    if (j == 0 || keys[j] != keys[j - 1]) kept[order[j]] = true;
+                }
+            };
+        }
+        ThreadUtil.runAll(tasks);
+
+        return ArrayUtil.parallelCompact(array, i -> kept[i], threadCount);
+    }
+
+    /**
+     * @return (int[]): indexes of the array's elements, in the order they appear once sorted, or null if the array
+     * should be sorted with a comparator instead
+     */
+    @Nullable
+    private static int[] sortedIndexes(
+            final Object[] array,
+            final int threadCount
+    ) {
+        Objects.requireNonNull(array);
+
+        final KeyType keyType = KeyType.of(array.getClass().getComponentType());
+        if (keyType == null || array.length < MIN_LENGTH) return null;
+
+        final long[] keys = keys(array, keyType, threadCount);
+        return keys == null ? null : sortIndexes(keys, keyType.bits, threadCount);
+    }
+
+    /**
+     * Unboxes every element of the array into its key, in parallel
+     * @return (long[]): the key of every element, or null if the array holds null
+     */
+    @Nullable
+    private static long[] keys(
+            final Object[] array,
+            final KeyType keyType,
+            final int threadCount
+    ) {
+        final long[] keys = new long[array.length];
+        final boolean[] hasNull = new boolean[1];
+
+        final int[][] partitions = ArrayUtil.partition(array, threadCount);
+        final Runnable[] tasks = new Runnable[partitions.length];
+
+        for (int i = 0; i < partitions.length; i++) {
+            final int[] partition = partitions[i];
+
+            tasks[i] = () -> {
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    if (array[j] == null) {
+                        hasNull[0] = true;
+                        return;
+                    }
+                    keys[j] = keyType.key(array[j]);
+                }
+            };
+        }
+        ThreadUtil.runAll(tasks);
+
+        return hasNull[0] ? null : keys;
+    }
+
+    /**
+     * Sorts the given keys and the indexes they belong to, one byte at a time
+     * @param keys ({@code long[]}): the keys to sort, which are modified
+     * @param bits (int): number of significant bits in every key
+     * @param threadCount (int): maximum number of threads the algorithm can use
+     * @return (int[]): index of every key, in sorted order
+     */
+    private static int[] sortIndexes(
+            final long[] keys,
+            final int bits,
+            final int threadCount
+    ) {
+        final int length = keys.length;
+        final int[][] partitions = ArrayUtil.partition(new Object[length], threadCount);
+
+        long[] sourceKeys = keys;
+        long[] targetKeys = new long[length];
+        int[] sourceIndexes = new int[length];
+        int[] targetIndexes = new int[length];
+        for (int i = 0; i < length; i++) sourceIndexes[i] = i;
+
+        // bits which differ between at least two keys, bytes without any of them being skipped
+        long varying = 0;
+        for (int i = 1; i < length; i++) varying |= keys[i] ^ keys[0];
+
+        for (int shift = 0; shift < bits; shift += DIGIT_BITS) {
+            if (((varying >>> shift) & DIGIT_MASK) == 0) continue;
+
+            scatter(sourceKeys, sourceIndexes, targetKeys, targetIndexes, shift, partitions);
+
+            final long[] keysSwap = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = keysSwap;
+            final int[] indexesSwap = sourceIndexes;
+            sourceIndexes = targetIndexes;
+            targetIndexes = indexesSwap;
+        }
+
+        // the sorted keys are expected in the given array
+        if (sourceKeys != keys) System.arraycopy(sourceKeys, 0, keys, 0, length);
+
+        return sourceIndexes;
+    }
+
+    /**
+     * Scatters keys and their indexes according to one of their bytes, keeping keys with the same byte in order
+     */
+    private static void scatter(
+            final long[] sourceKeys,
+            final int[] sourceIndexes,
+            final long[] targetKeys,
+            final int[] targetIndexes,
+            final int shift,
+            final int[][] partitions
+    ) {
+        // number of keys of each partition holding each digit, then where the partition writes them
+        final int[][] offsets = new int[partitions.length][DIGIT_COUNT];
+
+        // counts the digits of every partition
+        final Runnable[] countTasks = new Runnable[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            final int[] partition = partitions[i];
+            final int[] counts = offsets[i];
+
+            countTasks[i] = () -> {
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(j);
+                    counts[(int) (sourceKeys[j] >>> shift) & DIGIT_MASK]++;
+                }
+            };
+        }
+        ThreadUtil.runAll(countTasks);
+
+        // turns the counts into offsets, digits being laid out one after the other and partitions in order
+        int total = 0;
+        for (int digit = 0; digit < DIGIT_COUNT; digit++) {
+            for (int[] partitionOffsets : offsets) {
+                final int count = partitionOffsets[digit];
+                partitionOffsets[digit] = total;
+                total += count;
+            }
+        }
+
+        // scatters the keys of every partition to their position
+        final Runnable[] scatterTasks = new Runnable[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            final int[] partition = partitions[i];
+            final int[] next = offsets[i];
+
+            scatterTasks[i] = () -> {
+                for (int j = partition[0]; j < partition[1]; j++) {
+                    Deadline.poll(j);
+                    final int position = next[(int) (sourceKeys[j] >>> shift) & DIGIT_MASK]++;
+                    targetKeys[position] = sourceKeys[j];
+                    targetIndexes[position] = sourceIndexes[j];
+                }
+            };
+        }
+        ThreadUtil.runAll(scatterTasks);
+    }
+}
@@ -0,0 +1,296 @@
+package com.company.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Collection of helper methods used to run the partitions of parallel algorithms on a shared {@link Executor},
+ * instead of starting a new {@link Thread} for every partition of every call.<br><br>
+ *
+ * <u><i>Executor:</i></u><br><br>
+ *
+ * By default, tasks are run on a {@link ForkJoinPool} with as many threads as there are available processors, which
+ * is only created once it is first needed and shared by every parallel algorithm. Tasks submitted from one of its own
+ * threads are forked, so nested parallel algorithms steal work from each other instead of blocking the pool.<br><br>
+ *
+ * <u><i>Virtual threads:</i></u><br><br>
+ *
+ * When many small parallel algorithms run concurrently, for example one per request in a server, their tasks can
+ * instead be run on virtual threads with {@link #useVirtualThreads()}, or only for a given piece of work with
+ * {@link #callWith(Executor, Supplier)}. Virtual threads are looked up reflectively, so this class still runs on JVMs
+ * which do not support them.
+ */
+public class ThreadUtil {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    private static volatile Executor executor = null;
+
+    // executor set for the work currently run by each thread, overriding the shared executor
+    private static final ThreadLocal<Executor> scopedExecutor = new ThreadLocal<>();
+
+    private static final class DefaultPool {
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    private static final class VirtualThreads {
+        // starts a new virtual thread for every task, null if the JVM does not support virtual threads
+        private static final Executor INSTANCE = createVirtualThreadExecutor();
+    }
+
+    // ====================================
+    //              EXECUTOR
+    // ====================================
+
+    /**
+     * Sets the {@link Executor} parallel algorithms run their tasks on
+     * @param executor ({@code Executor}): the executor to use, or null to use the default shared {@link ForkJoinPool}
+     */
+    public static void setExecutor(@Nullable final Executor executor) {
+        ThreadUtil.executor = executor;
+    }
+
+    /**
+     * @return (Executor): the {@link Executor} parallel algorithms currently run their tasks on, which is the one set
+     * with {@link #callWith(Executor, Supplier)} if the calling thread is running inside such a call
+     */
+    @NotNull
+    public static Executor getExecutor() {
+        final Executor scoped = scopedExecutor.get();
+        if (scoped != null) return scoped;
+
+        final Executor current = executor;
+        return current == null ? DefaultPool.INSTANCE : current;
+    }
+
+    /**
+     * @return (Executor): the {@link Executor} set with {@link #callWith(Executor, Supplier)} for the work the calling
+     * thread is running, null if there is none
+     */
+    @Nullable
+    public static Executor getScopedExecutor() {
+        return scopedExecutor.get();
+    }
+
+    /**
+     * Runs some work with parallel algorithms running their tasks on the given {@link Executor}, without affecting
+     * the rest of the application. Parallel algorithms nested inside those tasks use the same executor.
+     * @param executor ({@code Executor}): the executor to use while running the work
+     * @param action ({@code Supplier<T>}): the work to run
+     * @return (T): the result of the work
+     * @param <T> the type of the result
+     */
+    public static <T> T callWith(
+            @NotNull final Executor executor,
+            @NotNull final Supplier<T> action
+    ) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(action);
+
+        final Executor previous = scopedExecutor.get();
+        scopedExecutor.set(executor);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) scopedExecutor.remove();
+            else                  scopedExecutor.set(previous);
+        }
+    }
+
+    /**
+     * @return (boolean): whether the JVM supports virtual threads
+     */
+    public static boolean supportsVirtualThreads() {
+        return VirtualThreads.INSTANCE != null;
+    }
+
+    /**
+     * @return (Executor): an {@link Executor} starting a new virtual thread for every task, shared by every caller
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    @NotNull
+    public static Executor getVirtualThreadExecutor() {
+        final Executor virtual = VirtualThreads.INSTANCE;
+        if (virtual == null) throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+        return virtual;
+    }
+
+    /**
+     * Makes parallel algorithms run their tasks on virtual threads, if the JVM supports them. Otherwise, the current
+     * executor is kept.
+     * @return (boolean): whether parallel algorithms now run their tasks on virtual threads
+     */
+    public static boolean useVirtualThreads() {
+        if (!supportsVirtualThreads()) return false;
+        setExecutor(VirtualThreads.INSTANCE);
+        return true;
+    }
+
+    @Nullable
+    private static Executor createVirtualThreadExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // the JVM predates virtual threads, or they are a disabled preview feature
+            return null;
+        }
+    }
+
+    // ====================================
+    //              RUNNING
+    // ====================================
+
+    /**
+     * Runs every given task on the current {@link Executor} and waits for all of them to finish. The calling thread
+     * runs tasks as well, which would otherwise sit idle. Tasks of executors other than a {@link ForkJoinPool} are
+     * claimed by whichever thread gets to them first, and the calling thread runs every task no other thread has
+     * started, so that waiting never requires a thread of a saturated executor. If any task fails, the first failure
+     * is rethrown once every task has finished. Tasks are bound by the calling thread's {@link Deadline}, if any, and
+     * are skipped if it has expired by the time they start.
+     * @param tasks ({@code Runnable[]}): the tasks to run
+     * @throws java.util.concurrent.CancellationException if the calling thread's Deadline expires
+     */
+    public static void runAll(@NotNull final Runnable[] tasks) {
+        Objects.requireNonNull(tasks);
+        Deadline.checkCurrent();
+        if (tasks.length == 0) return;
+        if (tasks.length == 1) {
+            tasks[0].run();
+            return;
+        }
+
+        // tasks pass the scoped executor and deadline they were run with on to the parallel algorithms nested in them
+        final Executor scoped = scopedExecutor.get();
+        final Deadline deadline = Deadline.current();
+        final Runnable[] toRun = scoped == null && deadline == null ? tasks : inherit(tasks, scoped, deadline);
+
+        final Executor current = getExecutor();
+        if (current instanceof ForkJoinPool pool) runAll(pool, toRun);
+        else                                      runAll(current, toRun);
+    }
+
+    /**
+     * Wraps tasks so that they run with the given scoped executor and {@link Deadline}, which nested parallel
+     * algorithms then use as well
+     */
+    private static Runnable[] inherit(
+            final Runnable[] tasks,
+            @Nullable final Executor scoped,
+            @Nullable final Deadline deadline
+    ) {
+        final Runnable[] wrapped = new Runnable[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            final Supplier<Void> task = toSupplier(tasks[i]);
+            final Supplier<Void> withExecutor = scoped == null ? task : () -> callWith(scoped, task);
+            wrapped[i] = deadline == null ? withExecutor::get : () -> Deadline.callWith(deadline, withExecutor);
+        }
+        return wrapped;
+    }
+
+    private static Supplier<Void> toSupplier(final Runnable task) {
+        return () -> {
+            task.run();
+            return null;
+        };
+    }
+
+    private static void runAll(
+            final ForkJoinPool pool,
+            final Runnable[] tasks
+    ) {
+        // submits every task but the last one, forking them if already running inside the pool
+        final ForkJoinTask<?>[] submitted = new ForkJoinTask<?>[tasks.length - 1];
+        for (int i = 0; i < submitted.length; i++) {
+            submitted[i] = ForkJoinTask.adapt(tasks[i]);
+            if (ForkJoinTask.getPool() == pool) submitted[i].fork();
+            else                                pool.execute(submitted[i]);
+        }
+
+        Throwable failure = runCaught(tasks[tasks.length - 1]);
+
+        // waits for the submitted tasks, helping the pool run them if possible
+        for (ForkJoinTask<?> task : submitted) {
+            try {
+                task.join();
+            } catch (RuntimeException | Error e) {
+                if (failure == null) failure = e;
+            }
+        }
+
+        rethrow(failure);
+    }
+
+    private static void runAll(
+            final Executor executor,
+            final Runnable[] tasks
+    ) {
+        // index of the next task to be claimed, and number of claimed tasks still running
+        final AtomicInteger next = new AtomicInteger();
+        final CountDownLatch finished = new CountDownLatch(tasks.length);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // runs tasks until none are left to claim, so that each task is run exactly once by whichever thread gets it
+        final Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < tasks.length) {
+                final Throwable thrown = runCaught(tasks[i]);
+                if (thrown != null) failure.compareAndSet(null, thrown);
+                finished.countDown();
+            }
+        };
+
+        // submits a worker for every task but the last one, stopping early if the executor is saturated
+        for (int i = 0; i < tasks.length - 1; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        // the calling thread runs every task no worker has started yet, so it only ever waits for tasks which are
+        // already running: workers still queued behind it, for example when it is itself a thread of a bounded
+        // executor, are never waited for
+        worker.run();
+
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            // stops waiting: no task is started anymore and the interrupted status is restored
+            next.set(tasks.length);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for parallel tasks to finish");
+        }
+
+        rethrow(failure.get());
+    }
+
+    private static Throwable runCaught(final Runnable task) {
+        try {
+            task.run();
+            return null;
+        } catch (RuntimeException | Error e) {
+            return e;
+        }
+    }
+
+    private static void rethrow(@Nullable final Throwable failure) {
+        if (failure instanceof RuntimeException e) throw e;
+        if (failure instanceof Error e)            throw e;
+        if (failure != null)                       throw new IllegalStateException(failure);
+    }
+}
@@ -0,0 +1,41 @@
+package com.company;
+
+import com.company.collections.PersistentVectorCheck;
+import com.company.collections.changeAPI.ChainRewriterCheck;
+import com.company.collections.changeAPI.CheckpointPolicyCheck;
+import com.company.collections.changeAPI.ChunkCursorCheck;
+import com.company.collections.changeAPI.CompiledChangeCheck;
+import com.company.collections.changeAPI.ContentsCheck;
+import com.company.collections.changeAPI.ResolutionCacheCheck;
+import com.company.collections.changeAPI.ResolutionOwnershipCheck;
+import com.company.collections.changeAPI.SequentialiserRegistryCheck;
+import com.company.collections.changeAPI.changes.parallel.ParallelPipelineCheck;
+import com.company.utilities.ArrayUtilCheck;
+import com.company.utilities.DeadlineCheck;
+import com.company.utilities.RadixSortCheck;
+import com.company.utilities.ThreadUtilCheck;
+
+/**
+ * Runs every behaviour check of the project
+ * @author Eliot McNab
+ */
+public class AllChecks {
+
+    public static void main(String[] args) {
+        ChainRewriterCheck.run();
+        SequentialiserRegistryCheck.run();
+        ResolutionOwnershipCheck.run();
+        ResolutionCacheCheck.run();
+        CheckpointPolicyCheck.run();
+        ContentsCheck.run();
+        ChunkCursorCheck.run();
+        CompiledChangeCheck.run();
+        ParallelPipelineCheck.run();
+        DeadlineCheck.run();
+        ArrayUtilCheck.run();
+        RadixSortCheck.run();
+        PersistentVectorCheck.run();
+        ThreadUtilCheck.run();
+        Checks.report();
+    }
+}
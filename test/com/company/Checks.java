@@ -0,0 +1,172 @@
+package com.company;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Minimal assertions used by the behaviour checks. The project has no test framework dependency, so every check class
+ * is a plain program with a {@code main} method, which {@link AllChecks} runs one after the other.
+ * @author Eliot McNab
+ */
+public final class Checks {
+
+    // ====================================
+    //               FIELDS
+    // ====================================
+
+    /**
+     * Lengths of the arrays parallel algorithms are checked with, around the size of the blocks and chunks they split
+     * arrays into ({@code 1 << 12} elements), up to arrays spanning many of them
+     */
+    public static final int[] LENGTHS = {0, 1, 5, (1 << 12) - 1, 1 << 12, (1 << 12) + 1, 100_000};
+    public static final int[] THREAD_COUNTS = {1, 3, 8};
+
+    private static int passed = 0;
+    private static int failed = 0;
+
+    private Checks() {}
+
+    // ====================================
+    //              RUNNING
+    // ====================================
+
+    /**
+     * Runs a single check, reporting it as failed if it throws anything
+     * @param name ({@code String}): the name of the check
+     * @param check ({@code Runnable}): the check to run
+     */
+    public static void check(
+            @NotNull final String name,
+            @NotNull final Runnable check
+    ) {
+        try {
+            check.run();
+            passed++;
+        } catch (Throwable t) {
+            failed++;
+            System.out.println("FAILED " + name + ": " + t);
+        }
+    }
+
+    /**
+     * Reports the result of every check run so far and exits with a non-zero status if any of them failed
+     */
+    public static void report() {
+        System.out.println(passed + " checks passed, " + failed + " failed");
+        if (failed > 0) System.exit(1);
+    }
+
+    // ====================================
+    //             ASSERTIONS
+    // ====================================
+
+    public static void assertTrue(
+            final boolean condition,
+            @NotNull final String message
+    ) {
+        if (!condition) throw new AssertionError(message);
+    }
+
+    /**
+     * Checks that two values are equal, arrays being compared element by element
+     */
+    public static void assertEquals(
+            final Object expected,
+            final Object actual
+    ) {
+        if (!Objects.deepEquals(expected, actual)) {
+            throw new AssertionError("expected " + toString(expected) + " but was " + toString(actual));
+        }
+    }
+
+    /**
+     * Checks that an action throws an exception of the given type
+     * @return (T): the exception thrown by the action
+     */
+    public static <T extends Throwable> T assertThrows(
+            @NotNull final Class<T> type,
+            @NotNull final Runnable action
+    ) {
+        try {
+            action.run();
+        } catch (Throwable t) {
+            if (type.isInstance(t)) return type.cast(t);
+            throw new AssertionError("expected " + type.getSimpleName() + " but got " + t, t);
+        }
+        throw new AssertionError("expected " + type.getSimpleName() + " but nothing was thrown");
+    }
+
+    /**
+     * Runs an action on a separate daemon thread, so that an action which never finishes, for example because of a
+     * deadlock, fails the check instead of blocking every other check
+     * @param seconds ({@code long}): time after which the action is considered stuck
+     * @param action ({@code Callable<T>}): the action to run
+     * @return (T): the result of the action
+     */
+    public static <T> T assertCompletes(
+            final long seconds,
+            @NotNull final Callable<T> action
+    ) {
+        final FutureTask<T> task = new FutureTask<>(action);
+        final Thread thread = new Thread(task, "check");
+        thread.setDaemon(true);
+        thread.start();
+
+        try {
+            return task.get(seconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new AssertionError("still running after " + seconds + "s");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause)            throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ====================================
+    //               INPUTS
+    // ====================================
+
+    /**
+     * @return (Integer[]): the integers from 0 included to the given length excluded, in ascending order
+     */
+    public static Integer[] range(final int length) {
+        final Integer[] array = new Integer[length];
+        Arrays.setAll(array, i -> i);
+        return array;
+    }
+
+    /**
+     * @param length ({@code int}): the length of the array
+     * @param bound ({@code int}): the bound, exclusive, of the values in the array
+     * @param seed ({@code long}): the seed the values are drawn with, the same seed always giving the same array
+     * @return (Integer[]): an array of random values between 0 included and the given bound excluded
+     */
+    public static Integer[] randomArray(
+            final int length,
+            final int bound,
+            final long seed
+    ) {
+        final Random random = new Random(seed);
+        final Integer[] array = new Integer[length];
+        for (int i = 0; i < length; i++) array[i] = random.nextInt(bound);
+        return array;
+    }
+
+    private static String toString(final Object value) {
+        if (value instanceof Object[] array) return Arrays.deepToString(array);
+        if (value instanceof int[] array)    return Arrays.toString(array);
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,143 @@
+package com.company.collections;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.singlethread.VectorOrigin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that {@link PersistentVector} behaves like a list copied on every edit: random edits are compared with an
+ * {@link ArrayList}, and every previous version of the vector must keep its own elements.
+ * @author Eliot McNab
+ */
+public class PersistentVectorCheck {
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("PersistentVector matches a list under random edits", () -> {
+            final Random random = new Random(1);
+            PersistentVector<Integer> vector = PersistentVector.empty();
+            final List<Integer> expected = new ArrayList<>();
+
+            for (int step = 0; step < 50_000; step++) {
+                final int operation = random.nextInt(10);
+                final int value = random.nextInt();
+
+                if (operation < 4 || expected.isEmpty()) {
+                    vector = vector.append(value);
+                    expected.add(value);
+                } else if (operation < 6) {
+                    final int index = random.nextInt(expected.size() + 1);
+                    vector = vector.insert(index, value);
+                    expected.add(index, value);
+                } else if (operation < 8) {
+                    final int index = random.nextInt(expected.size());
+                    vector = vector.set(index, value);
+                    expected.set(index, value);
+                } else {
+                    final int index = random.nextInt(expected.size());
+                    vector = vector.remove(index);
+                    expected.remove(index);
+                }
+            }
+
+            assertEquals(expected.size(), vector.size());
+            assertEquals(expected.toArray(new Integer[0]), vector.toArray(Integer.class));
+            for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), vector.get(i));
+
+            final List<Integer> iterated = new ArrayList<>();
+            for (Integer e : vector) iterated.add(e);
+            assertEquals(expected, iterated);
+        });
+
+        check("PersistentVector keeps previous versions unchanged", () -> {
+            final Integer[] elements = range(10_000);
+            final PersistentVector<Integer> original = PersistentVector.of(elements);
+
+            final List<PersistentVector<Integer>> versions = new ArrayList<>();
+            final List<Integer[]> expected = new ArrayList<>();
+            PersistentVector<Integer> vector = original;
+            final List<Integer> current = new ArrayList<>(Arrays.asList(elements));
+
+            for (int i = 0; i < 200; i++) {
+                if (i % 3 == 0) {
+                    vector = vector.insert(i * 37, -i);
+                    current.add(i * 37, -i);
+                } else if (i % 3 == 1) {
+                    vector = vector.set(i * 41, -i);
+                    current.set(i * 41, -i);
+                } else {
+                    vector = vector.remove(i);
+                    current.remove(i);
+                }
+
+                versions.add(vector);
+                expected.add(current.toArray(new Integer[0]));
+            }
+
+            assertEquals(elements, original.toArray(Integer.class));
+            for (int i = 0; i < versions.size(); i++) {
+                assertEquals(expected.get(i), versions.get(i).toArray(Integer.class));
+            }
+        });
+
+        check("PersistentVector rejects invalid indexes", () -> {
+            final PersistentVector<Integer> vector = PersistentVector.of(range(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> vector.get(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> vector.set(100, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> vector.insert(101, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> vector.remove(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.<Integer>empty().remove(0));
+
+            final Iterator<Integer> iterator = PersistentVector.<Integer>empty().iterator();
+            assertTrue(!iterator.hasNext(), "empty vector has elements");
+            assertThrows(NoSuchElementException.class, iterator::next);
+        });
+
+        check("PersistentVector builds and appends in order", () -> {
+            final Integer[] elements = range(5_000);
+            assertEquals(elements, PersistentVector.of(elements).toArray(Integer.class));
+            assertEquals(elements, PersistentVector.<Integer>empty().appendAll(elements).toArray(Integer.class));
+            assertEquals(
+                    elements,
+                    PersistentVector.of(Arrays.copyOf(elements, 1_234))
+                            .appendAll(Arrays.copyOfRange(elements, 1_234, elements.length))
+                            .toArray(Integer.class)
+            );
+        });
+
+        check("VectorOrigin edits leave previous origins unchanged", () -> {
+            final VectorOrigin<Integer> origin = Change.ofVector(range(2_000));
+            VectorOrigin<Integer> edited = origin;
+            for (int i = 0; i < 1_000; i++) edited = edited.with(i * 2, -i);
+
+            assertEquals(7, origin.get(7));
+            assertEquals(-1, edited.get(2));
+            assertEquals(2_000, edited.size());
+            assertEquals(1, edited.withoutAt(0).get(0));
+            assertEquals(2_002, edited.withAppended(5, 6).size());
+            assertEquals(-5, edited.withInserted(3, -5).get(3));
+            assertTrue(edited.contains(-5) && !origin.contains(-5), "edits leaked to the previous origin");
+
+            final Integer[] expected = edited.toArray();
+            assertEquals(
+                    Change.of(expected).removeIf(i -> i < 0).limit(3).toArray(),
+                    edited.removeIf(i -> i < 0).limit(3).toArray()
+            );
+            assertEquals(expected, edited.parallel().toArray());
+        });
+    }
+}
@@ -0,0 +1,161 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that every rule of {@link ChainRewriter#DEFAULT} matches the chains it is meant to rewrite, and that rewritten
+ * chains resolve to the same array as when they are applied one Change after the other.
+ * @author Eliot McNab
+ */
+public class ChainRewriterCheck {
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("DropBeforeClear", () -> {
+            final Supplier<Change<Integer>> chain = () -> Change.of(1, 2, 3).forEach(i -> i + 1).removeAll(3).clear();
+            assertSameResult(chain);
+            // the origin is dropped along with every other change before the clear
+            assertEquals(1, chain.get().explain().getStages().size());
+        });
+
+        check("CollapseIdempotent sorted", () -> {
+            final Supplier<Change<Integer>> chain = () -> Change.of(5, 3, 1, 3).sorted().sorted();
+            assertSameResult(chain);
+            assertEquals(new Integer[]{1, 3, 3, 5}, chain.get().toArray());
+            // the origin followed by a single sort
+            assertEquals(2, chain.get().explain().getStages().size());
+        });
+
+        check("CollapseIdempotent unique with comparator", () -> {
+            final Comparator<Integer> comparator = Comparator.naturalOrder();
+            final Supplier<Change<Integer>> chain = () -> Change.of(5, 3, 1, 3, 5)
+                    .unique(comparator)
+                    .unique(comparator);
+            assertSameResult(chain);
+            assertEquals(2, chain.get().explain().getStages().size());
+        });
+
+        check("CollapseIdempotent unique without comparator", () -> {
+            final Supplier<Change<Integer>> chain = () -> Change.of(5, 3, 1, 3, 5, 7, 9, 1).unique().unique();
+            assertSameResult(chain);
+            assertEquals(new Integer[]{5, 3, 1, 7, 9}, chain.get().toArray());
+            assertEquals(2, chain.get().explain().getStages().size());
+        });
+
+        check("CollapseIdempotent keeps different comparators", () -> {
+            final Supplier<Change<Integer>> chain = () -> Change.of(5, 3, 1, 3)
+                    .sorted()
+                    .sorted(Comparator.reverseOrder());
+            assertSameResult(chain);
+            assertEquals(new Integer[]{5, 3, 3, 1}, chain.get().toArray());
+        });
+
+        check("ComposeReplaceAll", () -> {
+            final Supplier<Change<Integer>> chain = () -> Change.of(1, 2, 3, 4, 1)
+                    .replaceAll(1, 2, 4, 5)
+                    .replaceAll(2, 3);
+            assertSameResult(chain);
+            assertEquals(new Integer[]{3, 3, 3, 5, 3}, chain.get().toArray());
+            assertTrue(chain.get().explain().getStages().get(1).isRewritten(), "replaceAll changes were not composed");
+        });
+
+        check("PushFilterBeforeAdd", () -> {
+            assertSameResult(() -> Change.of(1, 2, 3).addAll(4, 5, 2).removeAll(2));
+            assertSameResult(() -> Change.of(1, 2, 3).addAll(4, 5, 6).removeIf(i -> i % 2 == 0));
+            assertSameResult(() -> Change.of(1, 2, 3).addAll(4, 5, 6).retainIf(i -> i > 4));
+            assertSameResult(() -> Change.of(1, 2, 3).addAll(4, 5, 6).removeIf(i -> i == 4).retainIf(i -> i < 6));
+            assertSameResult(() -> Change.of(1, 2, 3).addAll(2, 4).removeAll(2, 4).removeAt(0, 3));
+        });
+
+        check("PushFilterBeforeAdd only filters the elements to add when applied", () -> {
+            final AtomicInteger calls = new AtomicInteger();
+            final Change<Integer> change = Change.of(1, 2, 3).addAll(4, 5, 6).removeIf(i -> {
+                calls.incrementAndGet();
+                return i % 2 == 0;
+            });
+
+            change.explain();
+            assertEquals(0, calls.get());
+            assertEquals(new Integer[]{1, 3, 5}, change.toArray());
+            // every element goes through the predicate once, whether it was added or not
+            assertEquals(6, calls.get());
+        });
+
+        check("CancelAddRemoveAt", () -> {
+            final Supplier<Change<Integer>> chain = () -> Change.of(1, 2, 3).addAll(4, 5).removeAt(0, 4);
+            assertSameResult(chain);
+            assertEquals(new Integer[]{2, 3, 4}, chain.get().toArray());
+        });
+
+        check("FuseElementWise", () -> {
+            final Integer[] array = range(10_000);
+            final Supplier<Change<Integer>> chain = () -> Change.of(array)
+                    .forEach(i -> i * 3)
+                    .retainIf(i -> i % 2 == 0)
+                    .replaceAll(i -> i > 100, -1)
+                    .removeIf(i -> i == 0);
+            assertSameResult(chain);
+            assertTrue(hasStage(chain.get(), ResolutionPlan.Kind.FUSED), "element-wise changes were not fused");
+        });
+
+        check("FuseElementWise replaceAll applies every matching filter", () -> {
+            final Supplier<Change<Integer>> chain = () -> Change.of(1, 2, 3, 1)
+                    .replaceAll(i -> i == 1, 2)
+                    .replaceAll(i -> i == 2, 3);
+            assertSameResult(chain);
+            assertEquals(new Integer[]{3, 3, 3, 3}, chain.get().toArray());
+            assertEquals(
+                    chain.get().toArray(),
+                    Change.of(1, 2, 3, 1).parallel().replaceAll(i -> i == 1, 2).replaceAll(i -> i == 2, 3).toArray()
+            );
+        });
+
+        check("PipelineElementWise", () -> {
+            final Integer[] array = range(50_000);
+            final Supplier<Change<Integer>> chain = () -> Change.of(array)
+                    .parallel()
+                    .setCoreCount(4)
+                    .forEach(i -> i + 1)
+                    .removeIf(i -> i % 3 == 0)
+                    .replaceAll(1, -1);
+            assertSameResult(chain);
+            assertEquals(
+                    Change.of(array).forEach(i -> i + 1).removeIf(i -> i % 3 == 0).replaceAll(1, -1).toArray(),
+                    chain.get().toArray()
+            );
+            assertTrue(hasStage(chain.get(), ResolutionPlan.Kind.PIPELINED), "parallel changes were not pipelined");
+        });
+    }
+
+    /**
+     * Checks that a chain resolves to the same array whether it is rewritten or not
+     */
+    static <E> void assertSameResult(final Supplier<Change<E>> chain) {
+        final ChainRewriter rewriter = Change.getChainRewriter();
+        try {
+            Change.setChainRewriter(null);
+            final E[] expected = chain.get().toArray();
+            Change.setChainRewriter(ChainRewriter.DEFAULT);
+            assertEquals(expected, chain.get().toArray());
+        } finally {
+            Change.setChainRewriter(rewriter);
+        }
+    }
+
+    static boolean hasStage(
+            final Change<?> change,
+            final ResolutionPlan.Kind kind
+    ) {
+        return change.explain().getStages().stream().anyMatch(stage -> stage.getKind() == kind);
+    }
+}
@@ -0,0 +1,114 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that resolving a deep chain of Changes checkpoints every Change whose generation is a multiple of the
+ * interval of the {@link CheckpointPolicy}, and that later resolutions restart from the closest checkpoint, only
+ * applying the Changes made after it.
+ * @author Eliot McNab
+ */
+public class CheckpointPolicyCheck {
+
+    private static final int LENGTH = 1_000;
+    private static final int GENERATIONS = 200;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("CheckpointPolicy checkpoints every 64 generations", () -> withDefaultPolicy(() -> {
+            final AtomicLong calls = new AtomicLong();
+            final List<SingleThreadChange<Integer>> chain = chain(calls);
+
+            assertEquals(expected(GENERATIONS), chain.get(GENERATIONS).toArray());
+            assertEquals((long) GENERATIONS * LENGTH, calls.get());
+
+            for (int generation = 0; generation <= GENERATIONS; generation++) {
+                final boolean checkpoint = generation > 0 && generation % 64 == 0;
+                assertTrue(
+                        chain.get(generation).isCheckpointed() == checkpoint,
+                        "generation " + generation + (checkpoint ? " was not" : " was") + " checkpointed"
+                );
+            }
+        }));
+
+        check("resolution restarts from the closest checkpoint", () -> withDefaultPolicy(() -> {
+            final AtomicLong calls = new AtomicLong();
+            final List<SingleThreadChange<Integer>> chain = chain(calls);
+            chain.get(GENERATIONS).toArray();
+
+            for (int generation : new int[]{64, 100, 128, 150, 191, 192, 199}) {
+                final int closest = generation / 64 * 64;
+                final ResolutionPlan<Integer> plan = chain.get(generation).explain();
+                assertEquals(ResolutionPlan.Source.CHECKPOINT, plan.getSource());
+                assertEquals(closest, plan.getStartGeneration());
+
+                // only the changes made after the checkpoint are applied again
+                calls.set(0);
+                assertEquals(expected(generation), chain.get(generation).toArray());
+                assertEquals((long) (generation - closest) * LENGTH, calls.get());
+            }
+
+            // changes before the first checkpoint are resolved from the origin
+            calls.set(0);
+            assertEquals(ResolutionPlan.Source.ORIGIN, chain.get(63).explain().getSource());
+            assertEquals(expected(63), chain.get(63).toArray());
+            assertEquals(63L * LENGTH, calls.get());
+        }));
+    }
+
+    /**
+     * Builds a chain of changes each adding one to every element, counting the calls to their function
+     * @return (List< SingleThreadChange< Integer > >): every change of the chain, by generation
+     */
+    private static List<SingleThreadChange<Integer>> chain(final AtomicLong calls) {
+        final Integer[] array = new Integer[LENGTH];
+        Arrays.setAll(array, i -> i);
+
+        final List<SingleThreadChange<Integer>> chain = new ArrayList<>();
+        SingleThreadChange<Integer> change = Change.of(array);
+        chain.add(change);
+        for (int generation = 1; generation <= GENERATIONS; generation++) {
+            change = change.forEach(i -> {
+                calls.incrementAndGet();
+                return i + 1;
+            });
+            chain.add(change);
+        }
+
+        return chain;
+    }
+
+    private static Integer[] expected(final int generation) {
+        final Integer[] array = new Integer[LENGTH];
+        Arrays.setAll(array, i -> i + generation);
+        return array;
+    }
+
+    /**
+     * Runs a check with the default checkpoint policy and without cache, restoring the previous ones afterwards
+     */
+    private static void withDefaultPolicy(final Runnable check) {
+        final CheckpointPolicy policy = Change.getCheckpointPolicy();
+        final ResolutionCache cache = Change.getResolutionCache();
+        try {
+            Change.setCheckpointPolicy(CheckpointPolicy.DEFAULT);
+            Change.setResolutionCache(null);
+            check.run();
+        } finally {
+            Change.setCheckpointPolicy(policy);
+            Change.setResolutionCache(cache);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that a {@link ChunkCursor} returns the resolved array in consecutive chunks of at most its chunk size, for
+ * empty arrays, arrays whose length is an exact multiple of the chunk size and arrays ending with a partial chunk,
+ * and that extending the chain while iterating over a cursor does not affect the chunks it returns.
+ * @author Eliot McNab
+ */
+public class ChunkCursorCheck {
+
+    private static final int CHUNK_SIZE = 64;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("ChunkCursor returns no chunk for empty arrays", () -> {
+            final List<Change<Integer>> changes = List.of(
+                    Change.of(new Integer[0]),
+                    Change.of(new Integer[0]).forEach(i -> i + 1),
+                    Change.of(range(100)).removeIf(i -> i >= 0),
+                    Change.of(range(100)).forEach(i -> i * 2).clear(),
+                    Change.of(range(100)).limit(0)
+            );
+            for (Change<Integer> change : changes) {
+                final ChunkCursor<Integer> cursor = change.chunks(CHUNK_SIZE);
+                assertTrue(!cursor.hasNext(), "chunk returned for an empty array");
+                assertThrows(NoSuchElementException.class, cursor::next);
+                assertTrue(!cursor.elements().hasNext(), "element returned for an empty array");
+            }
+        });
+
+        check("ChunkCursor splits exact multiples of the chunk size into full chunks", () -> {
+            for (int chunks = 1; chunks <= 3; chunks++) {
+                final SingleThreadChange<Integer> change = Change.of(range(chunks * CHUNK_SIZE)).forEach(i -> i * 3);
+                final List<Integer[]> result = drain(change.chunks(CHUNK_SIZE));
+
+                assertEquals(chunks, result.size());
+                for (Integer[] chunk : result) assertEquals(CHUNK_SIZE, chunk.length);
+                assertEquals(change.toArray(), concatenate(result));
+            }
+        });
+
+        check("ChunkCursor ends with a partial chunk", () -> {
+            for (int length : new int[]{1, CHUNK_SIZE - 1, CHUNK_SIZE + 1, 3 * CHUNK_SIZE + 17}) {
+                final SingleThreadChange<Integer> change = Change.of(range(length)).forEach(i -> i - 5);
+                final List<Integer[]> result = drain(change.chunks(CHUNK_SIZE));
+
+                assertEquals((length + CHUNK_SIZE - 1) / CHUNK_SIZE, result.size());
+                for (int i = 0; i < result.size() - 1; i++) assertEquals(CHUNK_SIZE, result.get(i).length);
+                assertEquals(length % CHUNK_SIZE, result.get(result.size() - 1).length);
+                assertEquals(change.toArray(), concatenate(result));
+            }
+        });
+
+        check("ChunkCursor matches toArray through filters, additions and limits", () -> {
+            final List<Change<Integer>> changes = List.of(
+                    Change.of(range(1_000)).removeIf(i -> i % 3 == 0),
+                    Change.of(range(1_000)).forEach(i -> i * 2).addAll(range(150)).retainIf(i -> i % 5 != 0),
+                    Change.of(range(1_000)).addAll(range(300)).limit(1_100).forEach(i -> i + 1),
+                    Change.of(range(1_000)).sorted((a, b) -> b - a).limit(CHUNK_SIZE * 2).forEach(i -> -i),
+                    Change.of(range(1_000)).parallel().setCoreCount(3).forEach(i -> i + 7).limit(333)
+            );
+            for (Change<Integer> change : changes) {
+                final List<Integer[]> result = drain(change.chunks(CHUNK_SIZE));
+                for (Integer[] chunk : result) {
+                    assertTrue(chunk.length >= 1 && chunk.length <= CHUNK_SIZE, "chunk of " + chunk.length);
+                }
+                assertEquals(change.toArray(), concatenate(result));
+
+                final List<Integer> elements = new ArrayList<>();
+                change.chunks(CHUNK_SIZE).elements().forEachRemaining(elements::add);
+                assertEquals(change.toArray(), elements.toArray(Integer[]::new));
+            }
+        });
+
+        check("extending the chain while iterating does not affect the cursor", () -> {
+            final SingleThreadChange<Integer> change = Change.of(range(10 * CHUNK_SIZE)).forEach(i -> i + 1);
+            final Integer[] expected = change.toArray();
+
+            final ChunkCursor<Integer> cursor = change.chunks(CHUNK_SIZE);
+            final List<Integer[]> result = new ArrayList<>();
+            final List<Change<Integer>> extensions = new ArrayList<>();
+            while (cursor.hasNext()) {
+                result.add(cursor.next());
+
+                // every extension of the chain is resolved in the middle of the iteration
+                final int offset = result.size();
+                final Change<Integer> extension = change.forEach(i -> i * 10 + offset).removeIf(i -> i % 2 == 0);
+                extension.toArray();
+                extensions.add(extension);
+            }
+
+            assertEquals(expected, concatenate(result));
+            assertEquals(expected, change.toArray());
+            for (int i = 0; i < extensions.size(); i++) {
+                final int offset = i + 1;
+                final Integer[] extended = Arrays.stream(expected)
+                        .map(e -> e * 10 + offset)
+                        .filter(e -> e % 2 != 0)
+                        .toArray(Integer[]::new);
+                assertEquals(extended, extensions.get(i).toArray());
+            }
+        });
+    }
+
+    private static <E> List<E[]> drain(final Iterator<E[]> cursor) {
+        final List<E[]> chunks = new ArrayList<>();
+        cursor.forEachRemaining(chunks::add);
+        return chunks;
+    }
+
+    private static Integer[] concatenate(final List<Integer[]> chunks) {
+        return chunks.stream().flatMap(Stream::of).toArray(Integer[]::new);
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+import com.company.utilities.ThreadUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that {@link CompiledChange#applyToAll(Object[][], int)} applies the compiled Change to every array of a
+ * batch, in order and without modifying them, whatever the number of tasks, including when the batch is processed
+ * on a bounded executor by a Change which itself splits every array between tasks of that executor.
+ * @author Eliot McNab
+ */
+public class CompiledChangeCheck {
+
+    private static final int BATCH_SIZE = 40;
+
+    // time after which work run on a bounded executor is considered deadlocked
+    private static final long DEADLOCK_SECONDS = 30;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        final Integer[][] arrays = batch();
+
+        check("applyToAll matches applyTo for every array of the batch", () -> {
+            final Change<Integer> change = Change.of(arrays[0])
+                    .forEach(i -> i * 3)
+                    .removeIf(i -> i % 2 == 0)
+                    .addAll(1, 2, 3)
+                    .sorted();
+            final CompiledChange<Integer> compiled = change.compile();
+            final Integer[][] expected = Arrays.stream(arrays).map(change::applyTo).toArray(Integer[][]::new);
+            final Integer[][] inputs = Arrays.stream(arrays).map(Integer[]::clone).toArray(Integer[][]::new);
+
+            for (int threadCount : new int[]{1, 3, BATCH_SIZE, BATCH_SIZE * 2}) {
+                assertEquals(expected, compiled.applyToAll(inputs, threadCount));
+                assertEquals(arrays, inputs);
+            }
+            assertEquals(expected, change.applyToAll(inputs));
+            assertEquals(expected, change.applyToAll(List.of(inputs)).toArray(Integer[][]::new));
+            assertEquals(arrays, inputs);
+        });
+
+        check("applyToAll handles empty batches and rejects invalid thread counts", () -> {
+            final CompiledChange<Integer> compiled = Change.of(arrays[0]).forEach(i -> i + 1).compile();
+            assertEquals(0, compiled.applyToAll(new Integer[0][], 4).length);
+            assertEquals(new Integer[][]{{}}, compiled.applyToAll(new Integer[][]{{}}, 4));
+            assertThrows(IllegalArgumentException.class, () -> compiled.applyToAll(arrays, 0));
+        });
+
+        check("applyToAll of a parallel change does not deadlock a bounded executor", () -> {
+            final CompiledChange<Integer> compiled = Change.of(arrays[0])
+                    .parallel()
+                    .setCoreCount(4)
+                    .forEach(i -> i * 2)
+                    .removeIf(i -> i % 3 == 0)
+                    .compile();
+            final Integer[][] expected = Arrays.stream(arrays)
+                    .map(array -> Arrays.stream(array).map(i -> i * 2).filter(i -> i % 3 != 0).toArray(Integer[]::new))
+                    .toArray(Integer[][]::new);
+
+            for (int threads = 1; threads <= 2; threads++) {
+                final ExecutorService pool = Executors.newFixedThreadPool(threads);
+                try {
+                    // the batch is itself processed from a thread of the pool, whose tasks split every array again
+                    final Integer[][] results = assertCompletes(DEADLOCK_SECONDS, () -> pool.submit(
+                            () -> ThreadUtil.callWith(pool, () -> compiled.applyToAll(arrays, 8))
+                    ).get());
+                    assertEquals(expected, results);
+                } finally {
+                    pool.shutdownNow();
+                }
+            }
+        });
+    }
+
+    /**
+     * @return (Integer[][]): arrays of increasing lengths, each one holding different values
+     */
+    private static Integer[][] batch() {
+        final Integer[][] arrays = new Integer[BATCH_SIZE][];
+        for (int i = 0; i < arrays.length; i++) {
+            final int offset = i;
+            arrays[i] = Arrays.stream(range(i * 250)).map(e -> e + offset).toArray(Integer[]::new);
+        }
+        return arrays;
+    }
+}
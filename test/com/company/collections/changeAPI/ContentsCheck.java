@@ -0,0 +1,259 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that {@link Change#size()} and {@link Change#contains(Object)}, answered through the size and membership
+ * hooks of every Change without resolving the chain whenever possible, agree with the resolved array, including for
+ * chains whose filters leave the size unknown and for chains resolved from a cached result or a checkpoint.
+ * @author Eliot McNab
+ */
+public class ContentsCheck {
+
+    private static final int CHAINS = 300;
+    private static final int MAX_GENERATIONS = 8;
+    private static final int OPERATION_COUNT = 17;
+
+    // values held by the arrays, the values checked with contains going slightly beyond them on both sides
+    private static final int MAX_VALUE = 20;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("size and contains agree with toArray on single-thread chains", () -> {
+            final Random random = new Random(7);
+            for (int i = 0; i < CHAINS; i++) {
+                final Operation[] operations = randomOperations(random, true);
+                assertSameContents(singleThreadChain(randomArray(random), operations), operations);
+            }
+        });
+
+        check("size and contains agree with toArray on parallel chains", () -> {
+            final Random random = new Random(11);
+            for (int i = 0; i < CHAINS; i++) {
+                final Operation[] operations = randomOperations(random, true);
+                assertSameContents(parallelChain(randomArray(random), operations), operations);
+            }
+        });
+
+        check("size falls back to toArray after changes of unknown size", () -> {
+            final Integer[] array = {3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5};
+            // every chain holds a filter, whose resulting size can only be known by resolving the array
+            final List<Change<Integer>> changes = List.of(
+                    Change.of(array).removeIf(i -> i % 2 == 0),
+                    Change.of(array).retainIf(i -> i > 3).add(7),
+                    Change.of(array).removeAll(5, 1).addAll(1, 1).removeFirst(1),
+                    Change.of(array).retainAll(1, 5, 8).unique().removeAt(0, 5),
+                    Change.of(array).parallel().setCoreCount(3).removeIf(i -> i < 4).addAll(2, 3),
+                    Change.of(array).parallel().setCoreCount(3).retainFirst(5, 9).replaceAll(5, 9)
+            );
+            for (Change<Integer> change : changes) assertSameContents(change, new Operation[0]);
+        });
+
+        check("size and contains agree with toArray from cached results and checkpoints", () -> {
+            final ResolutionCache previous = Change.getResolutionCache();
+            final CheckpointPolicy policy = Change.getCheckpointPolicy();
+            try {
+                final Random random = new Random(13);
+                for (ResolutionCache cache : new ResolutionCache[]{new ResolutionCache(1 << 24), null}) {
+                    Change.setResolutionCache(cache);
+                    Change.setCheckpointPolicy(cache == null ? CheckpointPolicy.every(1) : CheckpointPolicy.DISABLED);
+
+                    for (int i = 0; i < CHAINS / 10; i++) {
+                        // the result of a chain ending with limits is streamed rather than checkpointed
+                        final Operation[] operations = randomOperations(random, false);
+                        final SingleThreadChange<Integer> parent = singleThreadChain(randomArray(random), operations);
+                        parent.toArray();
+
+                        final Operation[] childOperations = randomOperations(random, true);
+                        final SingleThreadChange<Integer> child = singleThreadChain(parent, childOperations);
+                        assertTrue(child.explain().getSource() != ResolutionPlan.Source.ORIGIN, "resolved from origin");
+                        assertSameContents(child, childOperations);
+                    }
+                }
+            } finally {
+                Change.setResolutionCache(previous);
+                Change.setCheckpointPolicy(policy);
+            }
+        });
+    }
+
+    private static void assertSameContents(
+            final Change<Integer> change,
+            final Operation[] operations
+    ) {
+        final Integer[] resolved = change.toArray();
+        assertTrue(
+                change.size() == resolved.length,
+                "size " + change.size() + " disagrees with " + Arrays.toString(resolved) + " after "
+                        + Arrays.toString(operations)
+        );
+        assertEquals(resolved.length == 0, change.isEmpty());
+
+        final List<Integer> elements = Arrays.asList(resolved);
+        for (int value = -2; value <= MAX_VALUE + 2; value++) {
+            assertTrue(
+                    change.contains(value) == elements.contains(value),
+                    "contains(" + value + ") disagrees with " + elements + " after " + Arrays.toString(operations)
+            );
+        }
+    }
+
+    // ====================================
+    //               CHAINS
+    // ====================================
+
+    /**
+     * An operation applied to both kinds of chains with the same parameters
+     */
+    private record Operation(
+            String name,
+            Function<SingleThreadChange<Integer>, SingleThreadChange<Integer>> singleThread,
+            Function<ParallelChange<Integer>, ParallelChange<Integer>> parallel
+    ) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static SingleThreadChange<Integer> singleThreadChain(
+            final Integer[] array,
+            final Operation[] operations
+    ) {
+        return singleThreadChain(Change.of(array), operations);
+    }
+
+    private static SingleThreadChange<Integer> singleThreadChain(
+            SingleThreadChange<Integer> change,
+            final Operation[] operations
+    ) {
+        for (Operation operation : operations) change = operation.singleThread().apply(change);
+        return change;
+    }
+
+    private static ParallelChange<Integer> parallelChain(
+            final Integer[] array,
+            final Operation[] operations
+    ) {
+        ParallelChange<Integer> change = Change.of(array).parallel().setCoreCount(3);
+        for (Operation operation : operations) change = operation.parallel().apply(change);
+        return change;
+    }
+
+    private static Operation[] randomOperations(
+            final Random random,
+            final boolean limits
+    ) {
+        final Operation[] operations = new Operation[1 + random.nextInt(MAX_GENERATIONS)];
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = randomOperation(random, limits ? OPERATION_COUNT : OPERATION_COUNT - 1);
+        }
+        return operations;
+    }
+
+    /**
+     * @param operationCount ({@code int}): the number of kinds of operations to pick from, the last one being limit
+     * @return (Operation): an operation picked at random, with random parameters
+     */
+    private static Operation randomOperation(
+            final Random random,
+            final int operationCount
+    ) {
+        final Integer a = random.nextInt(MAX_VALUE);
+        final Integer b = random.nextInt(MAX_VALUE);
+        final Integer c = random.nextInt(MAX_VALUE);
+        final int modulo = 2 + random.nextInt(4);
+
+        return switch (random.nextInt(operationCount)) {
+            case 0  -> new Operation("add(" + a + ")", change -> change.add(a), change -> change.add(a));
+            case 1  -> new Operation(
+                    "addAll(" + a + ", " + b + ", " + c + ")",
+                    change -> change.addAll(a, b, c),
+                    change -> change.addAll(a, b, c)
+            );
+            case 2  -> new Operation(
+                    "removeAll(" + a + ", " + b + ")",
+                    change -> change.removeAll(a, b),
+                    change -> change.removeAll(a, b)
+            );
+            case 3  -> new Operation(
+                    "removeFirst(" + a + ", " + b + ")",
+                    change -> change.removeFirst(a, b),
+                    change -> change.removeFirst(a, b)
+            );
+            case 4  -> new Operation(
+                    "removeIf(i % " + modulo + " == 0)",
+                    change -> change.removeIf(i -> i % modulo == 0),
+                    change -> change.removeIf(i -> i % modulo == 0)
+            );
+            case 5  -> new Operation(
+                    "removeAt(0, " + c + ")",
+                    change -> change.removeAt(0, c),
+                    change -> change.removeAt(0, c)
+            );
+            case 6  -> new Operation(
+                    "retainAll(" + a + ", " + b + ", " + c + ")",
+                    change -> change.retainAll(a, b, c),
+                    change -> change.retainAll(a, b, c)
+            );
+            case 7  -> new Operation(
+                    "retainIf(i < " + c + ")",
+                    change -> change.retainIf(i -> i < c),
+                    change -> change.retainIf(i -> i < c)
+            );
+            case 8  -> new Operation(
+                    "retainFirst(" + a + ", " + b + ")",
+                    change -> change.retainFirst(a, b),
+                    change -> change.retainFirst(a, b)
+            );
+            case 9  -> new Operation(
+                    "replaceAll(" + a + ", " + b + ")",
+                    change -> change.replaceAll(a, b),
+                    change -> change.replaceAll(a, b)
+            );
+            case 10 -> new Operation(
+                    "replaceAll(i > " + c + ", " + a + ")",
+                    change -> change.replaceAll(i -> i > c, a),
+                    change -> change.replaceAll(i -> i > c, a)
+            );
+            case 11 -> new Operation(
+                    "replaceFirst(" + a + ", " + b + ")",
+                    change -> change.replaceFirst(a, b),
+                    change -> change.replaceFirst(a, b)
+            );
+            case 12 -> new Operation(
+                    "forEach(i + " + modulo + ")",
+                    change -> change.forEach(i -> (i + modulo) % MAX_VALUE),
+                    change -> change.forEach(i -> (i + modulo) % MAX_VALUE)
+            );
+            case 13 -> new Operation(
+                    "sorted(reverseOrder)",
+                    change -> change.sorted(Comparator.reverseOrder()),
+                    change -> change.sorted(Comparator.reverseOrder())
+            );
+            case 14 -> new Operation("unique()", SingleThreadChange::unique, ParallelChange::unique);
+            case 15 -> new Operation("clear()", SingleThreadChange::clear, ParallelChange::clear);
+            default -> new Operation("limit(" + c + ")", change -> change.limit(c), change -> change.limit(c));
+        };
+    }
+
+    private static Integer[] randomArray(final Random random) {
+        final Integer[] array = new Integer[random.nextInt(30)];
+        for (int i = 0; i < array.length; i++) array[i] = random.nextInt(MAX_VALUE);
+        return array;
+    }
+}
@@ -0,0 +1,175 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that the {@link ResolutionCache} counts hits and misses, resumes resolution from cached ancestors, evicts its
+ * least recently used entries once over budget, forgets about arrays reclaimed by the garbage collector, and does not
+ * keep the Changes it caches alive.
+ * @author Eliot McNab
+ */
+public class ResolutionCacheCheck {
+
+    private static final int LENGTH = 1_000;
+
+    // estimated size of the entry of an array of LENGTH elements
+    private static final long ENTRY_SIZE =
+            ResolutionCache.estimateSize(new Object[LENGTH]) + ResolutionCache.ENTRY_OVERHEAD;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("ResolutionCache counts hits and resumes from cached ancestors", () -> withCache(1 << 20, cache -> {
+            final SingleThreadChange<Integer> change = Change.of(range(LENGTH)).forEach(i -> i * 2);
+            final Integer[] expected = Arrays.stream(range(LENGTH)).map(i -> i * 2).toArray(Integer[]::new);
+
+            assertEquals(expected, change.toArray());
+            assertCounts(cache, 0, 1);
+            assertEquals(expected, change.toArray());
+            assertCounts(cache, 1, 1);
+
+            final Change<Integer> child = change.removeIf(i -> i % 3 == 0);
+            assertEquals(ResolutionPlan.Source.CACHE, child.explain().getSource());
+            final Integer[] filtered = Arrays.stream(expected).filter(i -> i % 3 != 0).toArray(Integer[]::new);
+            assertEquals(filtered, child.toArray());
+            assertCounts(cache, 2, 1);
+            assertEquals(2, cache.size());
+            assertEquals(
+                    ENTRY_SIZE + ResolutionCache.estimateSize(filtered) + ResolutionCache.ENTRY_OVERHEAD,
+                    cache.getUsedBytes()
+            );
+        }));
+
+        check("ResolutionCache evicts the least recently used entries", () -> withCache(2 * ENTRY_SIZE, cache -> {
+            final Change<Integer> first = Change.of(range(LENGTH)).forEach(i -> i + 1);
+            final Change<Integer> second = Change.of(range(LENGTH)).forEach(i -> i + 2);
+            final Change<Integer> third = Change.of(range(LENGTH)).forEach(i -> i + 3);
+
+            first.toArray();
+            second.toArray();
+            first.toArray();                       // hit, second becomes the least recently used entry
+            third.toArray();                       // evicts second
+            assertCounts(cache, 1, 3);
+            assertEquals(2, cache.size());
+            assertTrue(cache.getUsedBytes() <= cache.getByteBudget(), "cache over budget");
+
+            first.toArray();
+            third.toArray();
+            assertCounts(cache, 3, 3);
+            second.toArray();
+            assertCounts(cache, 3, 4);
+
+            // arrays bigger than the whole budget are never cached
+            Change.of(range(LENGTH * 3)).forEach(i -> i).toArray();
+            assertEquals(2, cache.size());
+        }));
+
+        check("ResolutionCache forgets about reclaimed arrays", () -> withCache(1 << 20, cache -> {
+            final SingleThreadChange<Integer> parent = Change.of(range(LENGTH)).forEach(i -> i - 1);
+            final Change<Integer> child = parent.forEach(i -> i * 3);
+            parent.toArray();
+            child.toArray();
+            assertEquals(2, cache.size());
+
+            cache.reclaimAll();
+            assertEquals(ResolutionPlan.Source.ORIGIN, child.explain().getSource());
+            assertEquals(Arrays.stream(range(LENGTH)).map(i -> (i - 1) * 3).toArray(Integer[]::new), child.toArray());
+            assertCounts(cache, 1, 2);
+
+            // only the entry cached again is left
+            assertEquals(1, cache.size());
+            assertEquals(ENTRY_SIZE, cache.getUsedBytes());
+        }));
+
+        check("ResolutionCache keeps the results of limited changes", () -> withCache(1 << 20, cache -> {
+            final AtomicInteger calls = new AtomicInteger();
+            final SingleThreadChange<Integer> limited = Change.of(range(LENGTH)).forEach(i -> {
+                calls.incrementAndGet();
+                return i * 2;
+            }).limit(10);
+            final Integer[] expected = Arrays.stream(range(10)).map(i -> i * 2).toArray(Integer[]::new);
+
+            // only the elements kept by the limit are pulled through forEach, then the result is cached
+            assertEquals(expected, limited.toArray());
+            assertEquals(10, calls.get());
+            assertCounts(cache, 0, 1);
+            assertEquals(1, cache.size());
+
+            assertEquals(expected, limited.toArray());
+            assertEquals(10, calls.get());
+            assertCounts(cache, 1, 1);
+
+            final Change<Integer> child = limited.forEach(i -> i + 1);
+            assertEquals(ResolutionPlan.Source.CACHE, child.explain().getSource());
+            assertEquals(Arrays.stream(expected).map(i -> i + 1).toArray(Integer[]::new), child.toArray());
+            assertEquals(10, calls.get());
+        }));
+
+        check("ResolutionCache does not keep cached changes alive", () -> withCache(1 << 24, cache -> {
+            for (int i = 0; i < 20; i++) resolveUnreferenced(i);
+            assertEquals(20, cache.size());
+
+            for (int attempt = 0; attempt < 50 && cache.size() > 0; attempt++) {
+                System.gc();
+                sleep(20);
+            }
+            assertEquals(0, cache.size());
+            assertEquals(0L, cache.getUsedBytes());
+        }));
+    }
+
+    /**
+     * Resolves a chain of Changes without keeping any reference to it
+     */
+    private static void resolveUnreferenced(final int offset) {
+        Change.of(range(LENGTH)).forEach(i -> i + offset).toArray();
+    }
+
+    private static void assertCounts(
+            final ResolutionCache cache,
+            final long hits,
+            final long misses
+    ) {
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(misses, cache.getMissCount());
+    }
+
+    /**
+     * Runs a check with a new cache enabled, restoring the previous cache afterwards
+     */
+    private static void withCache(
+            final long byteBudget,
+            final Consumer<ResolutionCache> check
+    ) {
+        final ResolutionCache previous = Change.getResolutionCache();
+        final CheckpointPolicy policy = Change.getCheckpointPolicy();
+        try {
+            final ResolutionCache cache = new ResolutionCache(byteBudget);
+            Change.setResolutionCache(cache);
+            // checkpoints would also let resolution skip the cache
+            Change.setCheckpointPolicy(CheckpointPolicy.DISABLED);
+            check.accept(cache);
+        } finally {
+            Change.setResolutionCache(previous);
+            Change.setCheckpointPolicy(policy);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that applying Changes in place during resolution never modifies an array visible outside of it: the array
+ * given by the caller, the array associated to the origin, checkpoints and cached results are all left unchanged, and
+ * every returned array belongs to the caller.
+ * @author Eliot McNab
+ */
+public class ResolutionOwnershipCheck {
+
+    // number of changes in the chains, long enough to go through several checkpoints
+    private static final int GENERATIONS = 12;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        final Integer[] array = randomArray(5_000, 1_000, 5_000);
+
+        check("applyTo leaves the caller's array unchanged", () -> {
+            final Integer[] input = array.clone();
+            final List<SingleThreadChange<Integer>> chain = singleThreadChain(array);
+            final Change<Integer> last = chain.get(chain.size() - 1);
+
+            assertEquals(expected(array, GENERATIONS), last.applyTo(input));
+            assertEquals(array, input);
+            assertEquals(expected(array, GENERATIONS), last.compile().applyTo(input));
+            assertEquals(array, input);
+            assertEquals(expected(array, GENERATIONS), parallelChain(array).applyTo(input));
+            assertEquals(array, input);
+        });
+
+        check("toArray leaves the origin array unchanged", () -> {
+            final Integer[] origin = array.clone();
+            final List<SingleThreadChange<Integer>> chain = singleThreadChain(origin);
+
+            assertEquals(expected(array, GENERATIONS), chain.get(chain.size() - 1).toArray());
+            assertEquals(array, origin);
+            assertEquals(expected(array, GENERATIONS), parallelChain(origin).toArray());
+            assertEquals(array, origin);
+        });
+
+        check("returned arrays belong to the caller", () -> {
+            final List<SingleThreadChange<Integer>> chain = singleThreadChain(array);
+            final Change<Integer> last = chain.get(chain.size() - 1);
+
+            Arrays.fill(last.toArray(), -1);
+            assertEquals(expected(array, GENERATIONS), last.toArray());
+        });
+
+        check("checkpoints are left unchanged", () -> {
+            final CheckpointPolicy policy = Change.getCheckpointPolicy();
+            try {
+                Change.setCheckpointPolicy(CheckpointPolicy.every(4));
+                final List<SingleThreadChange<Integer>> chain = singleThreadChain(array);
+
+                // resolving the last change checkpoints generations 4 and 8, then keeps applying changes in place
+                Arrays.fill(chain.get(GENERATIONS).toArray(), -1);
+                assertTrue(chain.get(4).isCheckpointed() && chain.get(8).isCheckpointed(), "no checkpoint taken");
+
+                for (int generation = 0; generation <= GENERATIONS; generation++) {
+                    assertEquals(expected(array, generation), chain.get(generation).toArray());
+                }
+            } finally {
+                Change.setCheckpointPolicy(policy);
+            }
+        });
+
+        check("cached results are left unchanged", () -> {
+            final ResolutionCache previous = Change.getResolutionCache();
+            try {
+                final ResolutionCache cache = new ResolutionCache(1 << 24);
+                Change.setResolutionCache(cache);
+                final List<SingleThreadChange<Integer>> chain = singleThreadChain(array);
+
+                // every resolution starts from the result cached for the previous generation
+                for (int generation = 0; generation <= GENERATIONS; generation++) {
+                    Arrays.fill(chain.get(generation).toArray(), -1);
+                }
+                assertEquals(GENERATIONS, (int) cache.getHitCount());
+
+                for (int generation = 0; generation <= GENERATIONS; generation++) {
+                    assertEquals(expected(array, generation), chain.get(generation).toArray());
+                }
+            } finally {
+                Change.setResolutionCache(previous);
+            }
+        });
+    }
+
+    /**
+     * Builds a chain alternating sorts and element-wise changes, all of which can be applied in place
+     * @return (List< SingleThreadChange< Integer > >): every change of the chain, by generation
+     */
+    private static List<SingleThreadChange<Integer>> singleThreadChain(final Integer[] array) {
+        final List<SingleThreadChange<Integer>> chain = new ArrayList<>();
+        SingleThreadChange<Integer> change = Change.of(array);
+        chain.add(change);
+
+        for (int generation = 1; generation <= GENERATIONS; generation++) {
+            change = switch (generation % 3) {
+                case 0  -> change.forEach(i -> i + 1);
+                case 1  -> change.sorted(Comparator.reverseOrder());
+                default -> change.replaceAll(i -> i % 5 == 0, 7);
+            };
+            chain.add(change);
+        }
+
+        return chain;
+    }
+
+    private static ParallelChange<Integer> parallelChain(final Integer[] array) {
+        ParallelChange<Integer> change = Change.of(array).parallel().setCoreCount(3);
+        for (int generation = 1; generation <= GENERATIONS; generation++) {
+            change = switch (generation % 3) {
+                case 0  -> change.forEach(i -> i + 1);
+                case 1  -> change.sorted(Comparator.reverseOrder());
+                default -> change.replaceAll(i -> i % 5 == 0, 7);
+            };
+        }
+        return change;
+    }
+
+    /**
+     * @return (Integer[]): the array resulting from the given number of generations of the chains, computed directly
+     */
+    private static Integer[] expected(
+            final Integer[] array,
+            final int generations
+    ) {
+        Stream<Integer> stream = Arrays.stream(array);
+        for (int generation = 1; generation <= generations; generation++) {
+            stream = switch (generation % 3) {
+                case 0  -> stream.map(i -> i + 1);
+                case 1  -> stream.sorted(Comparator.reverseOrder());
+                default -> stream.map(i -> i % 5 == 0 ? 7 : i);
+            };
+        }
+        return stream.toArray(Integer[]::new);
+    }
+}
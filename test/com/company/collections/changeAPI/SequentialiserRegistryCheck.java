@@ -0,0 +1,143 @@
+package com.company.collections.changeAPI;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+
+import java.util.function.Function;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that consecutive Changes of a family registered in the {@link SequentialiserRegistry} resolve to the same
+ * array once sequentialised, fused or pipelined as when every Change is applied to the array produced by the previous
+ * one.
+ * @author Eliot McNab
+ */
+public class SequentialiserRegistryCheck {
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        final Integer[] array = randomArray(20_000, 100, 20_000);
+
+        check("sequentialised replaceAll(predicate, value) matches one change at a time", () -> {
+            assertSameAsOneByOne(
+                    array,
+                    SequentialiserRegistryCheck::singleThread,
+                    change -> change.replaceAll(i -> i % 2 == 0, 4),
+                    change -> change.replaceAll(i -> i == 4, 9),
+                    change -> change.replaceAll(i -> i > 50, 1),
+                    change -> change.replaceAll(i -> i == 1, 4)
+            );
+            assertSameAsOneByOne(
+                    array,
+                    SequentialiserRegistryCheck::parallel,
+                    change -> change.replaceAll(i -> i % 2 == 0, 4),
+                    change -> change.replaceAll(i -> i == 4, 9),
+                    change -> change.replaceAll(i -> i > 50, 1),
+                    change -> change.replaceAll(i -> i == 1, 4)
+            );
+        });
+
+        check("sequentialised removeAt matches one change at a time", () -> assertSameAsOneByOne(
+                array,
+                SequentialiserRegistryCheck::singleThread,
+                change -> change.removeAt(0, 5, 5, 19_999, 30_000, -1),
+                change -> change.removeAt(0, 4, 5, 19_996),
+                change -> change.removeAt(19_993, 3, 1, 0)
+        ));
+
+        check("sequentialised parallel replaceAll(values) matches one change at a time", () -> assertSameAsOneByOne(
+                array,
+                SequentialiserRegistryCheck::parallel,
+                change -> change.replaceAll(1, 2, 3, 4),
+                change -> change.replaceAll(2, 5, 4, 1, 60, 61),
+                change -> change.replaceAll(1, 3, 61, 62)
+        ));
+
+        check("sequentialised parallel retainFirst matches one change at a time", () -> assertSameAsOneByOne(
+                array,
+                SequentialiserRegistryCheck::parallel,
+                change -> change.retainFirst(1, 2, 3, 5, 8, 13, 21, 34, 55, 1_000),
+                change -> change.retainFirst(34, 3, 13, 2, 99),
+                change -> change.retainFirst(2, 13, 34, 3)
+        ));
+
+        check("sequentialised replaceFirst and replaceLast match one change at a time", () -> {
+            assertSameAsOneByOne(
+                    array,
+                    SequentialiserRegistryCheck::singleThread,
+                    change -> change.replaceFirst(i -> i == 7, 8),
+                    change -> change.replaceFirst(i -> i == 8, 9),
+                    change -> change.replaceFirst(i -> i > 90, 7)
+            );
+            assertSameAsOneByOne(
+                    array,
+                    SequentialiserRegistryCheck::parallel,
+                    change -> change.replaceFirst(i -> i == 7, 8),
+                    change -> change.replaceFirst(i -> i == 8, 9),
+                    change -> change.replaceFirst(i -> i > 90, 7)
+            );
+            assertSameAsOneByOne(
+                    array,
+                    SequentialiserRegistryCheck::parallel,
+                    change -> change.replaceLast(i -> i == 7, 8),
+                    change -> change.replaceLast(i -> i == 8, 9),
+                    change -> change.replaceLast(i -> i > 90, 7)
+            );
+        });
+    }
+
+    /**
+     * Checks that a chain resolves to the same array when its Changes are applied one at a time, when they are
+     * sequentialised, and when the chain is rewritten by {@link ChainRewriter#DEFAULT}
+     */
+    @SafeVarargs
+    private static <C extends Change<Integer>> void assertSameAsOneByOne(
+            final Integer[] array,
+            final Function<Integer[], C> origin,
+            final Function<C, C>... steps
+    ) {
+        Integer[] expected = array;
+        for (Function<C, C> step : steps) expected = step.apply(origin.apply(expected)).toArray();
+
+        final ChainRewriter rewriter = Change.getChainRewriter();
+        try {
+            Change.setChainRewriter(null);
+            final C sequentialised = chain(array, origin, steps);
+            assertEquals(expected, sequentialised.toArray());
+            assertTrue(
+                    ChainRewriterCheck.hasStage(sequentialised, ResolutionPlan.Kind.SEQUENTIALISED),
+                    "changes were not sequentialised"
+            );
+
+            Change.setChainRewriter(ChainRewriter.DEFAULT);
+            assertEquals(expected, chain(array, origin, steps).toArray());
+        } finally {
+            Change.setChainRewriter(rewriter);
+        }
+    }
+
+    @SafeVarargs
+    private static <C extends Change<Integer>> C chain(
+            final Integer[] array,
+            final Function<Integer[], C> origin,
+            final Function<C, C>... steps
+    ) {
+        C change = origin.apply(array);
+        for (Function<C, C> step : steps) change = step.apply(change);
+        return change;
+    }
+
+    private static SingleThreadChange<Integer> singleThread(final Integer[] array) {
+        return Change.of(array);
+    }
+
+    private static ParallelChange<Integer> parallel(final Integer[] array) {
+        return Change.of(array).parallel().setCoreCount(3);
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.collections.changeAPI.changes.parallel;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.ResolutionPlan;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that runs of element-wise parallel Changes pushed chunk by chunk through a {@link ParallelPipeline} give the
+ * same arrays as the single-thread Changes, whatever the length of the array relative to the chunk size and the
+ * number of threads.
+ * @author Eliot McNab
+ */
+public class ParallelPipelineCheck {
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        final Object[] retained = IntStream.range(-1, 120).boxed().toArray();
+
+        check("ParallelPipeline matches single-thread filters and maps", () -> assertSameAsSingleThread(
+                change -> change
+                        .forEach(i -> i + 1)
+                        .removeIf(i -> i % 3 == 0)
+                        .replaceAll(i -> i > 150, -1)
+                        .retainAll(retained)
+                        .removeAll(5, 7, 11)
+                        .replaceAll(2, 4000),
+                change -> change
+                        .forEach(i -> i + 1)
+                        .removeIf(i -> i % 3 == 0)
+                        .replaceAll(i -> i > 150, -1)
+                        .retainAll(retained)
+                        .removeAll(5, 7, 11)
+                        .replaceAll(2, 4000)
+        ));
+
+        check("ParallelPipeline matches single-thread maps", () -> assertSameAsSingleThread(
+                change -> change.forEach(i -> i * 2).replaceAll(i -> i > 100, 0).replaceAll(i -> i == 0, 1),
+                change -> change.forEach(i -> i * 2).replaceAll(i -> i > 100, 0).replaceAll(i -> i == 0, 1)
+        ));
+
+        check("ParallelPipeline streams the same elements", () -> {
+            for (int length : LENGTHS) {
+                final Integer[] array = randomArray(length, 200, length);
+                final Change<Integer> pipelined = Change.of(array)
+                        .parallel()
+                        .forEach(i -> i + 1)
+                        .removeIf(i -> i % 3 == 0);
+                assertEquals(
+                        Change.of(array).forEach(i -> i + 1).removeIf(i -> i % 3 == 0).toArray(),
+                        pipelined.stream().toArray(Integer[]::new)
+                );
+            }
+        });
+
+        check("ParallelPipeline flattens long runs of changes", () -> {
+            final Integer[] array = randomArray(ParallelPipeline.CHUNK_SIZE * 4, 200, 4);
+            ParallelChange<Integer> pipelined = Change.of(array).parallel().setCoreCount(4);
+            SingleThreadChange<Integer> expected = Change.of(array);
+            for (int i = 0; i < 2_000; i++) {
+                final int offset = i;
+                pipelined = pipelined.forEach(e -> e + offset % 5).removeIf(e -> e % 997 == offset);
+                expected = expected.forEach(e -> e + offset % 5).removeIf(e -> e % 997 == offset);
+            }
+
+            assertEquals(expected.toArray(), pipelined.toArray());
+            final long pipelines = pipelined.explain().getStages().stream()
+                    .filter(stage -> stage.getKind() == ResolutionPlan.Kind.PIPELINED)
+                    .count();
+            assertEquals(1L, pipelines);
+        });
+    }
+
+    /**
+     * Checks that a chain of parallel Changes resolves to the same array as the same chain of single-thread Changes,
+     * and that it was pipelined
+     */
+    private static void assertSameAsSingleThread(
+            final Function<SingleThreadChange<Integer>, Change<Integer>> singleThread,
+            final Function<ParallelChange<Integer>, Change<Integer>> parallel
+    ) {
+        for (int length : LENGTHS) {
+            final Integer[] array = randomArray(length, 200, length);
+            final Integer[] expected = singleThread.apply(Change.of(array)).toArray();
+
+            for (int threadCount : THREAD_COUNTS) {
+                final Change<Integer> pipelined = parallel.apply(Change.of(array).parallel().setCoreCount(threadCount));
+                assertEquals(expected, pipelined.toArray());
+                assertTrue(
+                        pipelined.explain().getStages().stream()
+                                .anyMatch(stage -> stage.getKind() == ResolutionPlan.Kind.PIPELINED),
+                        "parallel changes were not pipelined"
+                );
+            }
+        }
+    }
+}
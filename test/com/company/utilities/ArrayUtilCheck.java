@@ -0,0 +1,220 @@
+package com.company.utilities;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.operations.Operator;
+import com.company.collections.changeAPI.changes.operations.operators.DoubleOperator;
+import com.company.collections.changeAPI.changes.parallel.ParallelChange;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that the parallel algorithms of {@link ArrayUtil} give the same results as their sequential counterparts,
+ * whatever the number of threads they are run with.
+ * @author Eliot McNab
+ */
+public class ArrayUtilCheck {
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("parallelReduce matches a left to right reduction", () -> {
+            final Random random = new Random(1);
+            for (int length : LENGTHS) {
+                final Integer[] array = new Integer[length];
+                for (int i = 0; i < length; i++) array[i] = random.nextInt();
+
+                for (int threadCount : THREAD_COUNTS) {
+                    // integer addition wraps around, so any grouping gives the exact same sum
+                    final Integer expected = length == 0 ? null : Change.of(array).sumOf();
+                    assertEquals(expected, ArrayUtil.parallelReduce(array, Integer::sum, threadCount));
+                    assertEquals(expected, parallel(array, threadCount).sumOf());
+                }
+            }
+        });
+
+        check("parallelReduce does not depend on the number of threads", () -> {
+            // floating point addition declared associative, whose result depends on how elements are grouped
+            final Operator<Double> operator = new DoubleOperator() {
+                @Override
+                public boolean isAssociative(final Operator.OPERATIONS operation) {
+                    return operation == Operator.OPERATIONS.ADD;
+                }
+            };
+
+            final Random random = new Random(2);
+            for (int length : LENGTHS) {
+                if (length == 0) continue;
+                final Double[] array = new Double[length];
+                for (int i = 0; i < length; i++) array[i] = random.nextDouble() * Math.pow(10, random.nextInt(12));
+
+                final Set<Double> sums = new HashSet<>();
+                for (int threadCount = 1; threadCount <= 8; threadCount++) {
+                    sums.add(parallel(array, threadCount).sumOf(operator));
+                    sums.add(ArrayUtil.parallelReduce(array, Double::sum, threadCount));
+                }
+                assertEquals(1, sums.size());
+            }
+        });
+        check("parallelQuickFindFirst matches quickFindFirst", () -> {
+            final Integer[] toFind = {3, 7, 19, 1500, -1, 3};
+            for (int length : LENGTHS) {
+                // few distinct values so that targets occur in many partitions, and many so that some never occur
+                for (int bound : new int[]{20, 2000}) {
+                    final Integer[] array = randomArray(length, bound, length + bound);
+                    for (int threadCount : THREAD_COUNTS) {
+                        assertEquals(
+                                ArrayUtil.quickFindFirst(array, toFind.clone()),
+                                ArrayUtil.parallelQuickFindFirst(array, toFind.clone(), threadCount)
+                        );
+                    }
+                }
+            }
+        });
+
+        check("parallelFindOccurrences finds the first and last occurrences", () -> {
+            final int[] targets = {3, 7, 19, 1500};
+            for (int length : LENGTHS) {
+                final Integer[] array = randomArray(length, 2000, length);
+                for (boolean last : new boolean[]{false, true}) {
+                    final int[] expected = new int[targets.length];
+                    for (int t = 0; t < targets.length; t++) {
+                        expected[t] = -1;
+                        for (int i = 0; i < length; i++) {
+                            if (array[i] == targets[t] && (last || expected[t] == -1)) expected[t] = i;
+                        }
+                    }
+
+                    for (int threadCount : THREAD_COUNTS) {
+                        assertEquals(expected, ArrayUtil.parallelFindOccurrences(
+                                array,
+                                e -> indexOf(targets, e),
+                                targets.length,
+                                last,
+                                threadCount
+                        ));
+                    }
+                }
+            }
+        });
+
+        check("parallel replaceFirst and replaceLast match single-thread ones", () -> {
+            for (int length : LENGTHS) {
+                final Integer[] array = randomArray(length, 20, length);
+                for (int threadCount : THREAD_COUNTS) {
+                    assertEquals(
+                            Change.of(array).replaceFirst(3, -3, 7, -7).toArray(),
+                            parallel(array, threadCount).replaceFirst(3, -3, 7, -7).toArray()
+                    );
+                    assertEquals(
+                            Change.of(array).replaceLast(3, -3, 7, -7).toArray(),
+                            parallel(array, threadCount).replaceLast(3, -3, 7, -7).toArray()
+                    );
+                }
+            }
+        });
+        check("parallelCompact keeps the accepted elements in order", () -> {
+            for (int length : LENGTHS) {
+                final Integer[] array = randomArray(length, 50, length);
+                final int[] ints = new int[length];
+                for (int i = 0; i < length; i++) ints[i] = array[i];
+
+                for (int threadCount : THREAD_COUNTS) {
+                    // the predicate is called exactly once per index
+                    final AtomicIntegerArray calls = new AtomicIntegerArray(length);
+                    final Integer[] kept = ArrayUtil.parallelCompact(array, i -> {
+                        calls.incrementAndGet(i);
+                        return array[i] % 3 == 0;
+                    }, threadCount);
+                    assertEquals(Arrays.stream(array).filter(e -> e % 3 == 0).toArray(Integer[]::new), kept);
+                    for (int i = 0; i < length; i++) assertEquals(1, calls.get(i));
+
+                    assertEquals(
+                            Arrays.stream(ints).filter(e -> e % 3 != 0).toArray(),
+                            ArrayUtil.parallelCompact(ints, i -> ints[i] % 3 != 0, threadCount)
+                    );
+                }
+            }
+        });
+
+        check("parallel filtering changes match single-thread ones", () -> {
+            final List<Integer> values = List.of(3, 7, 11, 49);
+            for (int length : LENGTHS) {
+                final Integer[] array = randomArray(length, 50, length);
+                final int[] indexes = length == 0
+                        ? new int[]{-1, 5}
+                        : new int[]{0, length / 2, length - 1, length / 2, -3, length + 4, length / 3};
+
+                for (int threadCount : THREAD_COUNTS) {
+                    assertEquals(
+                            Arrays.stream(array).filter(e -> e % 3 == 0).toArray(Integer[]::new),
+                            ArrayUtil.parallelRetainIf(array, e -> e % 3 == 0, threadCount)
+                    );
+                    assertEquals(
+                            Change.of(array).removeIf(e -> e % 3 == 0).toArray(),
+                            parallel(array, threadCount).removeIf(e -> e % 3 == 0).toArray()
+                    );
+                    assertEquals(
+                            Change.of(array).removeAll(values).toArray(),
+                            parallel(array, threadCount).removeAll(values.toArray()).toArray()
+                    );
+                    assertEquals(
+                            Change.of(array).retainAll(values).toArray(),
+                            parallel(array, threadCount).retainAll(values).toArray()
+                    );
+                    assertEquals(
+                            Change.of(array).removeAt(indexes.clone()).toArray(),
+                            parallel(array, threadCount).removeAt(indexes.clone()).toArray()
+                    );
+                    assertEquals(
+                            new LinkedHashSet<>(Arrays.asList(array)).toArray(new Integer[0]),
+                            parallel(array, threadCount).unique().toArray()
+                    );
+                }
+            }
+        });
+
+        check("removeAt leaves the given indexes unchanged", () -> {
+            final Integer[] array = randomArray(100, 50, 4);
+            final int[] indexes = {40, 3, 97, 3, -1, 12, 250};
+            final Integer[] expected = ArrayUtil.removeAt(array, indexes.clone());
+
+            final Change<Integer> change = Change.of(array).forEach(i -> i + 1).removeAt(indexes);
+            final Integer[][] arrays = {array, array, array, array, array, array, array, array};
+            final Integer[][] results = change.compile().applyToAll(arrays, 4);
+            assertEquals(new int[]{40, 3, 97, 3, -1, 12, 250}, indexes);
+            for (Integer[] result : results) {
+                assertEquals(Arrays.stream(expected).map(i -> i + 1).toArray(Integer[]::new), result);
+            }
+            assertEquals(expected.length, change.size());
+        });
+    }
+
+    private static <E> ParallelChange<E> parallel(
+            final E[] array,
+            final int threadCount
+    ) {
+        return (ParallelChange<E>) Change.of(array).parallel().setCoreCount(threadCount);
+    }
+
+    private static int indexOf(
+            final int[] targets,
+            final int value
+    ) {
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == value) return i;
+        }
+        return -1;
+    }
+}
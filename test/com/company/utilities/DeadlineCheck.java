@@ -0,0 +1,245 @@
+package com.company.utilities;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.Change;
+import com.company.collections.changeAPI.changes.singlethread.SingleThreadChange;
+import com.company.collections.changeAPI.changes.singlethread.information.ChangeInformation;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that work bound by a {@link Deadline} stops promptly once it expires or is cancelled, including when every
+ * element goes through a user function, and that work finishing in time is left unchanged. The user functions cancel
+ * the work themselves after a fixed number of calls, and promptness is measured by the number of calls made once the
+ * work has been cancelled rather than by the time it takes to stop.
+ * @author Eliot McNab
+ */
+public class DeadlineCheck {
+
+    // number of calls to the user function after which the work is cancelled
+    private static final long CANCEL_AFTER = 1_000;
+
+    // calls allowed once the work is cancelled, one per thread already running the user function at that time, well
+    // under the CHECK_INTERVAL of loops which do not check the Deadline on every iteration
+    private static final long MAX_CALLS_AFTER_CANCEL = 64;
+
+    // time after which an asynchronous query which was not stopped is considered stuck
+    private static final long STUCK_SECONDS = 30;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("Deadline stops a forEach promptly", () -> assertStopsPromptly(
+                calls -> Change.of(range(20_000)).forEach(counted(calls))
+        ));
+
+        check("Deadline stops fused changes promptly", () -> assertStopsPromptly(calls -> Change.of(range(20_000))
+                .forEach(counted(calls))
+                .retainIf(i -> i % 2 == 0)
+                .replaceAll(i -> i > 10, -1)
+        ));
+
+        check("Deadline stops a parallel pipeline promptly", () -> assertStopsPromptly(calls -> Change.of(range(80_000))
+                .parallel()
+                .setCoreCount(4)
+                .forEach(counted(calls))
+                .removeIf(i -> i % 3 == 0)
+        ));
+
+        check("Deadline stops replaceFirst and replaceLast promptly", () -> {
+            assertStopsPromptly(calls -> Change.of(range(20_000)).replaceFirst(never(calls), -1));
+            assertStopsPromptly(calls -> Change.of(range(20_000)).replaceLast(never(calls), -1));
+            assertStopsPromptly(calls -> Change.of(range(20_000))
+                    .replaceFirst(never(calls), -1)
+                    .replaceFirst(never(calls), -2));
+            assertStopsPromptly(calls -> Change.of(range(20_000))
+                    .replaceLast(never(calls), -1)
+                    .replaceLast(never(calls), -2));
+        });
+
+        check("Deadline stops parallel replaceFirst and replaceLast promptly", () -> {
+            assertStopsPromptly(calls -> Change.of(range(80_000))
+                    .parallel()
+                    .setCoreCount(4)
+                    .replaceFirst(never(calls), -1));
+            assertStopsPromptly(calls -> Change.of(range(80_000))
+                    .parallel()
+                    .setCoreCount(4)
+                    .replaceLast(never(calls), -1));
+        });
+
+        check("Deadline stops limited changes promptly", () -> {
+            // limited changes pull elements through a stream instead of resolving arrays
+            assertStopsPromptly(calls -> Change.of(range(20_000)).forEach(counted(calls)).limit(15_000));
+            assertStopsPromptly(calls -> Change.of(range(20_000)).removeIf(never(calls)).limit(15_000));
+        });
+
+        check("Deadline leaves work finishing in time unchanged", () -> {
+            final Integer[] array = range(10_000);
+            final Change<Integer> change = Change.of(array).parallel().forEach(i -> i * 2).removeIf(i -> i % 3 == 0);
+            assertEquals(
+                    Change.of(array).forEach(i -> i * 2).removeIf(i -> i % 3 == 0).toArray(),
+                    change.toArray(Deadline.after(Duration.ofMinutes(1)))
+            );
+        });
+
+        check("Deadline already expired rejects work", () -> {
+            final Change<Integer> change = Change.of(range(100)).forEach(i -> i + 1);
+            assertThrows(CancellationException.class, () -> change.toArray(Deadline.after(-5, TimeUnit.SECONDS)));
+
+            final Deadline outer = Deadline.cancellable();
+            outer.cancel();
+            assertThrows(CancellationException.class, () -> Deadline.callWith(
+                    outer,
+                    () -> change.toArray(Deadline.after(1, TimeUnit.MINUTES))
+            ));
+            assertTrue(Deadline.current() == null, "deadline leaked to the calling thread");
+        });
+
+        check("Cancelling an asynchronous query stops it", () -> {
+            assertCancelStops(change -> change.toArrayAsync());
+            assertCancelStops(change -> change.countMatchesAsync(i -> i % 2 == 0));
+            assertCancelStops(change -> change.getInformationAsync(ChangeInformation.sum()));
+        });
+
+        check("Asynchronous queries are bound by the caller's deadline", () -> {
+            final Deadline outer = Deadline.cancellable();
+            final CountedCalls calls = new CountedCalls(outer::cancel);
+            final CompletableFuture<Integer[]> future = Deadline.callWith(
+                    outer,
+                    () -> Change.of(range(20_000)).forEach(counted(calls)).toArrayAsync()
+            );
+
+            final Throwable failure = assertCompletes(STUCK_SECONDS, () -> future.handle((result, t) -> t).get());
+            assertTrue(
+                    failure != null && failure.getCause() instanceof CancellationException,
+                    "query not cancelled with the caller: " + failure
+            );
+            assertStoppedPromptly(calls);
+        });
+
+        check("Asynchronous queries run their parallel tasks on the caller's executor", () -> {
+            final ExecutorService pool = Executors.newFixedThreadPool(2);
+            final ExecutorService async = Executors.newSingleThreadExecutor();
+            try {
+                final AtomicLong submitted = new AtomicLong();
+                final Executor scoped = task -> {
+                    submitted.incrementAndGet();
+                    pool.execute(task);
+                };
+
+                final Integer[] array = range(50_000);
+                final CompletableFuture<Integer[]> future = ThreadUtil.callWith(scoped, () -> Change.of(array)
+                        .parallel()
+                        .setCoreCount(4)
+                        .forEach(i -> i + 1)
+                        .toArrayAsync(async));
+
+                assertEquals(Change.of(array).forEach(i -> i + 1).toArray(), future.join());
+                assertTrue(submitted.get() > 0, "no task was run on the caller's executor");
+            } finally {
+                pool.shutdownNow();
+                async.shutdownNow();
+            }
+        });
+    }
+
+    // ====================================
+    //             ASSERTIONS
+    // ====================================
+
+    /**
+     * Resolves a change bound by a Deadline its user function cancels, and checks that the resolution fails and stops
+     * calling the user function promptly
+     */
+    private static void assertStopsPromptly(final Function<CountedCalls, Change<Integer>> change) {
+        final Deadline deadline = Deadline.cancellable();
+        final CountedCalls calls = new CountedCalls(deadline::cancel);
+
+        assertThrows(CancellationException.class, () -> change.apply(calls).toArray(deadline));
+        assertStoppedPromptly(calls);
+    }
+
+    /**
+     * Runs an asynchronous query whose user function cancels the returned future, and checks that the query stops
+     * calling the user function promptly
+     */
+    private static void assertCancelStops(final Function<SingleThreadChange<Integer>, CompletableFuture<?>> query) {
+        final CompletableFuture<CompletableFuture<?>> started = new CompletableFuture<>();
+        final CountedCalls calls = new CountedCalls(() -> started.join().cancel(true));
+
+        // the query runs on the scoped executor, which only terminates once the query has stopped
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            started.complete(ThreadUtil.callWith(
+                    executor,
+                    () -> query.apply(Change.of(range(20_000)).forEach(counted(calls)))
+            ));
+            executor.shutdown();
+            assertCompletes(STUCK_SECONDS, () -> executor.awaitTermination(1, TimeUnit.DAYS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(started.join().isCancelled(), "query was not cancelled");
+        assertStoppedPromptly(calls);
+    }
+
+    private static void assertStoppedPromptly(final CountedCalls calls) {
+        final long afterCancel = calls.count.get() - CANCEL_AFTER;
+        assertTrue(afterCancel >= 0, "work finished before being cancelled");
+        assertTrue(afterCancel <= MAX_CALLS_AFTER_CANCEL, afterCancel + " calls after the work was cancelled");
+    }
+
+    // ====================================
+    //           USER FUNCTIONS
+    // ====================================
+
+    /**
+     * Counts the calls to a user function, cancelling the work running it once {@link #CANCEL_AFTER} calls were made
+     */
+    private static final class CountedCalls {
+
+        private final AtomicLong count = new AtomicLong();
+        private final Runnable cancel;
+
+        private CountedCalls(final Runnable cancel) {
+            this.cancel = cancel;
+        }
+
+        private void increment() {
+            if (count.incrementAndGet() == CANCEL_AFTER) cancel.run();
+        }
+    }
+
+    private static Function<Integer, Integer> counted(final CountedCalls calls) {
+        return i -> {
+            calls.increment();
+            return i;
+        };
+    }
+
+    /**
+     * @return (Predicate< Integer >): a counted filter matching no element, so that every element goes through it
+     */
+    private static Predicate<Integer> never(final CountedCalls calls) {
+        return i -> {
+            calls.increment();
+            return false;
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.company.utilities;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.Change;
+import com.company.utilities.comparators.ObjectComparator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that {@link RadixSort} orders and deduplicates boxed numbers exactly like {@link Arrays#sort(Object[])} and
+ * {@link ArrayUtil#retainDistinctHashed(Object[])}, including signed zeros, infinities and NaNs, and that it leaves
+ * the arrays it cannot handle to the comparison-based algorithms.
+ * @author Eliot McNab
+ */
+public class RadixSortCheck {
+
+    // long enough to be sorted by RadixSort, and not a multiple of the number of threads
+    private static final int LENGTH = RadixSort.MIN_LENGTH * 5 + 11;
+
+    // values whose order differs between their bits and their numerical value, or which are equal numerically
+    private static final double[] SPECIAL_VALUES = {
+            Double.NaN,
+            Double.longBitsToDouble(0x7ff8000000000123L),
+            -0.0,
+            0.0,
+            Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY,
+            Double.MIN_VALUE,
+            -Double.MAX_VALUE
+    };
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        final Random random = new Random(3);
+
+        check("RadixSort matches Arrays.sort on integers", () -> {
+            assertSameAsComparison(array(Integer[]::new, i -> random.nextInt(1000) - 500));
+            assertSameAsComparison(array(Integer[]::new, i -> random.nextInt()));
+            assertSameAsComparison(array(Long[]::new, i -> random.nextLong() >> random.nextInt(64)));
+            assertSameAsComparison(array(Short[]::new, i -> (short) random.nextInt()));
+            assertSameAsComparison(array(Byte[]::new, i -> (byte) random.nextInt()));
+            assertSameAsComparison(array(Character[]::new, i -> (char) random.nextInt()));
+        });
+
+        check("RadixSort matches Arrays.sort on signed zeros and NaNs", () -> {
+            assertSameAsComparison(array(Double[]::new, i -> i % 5 == 0
+                    ? SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]
+                    : random.nextGaussian() * 100));
+            assertSameAsComparison(array(Float[]::new, i -> i % 5 == 0
+                    ? (float) SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]
+                    : (float) random.nextGaussian()));
+        });
+
+        check("RadixSort leaves unsupported arrays unchanged", () -> {
+            final Integer[] small = {3, 1, 2};
+            assertTrue(!RadixSort.sort(small, 2), "sorted an array shorter than MIN_LENGTH");
+            assertEquals(new Integer[]{3, 1, 2}, small);
+
+            final Integer[] withNull = array(Integer[]::new, i -> i);
+            withNull[5] = null;
+            assertTrue(!RadixSort.sort(withNull, 2), "sorted an array containing null");
+            assertTrue(RadixSort.retainDistinct(withNull, 2) == null, "deduplicated an array containing null");
+
+            assertTrue(RadixSort.isNaturalOrder(Comparator.naturalOrder()), "natural order not recognised");
+            assertTrue(RadixSort.isNaturalOrder(new ObjectComparator()), "ObjectComparator not recognised");
+            assertTrue(!RadixSort.isNaturalOrder(Comparator.reverseOrder()), "reverse order taken as natural order");
+        });
+
+        check("sorted and unique changes match comparison sorting", () -> {
+            final Double[] array = array(Double[]::new, i -> SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]);
+            final Double[] sorted = array.clone();
+            Arrays.sort(sorted);
+
+            assertEquals(sorted, Change.of(array).sorted().toArray());
+            assertEquals(sorted, Change.of(array).parallel().sorted().toArray());
+            assertEquals(
+                    ArrayUtil.retainDistinctHashed(array),
+                    Change.of(array).unique(Comparator.naturalOrder()).toArray()
+            );
+        });
+    }
+
+    /**
+     * Checks that RadixSort sorts the array exactly like Arrays.sort, moving the same instances to the same positions,
+     * and deduplicates it like a hash set
+     */
+    private static <T> void assertSameAsComparison(final T[] array) {
+        final T[] expected = array.clone();
+        Arrays.sort(expected);
+
+        final T[] actual = array.clone();
+        assertTrue(RadixSort.sort(actual, 4), "RadixSort did not sort " + array.getClass().getSimpleName());
+        assertSameInstances(expected, actual);
+
+        final T[] distinct = RadixSort.retainDistinct(array, 3);
+        assertTrue(distinct != null, "RadixSort did not deduplicate " + array.getClass().getSimpleName());
+        assertSameInstances(ArrayUtil.retainDistinctHashed(array), distinct);
+    }
+
+    private static void assertSameInstances(
+            final Object[] expected,
+            final Object[] actual
+    ) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != actual[i]) {
+                throw new AssertionError("expected " + expected[i] + " at index " + i + " but was " + actual[i]);
+            }
+        }
+    }
+
+    private static <T> T[] array(
+            final IntFunction<T[]> constructor,
+            final IntFunction<T> element
+    ) {
+        final T[] array = constructor.apply(LENGTH);
+        for (int i = 0; i < LENGTH; i++) array[i] = element.apply(i);
+        return array;
+    }
+}
@@ -0,0 +1,124 @@
+package com.company.utilities;
+
+import com.company.Checks;
+import com.company.collections.changeAPI.Change;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.company.Checks.*;
+
+/**
+ * Checks that {@link ThreadUtil#runAll(Runnable[])} runs every task exactly once and never waits on a task stuck in the
+ * queue of a saturated {@link java.util.concurrent.Executor}, including when parallel work is nested inside tasks of
+ * the same bounded executor.
+ * @author Eliot McNab
+ */
+public class ThreadUtilCheck {
+
+    // time after which work run on a bounded executor is considered deadlocked
+    private static final long DEADLOCK_SECONDS = 30;
+
+    public static void main(String[] args) {
+        run();
+        Checks.report();
+    }
+
+    public static void run() {
+        check("runAll runs every task exactly once", () -> {
+            final ExecutorService pool = Executors.newFixedThreadPool(2);
+            try {
+                final AtomicIntegerArray runs = new AtomicIntegerArray(50);
+                final Runnable[] tasks = new Runnable[runs.length()];
+                for (int i = 0; i < tasks.length; i++) {
+                    final int task = i;
+                    tasks[i] = () -> runs.incrementAndGet(task);
+                }
+
+                ThreadUtil.callWith(pool, () -> {
+                    ThreadUtil.runAll(tasks);
+                    return null;
+                });
+                for (int i = 0; i < runs.length(); i++) assertEquals(1, runs.get(i));
+            } finally {
+                pool.shutdownNow();
+            }
+        });
+
+        check("runAll rethrows the failure of a task once every task finished", () -> {
+            final ExecutorService pool = Executors.newFixedThreadPool(2);
+            try {
+                final AtomicIntegerArray runs = new AtomicIntegerArray(8);
+                final Runnable[] tasks = new Runnable[runs.length()];
+                for (int i = 0; i < tasks.length; i++) {
+                    final int task = i;
+                    tasks[i] = () -> {
+                        runs.incrementAndGet(task);
+                        if (task == 2) throw new IllegalStateException("task failed");
+                    };
+                }
+
+                assertThrows(IllegalStateException.class, () -> ThreadUtil.callWith(pool, () -> {
+                    ThreadUtil.runAll(tasks);
+                    return null;
+                }));
+                for (int i = 0; i < runs.length(); i++) assertEquals(1, runs.get(i));
+            } finally {
+                pool.shutdownNow();
+            }
+        });
+
+        check("runAll runs the tasks an executor rejects on the calling thread", () -> {
+            final ExecutorService pool = Executors.newSingleThreadExecutor();
+            pool.shutdown();
+
+            final AtomicIntegerArray runs = new AtomicIntegerArray(4);
+            final Runnable[] tasks = new Runnable[runs.length()];
+            for (int i = 0; i < tasks.length; i++) {
+                final int task = i;
+                tasks[i] = () -> runs.incrementAndGet(task);
+            }
+
+            assertThrows(RejectedExecutionException.class, () -> pool.execute(() -> {}));
+            ThreadUtil.callWith(pool, () -> {
+                ThreadUtil.runAll(tasks);
+                return null;
+            });
+            for (int i = 0; i < runs.length(); i++) assertEquals(1, runs.get(i));
+        });
+
+        check("nested parallel work does not deadlock a bounded executor", () -> {
+            for (int threads = 1; threads <= 2; threads++) {
+                final ExecutorService pool = Executors.newFixedThreadPool(threads);
+                try {
+                    final Integer[] array = range(20_000);
+                    final Integer[] expected = Change.of(array).forEach(i -> i * 2).removeIf(i -> i % 3 == 0).toArray();
+
+                    // every task of the outer runAll resolves a parallel change, itself split into tasks of the pool
+                    final Integer[][] results = new Integer[8][];
+                    final Runnable[] tasks = new Runnable[results.length];
+                    for (int i = 0; i < tasks.length; i++) {
+                        final int task = i;
+                        tasks[i] = () -> results[task] = Change.of(array)
+                                .parallel()
+                                .setCoreCount(8)
+                                .forEach(e -> e * 2)
+                                .removeIf(e -> e % 3 == 0)
+                                .toArray();
+                    }
+
+                    // the outer runAll itself runs on a thread of the pool
+                    assertCompletes(DEADLOCK_SECONDS, () -> pool.submit(() -> ThreadUtil.callWith(pool, () -> {
+                        ThreadUtil.runAll(tasks);
+                        return null;
+                    })).get());
+                    for (Integer[] result : results) assertEquals(expected, result);
+                } finally {
+                    pool.shutdownNow();
+                }
+            }
+        });
+    }
+}